@@ -0,0 +1,34 @@
+package com.finops.api.benchmark;
+
+import com.finops.api.CostApiApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 벤치마크용으로 웹 서버 없이 local 프로필(H2) 애플리케이션을 띄운다.
+ * SQL 로그와 디버그 로그는 측정에 섞이지 않도록 끈다.
+ */
+final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start(Map<String, Object> properties) {
+        Map<String, Object> defaults = new HashMap<>();
+        defaults.put("spring.jpa.show-sql", false);
+        defaults.put("spring.jpa.properties.hibernate.format_sql", false);
+        defaults.put("logging.level.com.finops", "WARN");
+        defaults.put("logging.level.org.hibernate", "WARN");
+        // 각 실행이 새 메모리 DB 를 쓰도록 이름을 나눈다
+        defaults.put("spring.datasource.url", "jdbc:h2:mem:bench-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        defaults.putAll(properties);
+        return new SpringApplicationBuilder(CostApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(defaults)
+                .run();
+    }
+}
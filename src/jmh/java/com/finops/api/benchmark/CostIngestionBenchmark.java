@@ -0,0 +1,86 @@
+package com.finops.api.benchmark;
+
+import com.finops.api.dto.ingest.CostIngestRequest;
+import com.finops.api.dto.ingest.CostIngestResultDto;
+import com.finops.api.service.CostIngestionService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * POST /api/costs/ingest 한 번으로 1 년치(365 일 x services 개 서비스) 비용을 빈 DB 에 적재하는 시간.
+ * CostIngestionService.ingest 는 커밋 후 같은 스레드에서 누적합 인덱스와 월/주 롤업을 갱신하므로 측정값에 포함된다.
+ * <pre>
+ * ./gradlew jmh -Pjmh.includes=CostIngestionBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class CostIngestionBenchmark {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2024, 1, 1);
+    private static final int DAYS = 365;
+
+    @Param({"100", "500"})
+    public int services;
+
+    private ConfigurableApplicationContext context;
+    private CostIngestionService ingestionService;
+    private JdbcTemplate jdbcTemplate;
+    private CostIngestRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start(Map.of());
+        ingestionService = context.getBean(CostIngestionService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        request = yearOfCosts();
+    }
+
+    @Setup(Level.Invocation)
+    public void clearCosts() {
+        jdbcTemplate.update("DELETE FROM service_cost_weekly");
+        jdbcTemplate.update("DELETE FROM service_cost_monthly");
+        jdbcTemplate.update("DELETE FROM service_costs");
+        jdbcTemplate.update("DELETE FROM daily_costs");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CostIngestResultDto ingestYear() {
+        return ingestionService.ingest(request);
+    }
+
+    private CostIngestRequest yearOfCosts() {
+        SplittableRandom random = new SplittableRandom(42);
+        List<CostIngestRequest.DailyCostRow> daily = new ArrayList<>(DAYS);
+        List<CostIngestRequest.ServiceCostRow> serviceCosts = new ArrayList<>(DAYS * services);
+        for (int day = 0; day < DAYS; day++) {
+            LocalDate date = FIRST_DAY.plusDays(day);
+            BigDecimal total = BigDecimal.ZERO;
+            for (int service = 0; service < services; service++) {
+                BigDecimal cost = BigDecimal.valueOf(random.nextLong(1_000_000), 4);
+                serviceCosts.add(new CostIngestRequest.ServiceCostRow(date, "service-" + service, cost, "USD"));
+                total = total.add(cost);
+            }
+            daily.add(new CostIngestRequest.DailyCostRow(date, total, "USD"));
+        }
+        return new CostIngestRequest(daily, serviceCosts);
+    }
+}
@@ -0,0 +1,112 @@
+package com.finops.api.benchmark;
+
+import com.finops.api.aws.AwsAccount;
+import com.finops.api.aws.AwsScope;
+import com.finops.api.entity.AwsResource;
+import com.finops.api.service.ResourceSyncWriter;
+import com.finops.api.synthetic.SyntheticInventoryGenerator;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ResourceSyncWriter.upsert 의 초당 처리 행 수. SyntheticInventoryGenerator 로 한 범위에 resources 개를 만들어 한 번에 반영한다.
+ * <ul>
+ *     <li>INSERT: 빈 테이블에 전부 추가</li>
+ *     <li>UNCHANGED: 이미 같은 내용이 있는 상태에서 다시 동기화 (평상시 동기화)</li>
+ *     <li>CHANGED: 이미 있는 리소스의 state 가 모두 바뀐 동기화</li>
+ * </ul>
+ * 결과의 rows 항목(ops/s)이 초당 반영 행 수다.
+ * <pre>
+ * ./gradlew jmh -Pjmh.includes=ResourceSyncWriterBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class ResourceSyncWriterBenchmark {
+
+    private static final AwsScope SCOPE = new AwsScope(new AwsAccount("123456789012", "bench", null, null), "ap-northeast-2");
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Param({"1000", "10000", "100000"})
+    public int resources;
+
+    @Param({"INSERT", "UNCHANGED", "CHANGED"})
+    public String scenario;
+
+    private ConfigurableApplicationContext context;
+    private ResourceSyncWriter writer;
+    private JdbcTemplate jdbcTemplate;
+    private SyntheticInventoryGenerator generator;
+    private List<AwsResource> batch;
+    private int invocation;
+
+    /**
+     * 반영한 행 수. JMH 가 측정 시간으로 나눠 초당 값으로 보고한다.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Rows {
+        public long rows;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            rows = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start(Map.of());
+        writer = context.getBean(ResourceSyncWriter.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        generator = new SyntheticInventoryGenerator(42, BASE_TIME);
+        if (!"INSERT".equals(scenario)) {
+            writer.upsert(generate());
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void prepareBatch() {
+        if ("INSERT".equals(scenario)) {
+            jdbcTemplate.update("DELETE FROM aws_resource_tags");
+            jdbcTemplate.update("DELETE FROM aws_resources");
+        }
+        // upsert 가 넘겨받은 엔티티를 영속화하므로 호출마다 새로 만든다
+        batch = generate();
+        if ("CHANGED".equals(scenario)) {
+            String suffix = "-" + (++invocation % 2);
+            batch.forEach(resource -> resource.setState(resource.getState() + suffix));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ResourceSyncWriter.WriteResult upsert(Rows rows) {
+        ResourceSyncWriter.WriteResult result = writer.upsert(batch);
+        rows.rows += result.count();
+        return result;
+    }
+
+    private List<AwsResource> generate() {
+        List<AwsResource> generated = new ArrayList<>(resources);
+        for (String type : SyntheticInventoryGenerator.resourceTypes()) {
+            generator.resources(SCOPE, type, SyntheticInventoryGenerator.countFor(type, resources)).forEach(generated::add);
+        }
+        return generated;
+    }
+}
@@ -0,0 +1,92 @@
+package com.finops.api.benchmark;
+
+import com.finops.api.repository.ServiceCostRepository;
+import com.finops.api.service.ServiceCostCube;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ServiceCostCube 와 SQL 경로(ServiceCostRepository 집계 쿼리)의 서비스별 합계/상위 N/추이 조회 비교.
+ * 최근 years 년치 가상 비용(SyntheticInventoryGenerator)을 H2 에 적재하고, 전체 기간과 최근 30 일을 조회한다.
+ * <pre>
+ * ./gradlew jmh -Pjmh.includes=ServiceCostCubeBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceCostCubeBenchmark {
+
+    private static final String SERVICE = "Amazon EC2";
+    private static final int TOP = 5;
+
+    @Param({"1", "3", "5"})
+    public int years;
+
+    @Param({"ALL", "LAST_30_DAYS"})
+    public String range;
+
+    private ConfigurableApplicationContext context;
+    private ServiceCostCube cube;
+    private ServiceCostRepository repository;
+    private LocalDate startDate;
+    private LocalDate endDate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start(Map.of(
+                "finops.cost-cube.enabled", true,
+                "finops.synthetic.cost-years", years));
+        cube = context.getBean(ServiceCostCube.class);
+        repository = context.getBean(ServiceCostRepository.class);
+        if (!cube.isReady()) {
+            throw new IllegalStateException("서비스 비용 큐브가 로드되지 않았습니다");
+        }
+
+        endDate = LocalDate.now();
+        startDate = "ALL".equals(range) ? endDate.minusYears(years) : endDate.minusDays(29);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ServiceCostCube.Total> cubeSummary() {
+        return cube.sumByService(startDate, endDate, Integer.MAX_VALUE);
+    }
+
+    @Benchmark
+    public List<Object[]> sqlSummary() {
+        return repository.findServiceCostSummary(startDate, endDate);
+    }
+
+    @Benchmark
+    public List<ServiceCostCube.Total> cubeTopServices() {
+        return cube.sumByService(startDate, endDate, TOP);
+    }
+
+    @Benchmark
+    public List<Object[]> sqlTopServices() {
+        return repository.findTopServices(startDate, endDate, TOP);
+    }
+
+    @Benchmark
+    public List<ServiceCostCube.Point> cubeSeries() {
+        return cube.series(SERVICE, startDate, endDate);
+    }
+
+    @Benchmark
+    public List<Object[]> sqlSeries() {
+        return repository.findServiceCostSeries(SERVICE, startDate, endDate);
+    }
+}
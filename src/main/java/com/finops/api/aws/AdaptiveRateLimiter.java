@@ -0,0 +1,110 @@
+package com.finops.api.aws;
+
+/**
+ * API 하나(서비스 x 오퍼레이션 x 계정 x 리전)에 대한 클라이언트 측 제한.
+ * <ul>
+ *     <li>토큰 버킷: 초당 permitsPerSecond 개로 채워지고 burst 개까지 쌓인다. 요청(재시도 포함)마다 토큰 하나를 쓴다.</li>
+ *     <li>동시 실행 상한은 AIMD 로 조정한다. 스로틀링을 받으면 절반으로 줄이고(1초에 한 번까지),
+ *     성공할 때마다 1/limit 씩 늘려 상한 한 번만큼 성공하면 1 이 오른다. maxConcurrency 를 넘지 않는다.</li>
+ * </ul>
+ * 시간은 RateLimitClock 으로만 읽고 기다리므로 가짜 시계로 단위 테스트할 수 있다.
+ */
+public class AdaptiveRateLimiter {
+
+    private static final int MIN_CONCURRENCY = 1;
+    private static final double DECREASE_FACTOR = 0.5;
+    private static final long DECREASE_COOLDOWN_NANOS = 1_000_000_000L;
+
+    private final RateLimitClock clock;
+    private final double permitsPerSecond;
+    private final double burst;
+    private final int maxConcurrency;
+
+    private double tokens;
+    private long refilledAt;
+    private double concurrencyLimit;
+    private int inFlight;
+    private long decreasedAt;
+    private boolean decreased;
+
+    public AdaptiveRateLimiter(double permitsPerSecond, int burst, int maxConcurrency, RateLimitClock clock) {
+        if (permitsPerSecond <= 0 || burst < 1 || maxConcurrency < MIN_CONCURRENCY) {
+            throw new IllegalArgumentException("rate 와 burst, maxConcurrency 는 양수여야 합니다");
+        }
+        this.clock = clock;
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.maxConcurrency = maxConcurrency;
+        this.tokens = burst;
+        this.refilledAt = clock.nanoTime();
+        this.concurrencyLimit = maxConcurrency;
+    }
+
+    /**
+     * 동시 실행 슬롯이 날 때까지 기다린다. 기다린 시간(ns)을 반환한다. 끝나면 반드시 release 를 호출해야 한다.
+     */
+    public long enter() throws InterruptedException {
+        long started = clock.nanoTime();
+        synchronized (this) {
+            while (inFlight >= currentLimit()) {
+                wait();
+            }
+            inFlight++;
+        }
+        return clock.nanoTime() - started;
+    }
+
+    /**
+     * 토큰 하나를 예약하고, 잔고가 음수가 되면 그만큼 채워질 때까지 잔다. 잔 시간(ns)을 반환한다.
+     * 먼저 예약한 호출이 먼저 깨어나므로 대기 중인 호출끼리 토큰을 다투지 않는다.
+     */
+    public long takeToken() throws InterruptedException {
+        long waitNanos;
+        synchronized (this) {
+            refill();
+            tokens -= 1;
+            waitNanos = tokens >= 0 ? 0 : (long) Math.ceil(-tokens / permitsPerSecond * 1_000_000_000L);
+        }
+        if (waitNanos > 0) {
+            clock.sleep(waitNanos);
+        }
+        return waitNanos;
+    }
+
+    public synchronized void release(boolean succeeded) {
+        inFlight--;
+        if (succeeded) {
+            concurrencyLimit = Math.min(maxConcurrency, concurrencyLimit + 1.0 / concurrencyLimit);
+        }
+        notifyAll();
+    }
+
+    /**
+     * 스로틀링 응답을 받았을 때 호출한다. 같은 순간에 몰린 스로틀링으로 상한이 연달아 줄지 않도록
+     * 직전 감소 후 1초 안의 신호는 무시한다. 상한을 줄였으면 true.
+     */
+    public synchronized boolean onThrottle() {
+        long now = clock.nanoTime();
+        if (decreased && now - decreasedAt < DECREASE_COOLDOWN_NANOS) {
+            return false;
+        }
+        concurrencyLimit = Math.max(MIN_CONCURRENCY, concurrencyLimit * DECREASE_FACTOR);
+        decreasedAt = now;
+        decreased = true;
+        return true;
+    }
+
+    public synchronized int currentLimit() {
+        return Math.max(MIN_CONCURRENCY, (int) concurrencyLimit);
+    }
+
+    public synchronized int inFlight() {
+        return inFlight;
+    }
+
+    private void refill() {
+        long now = clock.nanoTime();
+        tokens = Math.min(burst, tokens + (now - refilledAt) / 1_000_000_000.0 * permitsPerSecond);
+        refilledAt = now;
+    }
+}
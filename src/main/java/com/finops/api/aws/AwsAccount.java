@@ -0,0 +1,15 @@
+package com.finops.api.aws;
+
+/**
+ * 인벤토리 수집 대상 AWS 계정. roleArn 이 없으면 애플리케이션 기본 자격 증명을 그대로 쓴다.
+ */
+public record AwsAccount(
+        String id,
+        String name,
+        String roleArn,
+        String externalId
+) {
+    public boolean usesDefaultCredentials() {
+        return roleArn == null || roleArn.isBlank();
+    }
+}
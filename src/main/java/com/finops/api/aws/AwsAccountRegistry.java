@@ -0,0 +1,67 @@
+package com.finops.api.aws;
+
+import com.finops.api.config.InventoryAccountProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.sts.StsClient;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 인벤토리 수집 대상 계정 목록. finops.inventory.accounts 가 비어 있으면 기본 자격 증명의 계정 하나만 수집하며,
+ * 그 계정 ID 는 aws.account-id 또는 STS GetCallerIdentity 로 정하며, 조회에 실패하면 임의의 ID 로 수집하지 않고 기동을 멈춘다.
+ */
+@Slf4j
+@Component
+public class AwsAccountRegistry {
+
+    private final List<AwsAccount> accounts;
+
+    public AwsAccountRegistry(InventoryAccountProperties properties,
+                              ObjectProvider<StsClient> stsClient,
+                              @Value("${aws.account-id:}") String defaultAccountId) {
+        if (properties.accounts().isEmpty()) {
+            String id = !defaultAccountId.isBlank() ? defaultAccountId : callerAccountId(stsClient);
+            this.accounts = List.of(new AwsAccount(id, "default", null, null));
+        } else {
+            Map<String, AwsAccount> byId = new LinkedHashMap<>();
+            for (AwsAccount account : properties.accounts()) {
+                if (account.id() == null || account.id().isBlank()) {
+                    throw new IllegalStateException("finops.inventory.accounts 에 id 가 없는 계정이 있습니다");
+                }
+                byId.put(account.id(), withRoleArn(account, properties.roleName()));
+            }
+            this.accounts = List.copyOf(byId.values());
+        }
+        log.info("인벤토리 수집 계정 {} 개: {}", accounts.size(), accounts.stream().map(AwsAccount::id).toList());
+    }
+
+    public List<AwsAccount> accounts() {
+        return accounts;
+    }
+
+    private static AwsAccount withRoleArn(AwsAccount account, String roleName) {
+        if (!account.usesDefaultCredentials() || roleName == null || roleName.isBlank()) {
+            return account;
+        }
+        String roleArn = "arn:aws:iam::" + account.id() + ":role/" + roleName;
+        return new AwsAccount(account.id(), account.name(), roleArn, account.externalId());
+    }
+
+    private static String callerAccountId(ObjectProvider<StsClient> stsClient) {
+        StsClient sts = stsClient.getIfAvailable();
+        if (sts == null) {
+            return "local";
+        }
+        try {
+            return sts.getCallerIdentity().account();
+        } catch (RuntimeException e) {
+            // 임시 계정 ID 로 수집하면 모든 리소스가 그 계정으로 저장되고, 다음 기동 때 전부 계정이 바뀐 것으로 잡힌다
+            throw new IllegalStateException("기본 계정 ID 를 STS GetCallerIdentity 로 조회하지 못했습니다. aws.account-id 를 설정하세요", e);
+        }
+    }
+}
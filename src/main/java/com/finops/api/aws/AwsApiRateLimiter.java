@@ -0,0 +1,237 @@
+package com.finops.api.aws;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.exception.AbortedException;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.core.retry.RetryPolicyContext;
+import software.amazon.awssdk.core.retry.RetryUtils;
+import software.amazon.awssdk.core.retry.conditions.RetryCondition;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 수집기가 쓰는 AWS 클라이언트 호출을 API(서비스 x 오퍼레이션) x 계정 x 리전별 AdaptiveRateLimiter 로 제한한다.
+ * AwsClientRegistry 가 만드는 모든 클라이언트에 overrideConfiguration 으로 붙으므로 수집기 코드는 바꾸지 않는다.
+ * <ul>
+ *     <li>호출 시작 시 동시 실행 슬롯을, 재시도를 포함한 HTTP 시도마다 토큰을 얻는다.</li>
+ *     <li>SDK 재시도 판단 시점과 최종 실패 시점에 스로틀링 예외를 보면 동시 실행 상한을 줄인다.</li>
+ *     <li>오퍼레이션별 초당 요청 수는 finops.aws.rate-limit.rates 로 덮어쓴다. 없으면 default-rate 를 쓴다.</li>
+ * </ul>
+ * 메트릭: finops.aws.api.permits(허용), finops.aws.api.waits / finops.aws.api.wait(대기 횟수/시간),
+ * finops.aws.api.throttles(스로틀링), finops.aws.api.concurrency.limit(현재 동시 실행 상한).
+ */
+@Slf4j
+@Component
+@Profile("!local")
+public class AwsApiRateLimiter {
+
+    private static final ExecutionAttribute<Limited> LIMITED = new ExecutionAttribute<>("FinopsRateLimiter");
+    private static final ExecutionAttribute<Throwable> REPORTED_THROTTLE = new ExecutionAttribute<>("FinopsReportedThrottle");
+    private static final ExecutionAttribute<Boolean> RELEASED = new ExecutionAttribute<>("FinopsRateLimiterReleased");
+
+    private final boolean enabled;
+    private final double defaultRate;
+    private final Map<String, Double> rates;
+    private final int burst;
+    private final int maxConcurrency;
+    private final MeterRegistry meterRegistry;
+    private final RateLimitClock clock;
+    private final Map<String, Limited> limiters = new ConcurrentHashMap<>();
+
+    @Autowired
+    public AwsApiRateLimiter(@Value("${finops.aws.rate-limit.enabled:true}") boolean enabled,
+                             @Value("${finops.aws.rate-limit.default-rate:10}") double defaultRate,
+                             @Value("#{${finops.aws.rate-limit.rates:{:}}}") Map<String, Double> rates,
+                             @Value("${finops.aws.rate-limit.burst:20}") int burst,
+                             @Value("${finops.aws.rate-limit.max-concurrency:8}") int maxConcurrency,
+                             MeterRegistry meterRegistry) {
+        this(enabled, defaultRate, rates, burst, maxConcurrency, meterRegistry, RateLimitClock.SYSTEM);
+    }
+
+    public AwsApiRateLimiter(boolean enabled, double defaultRate, Map<String, Double> rates, int burst,
+                             int maxConcurrency, MeterRegistry meterRegistry, RateLimitClock clock) {
+        this.enabled = enabled;
+        this.defaultRate = defaultRate;
+        this.rates = Map.copyOf(rates);
+        this.burst = burst;
+        this.maxConcurrency = maxConcurrency;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+    }
+
+    /**
+     * scope 용 클라이언트에 붙일 설정. 비활성화되어 있으면 SDK 기본값 그대로다.
+     */
+    public ClientOverrideConfiguration overrideConfiguration(AwsScope scope) {
+        if (!enabled) {
+            return ClientOverrideConfiguration.builder().build();
+        }
+        return ClientOverrideConfiguration.builder()
+                .addExecutionInterceptor(new RateLimitingInterceptor(scope))
+                .retryPolicy(RetryPolicy.builder()
+                        .retryCondition(context -> {
+                            observeRetry(context);
+                            return RetryCondition.defaultRetryCondition().shouldRetry(context);
+                        })
+                        .build())
+                .build();
+    }
+
+    Limited limiter(AwsScope scope, String service, String operation) {
+        return limiters.computeIfAbsent(service + "/" + operation + "/" + scope,
+                key -> new Limited(scope, service, operation));
+    }
+
+    private void observeRetry(RetryPolicyContext context) {
+        Limited limited = context.executionAttributes().getAttribute(LIMITED);
+        if (limited != null && isThrottle(context.exception())) {
+            context.executionAttributes().putAttribute(REPORTED_THROTTLE, context.exception());
+            limited.throttled();
+        }
+    }
+
+    private static boolean isThrottle(SdkException e) {
+        return e != null && RetryUtils.isThrottlingException(e);
+    }
+
+    /**
+     * 호출 하나의 슬롯과 시도별 토큰을 잡고 푼다. 클라이언트(= 범위)마다 하나씩 만든다.
+     */
+    private class RateLimitingInterceptor implements ExecutionInterceptor {
+
+        private final AwsScope scope;
+
+        RateLimitingInterceptor(AwsScope scope) {
+            this.scope = scope;
+        }
+
+        @Override
+        public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes attributes) {
+            Limited limited = limiter(scope,
+                    attributes.getAttribute(SdkExecutionAttribute.SERVICE_NAME),
+                    attributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME));
+            limited.enter();
+            attributes.putAttribute(LIMITED, limited);
+        }
+
+        @Override
+        public void beforeTransmission(Context.BeforeTransmission context, ExecutionAttributes attributes) {
+            Limited limited = attributes.getAttribute(LIMITED);
+            if (limited != null) {
+                limited.takeToken();
+            }
+        }
+
+        @Override
+        public void afterExecution(Context.AfterExecution context, ExecutionAttributes attributes) {
+            release(attributes, true);
+        }
+
+        @Override
+        public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes attributes) {
+            Limited limited = attributes.getAttribute(LIMITED);
+            if (limited == null) {
+                return;
+            }
+            // 재시도 판단에서 이미 센 예외는 다시 세지 않는다
+            if (context.exception() instanceof SdkException e && isThrottle(e)
+                    && attributes.getAttribute(REPORTED_THROTTLE) != e) {
+                limited.throttled();
+            }
+            release(attributes, false);
+        }
+
+        // afterExecution 뒤에 다른 인터셉터가 실패하면 onExecutionFailure 도 불리므로 한 번만 푼다
+        private void release(ExecutionAttributes attributes, boolean succeeded) {
+            Limited limited = attributes.getAttribute(LIMITED);
+            if (limited != null && attributes.getAttribute(RELEASED) == null) {
+                attributes.putAttribute(RELEASED, Boolean.TRUE);
+                limited.limiter.release(succeeded);
+            }
+        }
+    }
+
+    /**
+     * 제한기 하나와 그 메트릭.
+     */
+    class Limited {
+
+        private final AdaptiveRateLimiter limiter;
+        private final String name;
+        private final Counter permits;
+        private final Counter waits;
+        private final Timer waitTime;
+        private final Counter throttles;
+
+        Limited(AwsScope scope, String service, String operation) {
+            double rate = rates.getOrDefault(operation, defaultRate);
+            this.limiter = new AdaptiveRateLimiter(rate, burst, maxConcurrency, clock);
+            this.name = service + " " + operation + " " + scope;
+            Tags tags = Tags.of("service", service, "operation", operation,
+                    "account", scope.accountId(), "region", scope.region());
+            this.permits = Counter.builder("finops.aws.api.permits").tags(tags).register(meterRegistry);
+            this.waits = Counter.builder("finops.aws.api.waits").tags(tags).register(meterRegistry);
+            this.waitTime = Timer.builder("finops.aws.api.wait").tags(tags).register(meterRegistry);
+            this.throttles = Counter.builder("finops.aws.api.throttles").tags(tags).register(meterRegistry);
+            Gauge.builder("finops.aws.api.concurrency.limit", limiter, AdaptiveRateLimiter::currentLimit)
+                    .tags(tags)
+                    .register(meterRegistry);
+            log.debug("AWS API 제한기 생성 - {}: {}/s, 동시 {}", name, rate, maxConcurrency);
+        }
+
+        AdaptiveRateLimiter limiter() {
+            return limiter;
+        }
+
+        void enter() {
+            try {
+                recordWait(limiter.enter());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw AbortedException.builder().message(name + " 호출 대기 중 중단되었습니다").cause(e).build();
+            }
+        }
+
+        void takeToken() {
+            try {
+                recordWait(limiter.takeToken());
+                permits.increment();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw AbortedException.builder().message(name + " 호출 대기 중 중단되었습니다").cause(e).build();
+            }
+        }
+
+        void throttled() {
+            throttles.increment();
+            if (limiter.onThrottle()) {
+                log.warn("AWS API 스로틀링 - {}, 동시 실행 상한 {} 로 축소", name, limiter.currentLimit());
+            }
+        }
+
+        private void recordWait(long waitedNanos) {
+            if (waitedNanos > 0) {
+                waits.increment();
+                waitTime.record(waitedNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.finops.api.aws;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.core.SdkClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.cloudwatch.CloudWatchClient;
+import software.amazon.awssdk.services.ec2.Ec2Client;
+import software.amazon.awssdk.services.lambda.LambdaClient;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.resourcegroupstaggingapi.ResourceGroupsTaggingApiClient;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+/**
+ * 인벤토리 수집용 서비스별 클라이언트. 계정 x 리전마다 처음 요청될 때 한 번 만들고 재사용한다.
+ * SDK 클라이언트는 스레드 안전하므로 같은 범위의 수집기끼리 공유해도 된다.
+ * 모든 클라이언트 호출은 AwsApiRateLimiter 를 거친다.
+ */
+@Slf4j
+@Component
+@Profile("!local")
+@RequiredArgsConstructor
+public class AwsClientRegistry {
+
+    private final AwsCredentialsRegistry credentialsRegistry;
+    private final AwsApiRateLimiter rateLimiter;
+    private final Map<String, SdkClient> clients = new ConcurrentHashMap<>();
+
+    public Ec2Client ec2(AwsScope scope) {
+        return client("ec2", scope, (region, credentials) -> Ec2Client.builder()
+                .region(region)
+                .credentialsProvider(credentials)
+                .overrideConfiguration(rateLimiter.overrideConfiguration(scope))
+                .build());
+    }
+
+    public RdsClient rds(AwsScope scope) {
+        return client("rds", scope, (region, credentials) -> RdsClient.builder()
+                .region(region)
+                .credentialsProvider(credentials)
+                .overrideConfiguration(rateLimiter.overrideConfiguration(scope))
+                .build());
+    }
+
+    public LambdaClient lambda(AwsScope scope) {
+        return client("lambda", scope, (region, credentials) -> LambdaClient.builder()
+                .region(region)
+                .credentialsProvider(credentials)
+                .overrideConfiguration(rateLimiter.overrideConfiguration(scope))
+                .build());
+    }
+
+    /**
+     * 버킷이 다른 리전에 있어도 태그를 조회할 수 있도록 cross-region 접근을 켠다.
+     */
+    public S3Client s3(AwsScope scope) {
+        return client("s3", scope, (region, credentials) -> S3Client.builder()
+                .region(region)
+                .crossRegionAccessEnabled(true)
+                .credentialsProvider(credentials)
+                .overrideConfiguration(rateLimiter.overrideConfiguration(scope))
+                .build());
+    }
+
+    public ResourceGroupsTaggingApiClient tagging(AwsScope scope) {
+        return client("tagging", scope, (region, credentials) -> ResourceGroupsTaggingApiClient.builder()
+                .region(region)
+                .credentialsProvider(credentials)
+                .overrideConfiguration(rateLimiter.overrideConfiguration(scope))
+                .build());
+    }
+
+    public CloudWatchClient cloudWatch(AwsScope scope) {
+        return client("cloudwatch", scope, (region, credentials) -> CloudWatchClient.builder()
+                .region(region)
+                .credentialsProvider(credentials)
+                .overrideConfiguration(rateLimiter.overrideConfiguration(scope))
+                .build());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends SdkClient> T client(String service, AwsScope scope,
+                                           BiFunction<Region, AwsCredentialsProvider, T> factory) {
+        return (T) clients.computeIfAbsent(service + "/" + scope, key -> {
+            log.info("{} Client 생성 - Account: {}, Region: {}", service, scope.accountId(), scope.region());
+            return factory.apply(Region.of(scope.region()), credentialsRegistry.credentials(scope.account()));
+        });
+    }
+
+    @PreDestroy
+    void close() {
+        clients.values().forEach(SdkClient::close);
+        clients.clear();
+    }
+}
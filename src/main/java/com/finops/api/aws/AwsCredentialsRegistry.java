@@ -0,0 +1,80 @@
+package com.finops.api.aws;
+
+import com.finops.api.config.InventoryAccountProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.services.sts.StsClient;
+import software.amazon.awssdk.services.sts.auth.StsAssumeRoleCredentialsProvider;
+import software.amazon.awssdk.services.sts.model.AssumeRoleRequest;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 계정별 자격 증명 공급자. AssumeRole 세션은 계정마다 하나를 만들어 재사용하고,
+ * 만료 refreshBefore 전에 백그라운드에서 갱신하므로 API 호출마다 역할을 다시 가정하지 않는다.
+ */
+@Slf4j
+@Component
+public class AwsCredentialsRegistry {
+
+    private static final String SESSION_NAME = "finops-inventory";
+
+    private final InventoryAccountProperties properties;
+    private final ObjectProvider<StsClient> stsClient;
+    private final Map<String, AwsCredentialsProvider> providers = new ConcurrentHashMap<>();
+
+    public AwsCredentialsRegistry(InventoryAccountProperties properties, ObjectProvider<StsClient> stsClient) {
+        this.properties = properties;
+        this.stsClient = stsClient;
+    }
+
+    public AwsCredentialsProvider credentials(AwsAccount account) {
+        if (properties.fakeCredentials()) {
+            return providers.computeIfAbsent(account.id(), id ->
+                    StaticCredentialsProvider.create(AwsBasicCredentials.create("fake-" + id, "fake-secret")));
+        }
+        if (account.usesDefaultCredentials()) {
+            return DefaultCredentialsProvider.create();
+        }
+        return providers.computeIfAbsent(account.id(), id -> assumeRole(account));
+    }
+
+    private AwsCredentialsProvider assumeRole(AwsAccount account) {
+        StsClient sts = stsClient.getIfAvailable();
+        if (sts == null) {
+            throw new IllegalStateException("STS 클라이언트가 없어 " + account.id() + " 계정 역할을 가정할 수 없습니다");
+        }
+        log.info("AssumeRole 자격 증명 생성 - Account: {}, Role: {}", account.id(), account.roleArn());
+        AssumeRoleRequest request = AssumeRoleRequest.builder()
+                .roleArn(account.roleArn())
+                .roleSessionName(SESSION_NAME)
+                .externalId(account.externalId())
+                .durationSeconds((int) properties.sessionDuration().toSeconds())
+                .build();
+        return StsAssumeRoleCredentialsProvider.builder()
+                .stsClient(sts)
+                .refreshRequest(request)
+                .prefetchTime(properties.refreshBefore())
+                .staleTime(properties.refreshBefore().dividedBy(2))
+                .asyncCredentialUpdateEnabled(true)
+                .build();
+    }
+
+    @PreDestroy
+    void close() {
+        providers.values().forEach(provider -> {
+            if (provider instanceof SdkAutoCloseable closeable) {
+                closeable.close();
+            }
+        });
+        providers.clear();
+    }
+}
@@ -0,0 +1,16 @@
+package com.finops.api.aws;
+
+/**
+ * 수집기 한 번의 실행 범위 (계정 x 리전).
+ */
+public record AwsScope(AwsAccount account, String region) {
+
+    public String accountId() {
+        return account.id();
+    }
+
+    @Override
+    public String toString() {
+        return account.id() + "/" + region;
+    }
+}
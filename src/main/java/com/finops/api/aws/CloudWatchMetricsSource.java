@@ -0,0 +1,95 @@
+package com.finops.api.aws;
+
+import com.finops.api.entity.AwsResource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.cloudwatch.CloudWatchClient;
+import software.amazon.awssdk.services.cloudwatch.model.Dimension;
+import software.amazon.awssdk.services.cloudwatch.model.GetMetricDataRequest;
+import software.amazon.awssdk.services.cloudwatch.model.GetMetricDataResponse;
+import software.amazon.awssdk.services.cloudwatch.model.Metric;
+import software.amazon.awssdk.services.cloudwatch.model.MetricDataQuery;
+import software.amazon.awssdk.services.cloudwatch.model.MetricDataResult;
+import software.amazon.awssdk.services.cloudwatch.model.MetricStat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * CloudWatch GetMetricData 로 사용률 지표를 조회한다. 리소스 x 지표마다 쿼리 하나를 만들고
+ * MAX_QUERIES_PER_REQUEST(500) 개씩 묶어 요청하므로, 리소스 수천 개도 요청 수십 번으로 끝난다.
+ * 데이터 포인트가 많아 응답이 나뉘면 NextToken 으로 이어 받는다.
+ */
+@Slf4j
+@Component
+@Profile("!local")
+@RequiredArgsConstructor
+public class CloudWatchMetricsSource implements UtilizationMetricsSource {
+
+    private final AwsClientRegistry clientRegistry;
+
+    @Override
+    public Map<Long, Map<UtilizationMetric, double[]>> fetch(AwsScope scope, List<AwsResource> resources,
+                                                             Instant start, Instant end, Duration period) {
+        Map<Long, Map<UtilizationMetric, double[]>> result = new HashMap<>();
+        List<QueryRef> queries = new ArrayList<>();
+        for (AwsResource resource : resources) {
+            Map<UtilizationMetric, double[]> metrics = new EnumMap<>(UtilizationMetric.class);
+            for (UtilizationMetric metric : UtilizationMetric.forType(resource.getResourceType())) {
+                metrics.put(metric, new double[0]);
+                // 쿼리 ID 는 소문자로 시작해야 한다
+                queries.add(new QueryRef(resource.getId(), metric,
+                        query("q" + queries.size(), metric, metric.dimensionValue(resource), period)));
+            }
+            result.put(resource.getId(), metrics);
+        }
+
+        CloudWatchClient cloudWatch = clientRegistry.cloudWatch(scope);
+        int calls = 0;
+        for (int from = 0; from < queries.size(); from += MAX_QUERIES_PER_REQUEST) {
+            List<QueryRef> batch = queries.subList(from, Math.min(from + MAX_QUERIES_PER_REQUEST, queries.size()));
+            GetMetricDataRequest request = GetMetricDataRequest.builder()
+                    .startTime(start)
+                    .endTime(end)
+                    .metricDataQueries(batch.stream().map(QueryRef::query).toList())
+                    .build();
+
+            Map<String, List<Double>> values = new HashMap<>();
+            for (GetMetricDataResponse page : cloudWatch.getMetricDataPaginator(request)) {
+                calls++;
+                for (MetricDataResult data : page.metricDataResults()) {
+                    values.computeIfAbsent(data.id(), id -> new ArrayList<>()).addAll(data.values());
+                }
+            }
+            for (QueryRef ref : batch) {
+                List<Double> series = values.getOrDefault(ref.query().id(), List.of());
+                result.get(ref.resourceId()).put(ref.metric(), series.stream().mapToDouble(Double::doubleValue).toArray());
+            }
+        }
+        log.debug("CloudWatch 지표 조회 - {}: 리소스 {} 개, 쿼리 {} 개, GetMetricData {} 회",
+                scope, resources.size(), queries.size(), calls);
+        return result;
+    }
+
+    private static MetricDataQuery query(String id, UtilizationMetric metric, String dimensionValue, Duration period) {
+        return MetricDataQuery.builder()
+                .id(id)
+                .returnData(true)
+                .metricStat(MetricStat.builder()
+                        .metric(Metric.builder()
+                                .namespace(metric.namespace())
+                                .metricName(metric.metricName())
+                                .dimensions(Dimension.builder().name(metric.dimension()).value(dimensionValue).build())
+                                .build())
+                        .period((int) period.toSeconds())
+                        .stat(metric.statistic())
+                        .build())
+                .build();
+    }
+
+    private record QueryRef(Long resourceId, UtilizationMetric metric, MetricDataQuery query) {
+    }
+}
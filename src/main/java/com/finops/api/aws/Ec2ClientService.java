@@ -5,7 +5,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
-import software.amazon.awssdk.services.ec2.Ec2Client;
 import software.amazon.awssdk.services.ec2.model.DescribeInstancesRequest;
 import software.amazon.awssdk.services.ec2.model.Instance;
 import software.amazon.awssdk.services.ec2.model.Reservation;
@@ -13,41 +12,50 @@ import software.amazon.awssdk.services.ec2.model.Tag;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @Profile("!local")
 @RequiredArgsConstructor
-public class Ec2ClientService {
+public class Ec2ClientService implements ResourceCollector {
 
-    private final Ec2Client ec2Client;
+    private final AwsClientRegistry clientRegistry;
 
-    public List<AwsResource> describeInstances() {
-        log.info("EC2 인스턴스 조회 시작");
-        List<AwsResource> resources = new ArrayList<>();
+    @Override
+    public String resourceType() {
+        return "EC2";
+    }
+
+    @Override
+    public void collect(AwsScope scope, Consumer<List<AwsResource>> sink) {
+        describeInstances(scope, sink);
+    }
+
+    public void describeInstances(AwsScope scope, Consumer<List<AwsResource>> sink) {
+        log.info("EC2 인스턴스 조회 시작 - {}", scope);
+        ResourceChunker chunker = new ResourceChunker(sink);
 
         try {
             DescribeInstancesRequest request = DescribeInstancesRequest.builder().build();
-            var response = ec2Client.describeInstances(request);
-
-            for (Reservation reservation : response.reservations()) {
-                for (Instance instance : reservation.instances()) {
-                    AwsResource resource = mapToAwsResource(instance);
-                    resources.add(resource);
+            // 페이지를 필요할 때마다 요청하므로 전체 목록을 메모리에 올리지 않는다
+            for (var page : clientRegistry.ec2(scope).describeInstancesPaginator(request)) {
+                for (Reservation reservation : page.reservations()) {
+                    for (Instance instance : reservation.instances()) {
+                        chunker.add(mapToAwsResource(instance, scope));
+                    }
                 }
             }
 
-            log.info("EC2 인스턴스 {} 개 조회 완료", resources.size());
+            log.info("EC2 인스턴스 {} 개 조회 완료 - {}", chunker.finish(), scope);
         } catch (Exception e) {
-            log.error("EC2 인스턴스 조회 실패", e);
+            log.error("EC2 인스턴스 조회 실패 - {}", scope, e);
             throw new RuntimeException("EC2 인스턴스 조회 실패", e);
         }
-
-        return resources;
     }
 
-    private AwsResource mapToAwsResource(Instance instance) {
+    private AwsResource mapToAwsResource(Instance instance, AwsScope scope) {
         Map<String, String> tags = instance.tags().stream()
                 .collect(Collectors.toMap(Tag::key, Tag::value, (a, b) -> a));
 
@@ -67,7 +75,8 @@ public class Ec2ClientService {
                 .resourceId(instance.instanceId())
                 .resourceType("EC2")
                 .resourceName(name)
-                .region(extractRegion(instance.placement()))
+                .accountId(scope.accountId())
+                .region(scope.region())
                 .availabilityZone(instance.placement() != null ? instance.placement().availabilityZone() : null)
                 .state(instance.state() != null ? instance.state().nameAsString() : null)
                 .instanceType(instance.instanceTypeAsString())
@@ -76,12 +85,4 @@ public class Ec2ClientService {
                 .lastSyncedAt(LocalDateTime.now())
                 .build();
     }
-
-    private String extractRegion(software.amazon.awssdk.services.ec2.model.Placement placement) {
-        if (placement != null && placement.availabilityZone() != null) {
-            String az = placement.availabilityZone();
-            return az.substring(0, az.length() - 1);
-        }
-        return "ap-northeast-2";
-    }
 }
@@ -3,61 +3,55 @@ package com.finops.api.aws;
 import com.finops.api.entity.AwsResource;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
-import software.amazon.awssdk.services.lambda.LambdaClient;
 import software.amazon.awssdk.services.lambda.model.*;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
 @Profile("!local")
 @RequiredArgsConstructor
-public class LambdaClientService {
+public class LambdaClientService implements ResourceCollector {
 
-    private final LambdaClient lambdaClient;
+    private final AwsClientRegistry clientRegistry;
 
-    @Value("${aws.region:ap-northeast-2}")
-    private String defaultRegion;
+    @Override
+    public String resourceType() {
+        return "LAMBDA";
+    }
+
+    @Override
+    public void collect(AwsScope scope, Consumer<List<AwsResource>> sink) {
+        listFunctions(scope, sink);
+    }
 
-    public List<AwsResource> listFunctions() {
-        log.info("Lambda 함수 조회 시작");
-        List<AwsResource> resources = new ArrayList<>();
+    public void listFunctions(AwsScope scope, Consumer<List<AwsResource>> sink) {
+        log.info("Lambda 함수 조회 시작 - {}", scope);
+        ResourceChunker chunker = new ResourceChunker(sink);
 
         try {
             ListFunctionsRequest request = ListFunctionsRequest.builder().build();
-            var response = lambdaClient.listFunctions(request);
-
-            for (FunctionConfiguration function : response.functions()) {
-                AwsResource resource = mapToAwsResource(function);
-                resources.add(resource);
+            for (var page : clientRegistry.lambda(scope).listFunctionsPaginator(request)) {
+                for (FunctionConfiguration function : page.functions()) {
+                    chunker.add(mapToAwsResource(function, scope));
+                }
             }
 
-            log.info("Lambda 함수 {} 개 조회 완료", resources.size());
+            log.info("Lambda 함수 {} 개 조회 완료 - {}", chunker.finish(), scope);
         } catch (Exception e) {
-            log.error("Lambda 함수 조회 실패", e);
+            log.error("Lambda 함수 조회 실패 - {}", scope, e);
             throw new RuntimeException("Lambda 함수 조회 실패", e);
         }
-
-        return resources;
     }
 
-    private AwsResource mapToAwsResource(FunctionConfiguration function) {
-        Map<String, String> tags = new HashMap<>();
-
-        try {
-            ListTagsRequest tagsRequest = ListTagsRequest.builder()
-                    .resource(function.functionArn())
-                    .build();
-            var tagsResponse = lambdaClient.listTags(tagsRequest);
-            tags = new HashMap<>(tagsResponse.tags());
-        } catch (Exception e) {
-            log.debug("Lambda 함수 {} 태그 조회 실패", function.functionName());
-        }
-
+    /**
+     * 태그는 채우지 않는다(null). 동기화 단계에서 Tagging API 로 한꺼번에 채운다.
+     */
+    private AwsResource mapToAwsResource(FunctionConfiguration function, AwsScope scope) {
         Map<String, Object> metadata = new HashMap<>();
         metadata.put("runtime", function.runtimeAsString());
         metadata.put("handler", function.handler());
@@ -71,9 +65,9 @@ public class LambdaClientService {
                 .resourceId(function.functionArn())
                 .resourceType("LAMBDA")
                 .resourceName(function.functionName())
-                .region(defaultRegion)
+                .accountId(scope.accountId())
+                .region(scope.region())
                 .state(function.stateAsString() != null ? function.stateAsString() : "Active")
-                .tags(tags)
                 .metadata(metadata)
                 .lastSyncedAt(LocalDateTime.now())
                 .build();
@@ -1,21 +1,52 @@
 package com.finops.api.aws;
 
 import com.finops.api.entity.AwsResource;
+import com.finops.api.synthetic.SyntheticInventoryGenerator;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
 @Profile("local")
+@RequiredArgsConstructor
 public class MockResourceService {
 
-    private final Random random = new Random();
+    private static final String MOCK_REGION = "ap-northeast-2";
+
+    // 변경 감지(contentHash)가 매번 바뀌지 않도록 날짜 메타데이터는 기동 시각 기준으로 고정한다
+    private final LocalDateTime baseTime = LocalDateTime.now().truncatedTo(ChronoUnit.DAYS);
+    private final AwsAccountRegistry accountRegistry;
+
+    // 동기화 병렬 처리/타임아웃을 로컬에서 확인하기 위한 타입별 인위적 지연 (ms)
+    @Value("#{${finops.mock.latency-ms:{:}}}")
+    private Map<String, Long> latencyMs = Map.of();
+
+    // 페이지네이션/청크 저장을 로컬에서 확인하기 위한 타입별 반복 페이지 수. 페이지마다 resourceId 에 -pN 을 붙인다
+    @Value("#{${finops.mock.pages:{:}}}")
+    private Map<String, Integer> pages = Map.of();
+
+    // 0 보다 크면 고정 Mock 데이터 대신 SyntheticInventoryGenerator 로 수집 범위마다 이만큼 만든다
+    @Value("${finops.synthetic.resources:0}")
+    private int syntheticResources;
+
+    @Value("${finops.synthetic.seed:42}")
+    private long syntheticSeed;
+
+    @Value("${finops.synthetic.base-date:2024-01-01}")
+    private String syntheticBaseDate;
 
     public List<AwsResource> getMockEc2Instances() {
+        simulateLatency("EC2");
         log.info("[MOCK] EC2 인스턴스 생성");
         List<AwsResource> resources = new ArrayList<>();
 
@@ -33,7 +64,7 @@ public class MockResourceService {
             metadata.put("imageId", "ami-0c55b159cbfafe1f0");
             metadata.put("privateIpAddress", "10.0." + i + ".100");
             metadata.put("vpcId", "vpc-12345678");
-            metadata.put("launchTime", LocalDateTime.now().minusDays(random.nextInt(30)).toString());
+            metadata.put("launchTime", baseTime.minusDays(i * 7 % 30).toString());
 
             AwsResource resource = AwsResource.builder()
                     .resourceId("i-" + String.format("%017d", i))
@@ -55,6 +86,7 @@ public class MockResourceService {
     }
 
     public List<AwsResource> getMockRdsInstances() {
+        simulateLatency("RDS");
         log.info("[MOCK] RDS 인스턴스 생성");
         List<AwsResource> resources = new ArrayList<>();
 
@@ -94,6 +126,7 @@ public class MockResourceService {
     }
 
     public List<AwsResource> getMockS3Buckets() {
+        simulateLatency("S3");
         log.info("[MOCK] S3 버킷 생성");
         List<AwsResource> resources = new ArrayList<>();
 
@@ -105,7 +138,7 @@ public class MockResourceService {
             tags.put("Environment", i < 2 ? "production" : "development");
 
             Map<String, Object> metadata = new HashMap<>();
-            metadata.put("creationDate", LocalDateTime.now().minusDays(60 + i * 10).toString());
+            metadata.put("creationDate", baseTime.minusDays(60 + i * 10).toString());
 
             AwsResource resource = AwsResource.builder()
                     .resourceId("arn:aws:s3:::" + bucketNames[i])
@@ -125,6 +158,7 @@ public class MockResourceService {
     }
 
     public List<AwsResource> getMockLambdaFunctions() {
+        simulateLatency("LAMBDA");
         log.info("[MOCK] Lambda 함수 생성");
         List<AwsResource> resources = new ArrayList<>();
 
@@ -142,7 +176,7 @@ public class MockResourceService {
             metadata.put("handler", "index.handler");
             metadata.put("memorySize", memorySizes[i]);
             metadata.put("timeout", 30);
-            metadata.put("lastModified", LocalDateTime.now().minusDays(5 + i).toString());
+            metadata.put("lastModified", baseTime.minusDays(5 + i).toString());
 
             AwsResource resource = AwsResource.builder()
                     .resourceId("arn:aws:lambda:ap-northeast-2:123456789012:function:" + functionNames[i])
@@ -169,4 +203,69 @@ public class MockResourceService {
         all.addAll(getMockLambdaFunctions());
         return all;
     }
+
+    /**
+     * 실제 AWS 수집기 대신 사용할 타입별 Mock 수집기.
+     */
+    public List<ResourceCollector> collectors() {
+        if (syntheticResources > 0) {
+            log.info("[MOCK] 가상 인벤토리 사용 - 범위당 {} 개, seed {}", syntheticResources, syntheticSeed);
+            return new SyntheticInventoryGenerator(syntheticSeed, LocalDate.parse(syntheticBaseDate).atStartOfDay())
+                    .collectors(syntheticResources);
+        }
+        String home = accountRegistry.accounts().get(0).id();
+        return List.of(
+                new MockCollector("EC2", false, home, this::getMockEc2Instances, pageCount("EC2")),
+                new MockCollector("RDS", false, home, this::getMockRdsInstances, pageCount("RDS")),
+                new MockCollector("S3", true, home, this::getMockS3Buckets, pageCount("S3")),
+                new MockCollector("LAMBDA", false, home, this::getMockLambdaFunctions, pageCount("LAMBDA"))
+        );
+    }
+
+    private int pageCount(String resourceType) {
+        return Math.max(1, pages.getOrDefault(resourceType, 1));
+    }
+
+    private void simulateLatency(String resourceType) {
+        long delay = latencyMs.getOrDefault(resourceType, 0L);
+        if (delay <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("[MOCK] " + resourceType + " 조회가 중단되었습니다", e);
+        }
+    }
+
+    /**
+     * 실제 수집기처럼 페이지를 하나씩 만들어 청크로 넘긴다. 전체 목록을 한 번에 만들지 않는다.
+     * Mock 데이터는 첫 번째 계정의 ap-northeast-2 기준이라 다른 계정/리전에서는 resourceId 에 @계정/리전 을 붙여 구분한다.
+     */
+    private record MockCollector(String resourceType, boolean global, String homeAccountId,
+                                 Supplier<List<AwsResource>> page, int pageCount) implements ResourceCollector {
+
+        @Override
+        public void collect(AwsScope scope, Consumer<List<AwsResource>> sink) {
+            String region = scope.region();
+            boolean home = homeAccountId.equals(scope.accountId()) && MOCK_REGION.equals(region);
+            ResourceChunker chunker = new ResourceChunker(sink);
+            for (int i = 0; i < pageCount; i++) {
+                for (AwsResource resource : page.get()) {
+                    String suffix = (i > 0 ? "-p" + i : "") + (home ? "" : "@" + scope);
+                    if (!suffix.isEmpty()) {
+                        resource.setResourceId(resource.getResourceId() + suffix);
+                        resource.setResourceName(resource.getResourceName() + suffix);
+                    }
+                    resource.setAccountId(scope.accountId());
+                    if (!global) {
+                        resource.setRegion(region);
+                    }
+                    chunker.add(resource);
+                }
+            }
+            log.info("[MOCK] {} {} 개 ({} 페이지, {}) 생성", resourceType, chunker.finish(), pageCount, scope);
+        }
+    }
 }
@@ -0,0 +1,25 @@
+package com.finops.api.aws;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AdaptiveRateLimiter 가 쓰는 시계. 테스트에서는 sleep 하면 시간만 앞당기는 가짜 시계로 바꿔 끼운다.
+ */
+public interface RateLimitClock {
+
+    RateLimitClock SYSTEM = new RateLimitClock() {
+        @Override
+        public long nanoTime() {
+            return System.nanoTime();
+        }
+
+        @Override
+        public void sleep(long nanos) throws InterruptedException {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        }
+    };
+
+    long nanoTime();
+
+    void sleep(long nanos) throws InterruptedException;
+}
@@ -5,46 +5,53 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
-import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.awssdk.services.rds.model.DBInstance;
 import software.amazon.awssdk.services.rds.model.DescribeDbInstancesRequest;
 import software.amazon.awssdk.services.rds.model.Tag;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @Profile("!local")
 @RequiredArgsConstructor
-public class RdsClientService {
+public class RdsClientService implements ResourceCollector {
 
-    private final RdsClient rdsClient;
+    private final AwsClientRegistry clientRegistry;
 
-    public List<AwsResource> describeDbInstances() {
-        log.info("RDS 인스턴스 조회 시작");
-        List<AwsResource> resources = new ArrayList<>();
+    @Override
+    public String resourceType() {
+        return "RDS";
+    }
+
+    @Override
+    public void collect(AwsScope scope, Consumer<List<AwsResource>> sink) {
+        describeDbInstances(scope, sink);
+    }
+
+    public void describeDbInstances(AwsScope scope, Consumer<List<AwsResource>> sink) {
+        log.info("RDS 인스턴스 조회 시작 - {}", scope);
+        ResourceChunker chunker = new ResourceChunker(sink);
 
         try {
             DescribeDbInstancesRequest request = DescribeDbInstancesRequest.builder().build();
-            var response = rdsClient.describeDBInstances(request);
-
-            for (DBInstance dbInstance : response.dbInstances()) {
-                AwsResource resource = mapToAwsResource(dbInstance);
-                resources.add(resource);
+            for (var page : clientRegistry.rds(scope).describeDBInstancesPaginator(request)) {
+                for (DBInstance dbInstance : page.dbInstances()) {
+                    chunker.add(mapToAwsResource(dbInstance, scope));
+                }
             }
 
-            log.info("RDS 인스턴스 {} 개 조회 완료", resources.size());
+            log.info("RDS 인스턴스 {} 개 조회 완료 - {}", chunker.finish(), scope);
         } catch (Exception e) {
-            log.error("RDS 인스턴스 조회 실패", e);
+            log.error("RDS 인스턴스 조회 실패 - {}", scope, e);
             throw new RuntimeException("RDS 인스턴스 조회 실패", e);
         }
-
-        return resources;
     }
 
-    private AwsResource mapToAwsResource(DBInstance dbInstance) {
+    private AwsResource mapToAwsResource(DBInstance dbInstance, AwsScope scope) {
         Map<String, String> tags = new HashMap<>();
         if (dbInstance.tagList() != null) {
             tags = dbInstance.tagList().stream()
@@ -61,16 +68,12 @@ public class RdsClientService {
         metadata.put("port", dbInstance.endpoint() != null ? dbInstance.endpoint().port() : null);
         metadata.put("vpcId", dbInstance.dbSubnetGroup() != null ? dbInstance.dbSubnetGroup().vpcId() : null);
 
-        String region = "ap-northeast-2";
-        if (dbInstance.availabilityZone() != null) {
-            region = dbInstance.availabilityZone().substring(0, dbInstance.availabilityZone().length() - 1);
-        }
-
         return AwsResource.builder()
                 .resourceId(dbInstance.dbInstanceArn())
                 .resourceType("RDS")
                 .resourceName(dbInstance.dbInstanceIdentifier())
-                .region(region)
+                .accountId(scope.accountId())
+                .region(scope.region())
                 .availabilityZone(dbInstance.availabilityZone())
                 .state(dbInstance.dbInstanceStatus())
                 .instanceType(dbInstance.dbInstanceClass())
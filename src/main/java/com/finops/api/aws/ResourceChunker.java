@@ -0,0 +1,47 @@
+package com.finops.api.aws;
+
+import com.finops.api.entity.AwsResource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 페이지 단위로 받은 리소스를 {@link ResourceCollector#CHUNK_SIZE} 개씩 모아 sink 로 넘긴다.
+ * 넘긴 청크는 다시 쓰지 않으므로 수집기는 한 번에 한 청크만 들고 있게 된다.
+ */
+public final class ResourceChunker {
+
+    private final Consumer<List<AwsResource>> sink;
+    private List<AwsResource> buffer = new ArrayList<>(ResourceCollector.CHUNK_SIZE);
+    private int total;
+
+    public ResourceChunker(Consumer<List<AwsResource>> sink) {
+        this.sink = sink;
+    }
+
+    public void add(AwsResource resource) {
+        buffer.add(resource);
+        total++;
+        if (buffer.size() >= ResourceCollector.CHUNK_SIZE) {
+            flush();
+        }
+    }
+
+    /**
+     * 남은 리소스를 넘기고 전체 개수를 반환한다.
+     */
+    public int finish() {
+        flush();
+        return total;
+    }
+
+    private void flush() {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        List<AwsResource> chunk = buffer;
+        buffer = new ArrayList<>(ResourceCollector.CHUNK_SIZE);
+        sink.accept(chunk);
+    }
+}
@@ -0,0 +1,32 @@
+package com.finops.api.aws;
+
+import com.finops.api.entity.AwsResource;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 리소스 타입 하나를 조회하는 수집기. 동기화 오케스트레이터가 타입 x 계정 x 리전별로 병렬 실행한다.
+ * 결과는 전체 목록이 아니라 CHUNK_SIZE 이하의 청크로 sink 에 넘긴다. sink 는 저장 단계가 밀리면 블로킹될 수 있다.
+ */
+public interface ResourceCollector {
+
+    int CHUNK_SIZE = 500;
+
+    /**
+     * EC2, RDS, S3, LAMBDA 등 AwsResource.resourceType 값.
+     */
+    String resourceType();
+
+    /**
+     * 리전과 무관한 API(S3 ListBuckets 등)면 true. 계정마다 기본 리전에서 한 번만 실행된다.
+     */
+    default boolean global() {
+        return false;
+    }
+
+    /**
+     * scope 의 계정/리전 리소스를 조회한다. 만드는 AwsResource 에는 scope 의 accountId 와 region 을 넣는다.
+     */
+    void collect(AwsScope scope, Consumer<List<AwsResource>> sink);
+}
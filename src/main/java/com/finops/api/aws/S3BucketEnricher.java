@@ -0,0 +1,170 @@
+package com.finops.api.aws;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Bucket;
+import software.amazon.awssdk.services.s3.model.GetBucketLocationRequest;
+import software.amazon.awssdk.services.s3.model.HeadBucketRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 버킷별 리전(GetBucketLocation)을 제한된 워커 풀에서 동시에 조회한다. 태그는 TagHydrator 가 한꺼번에 채운다.
+ * <ul>
+ *     <li>동시 요청 수는 finops.s3.enrichment.concurrency 로 제한한다.</li>
+ *     <li>스로틀링(SlowDown, 503 등)은 지수 백오프 + full jitter 로 재시도한다.</li>
+ *     <li>버킷 리전은 버킷을 지웠다 다시 만들지 않는 한 바뀌지 않으므로 동기화 간에 캐시한다.</li>
+ *     <li>리전을 알 수 없는 버킷이 있으면 기본 리전으로 채우지 않고 조회를 실패시킨다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@Profile("!local")
+public class S3BucketEnricher {
+
+    // LocationConstraint 가 비어 있으면 us-east-1 이다
+    private static final String DEFAULT_BUCKET_REGION = "us-east-1";
+    private static final String LEGACY_EU = "EU";
+    private static final String LEGACY_EU_REGION = "eu-west-1";
+    private static final String BUCKET_REGION_HEADER = "x-amz-bucket-region";
+
+    private final ExecutorService workers;
+    private final int maxAttempts;
+    private final long baseBackoffMillis;
+    private final long maxBackoffMillis;
+    private final Cache<String, String> bucketRegions;
+
+    public S3BucketEnricher(@Value("${finops.s3.enrichment.concurrency:16}") int concurrency,
+                            @Value("${finops.s3.enrichment.max-attempts:5}") int maxAttempts,
+                            @Value("${finops.s3.enrichment.base-backoff:100ms}") Duration baseBackoff,
+                            @Value("${finops.s3.enrichment.max-backoff:5s}") Duration maxBackoff,
+                            @Value("${finops.s3.enrichment.region-cache-ttl:7d}") Duration regionCacheTtl) {
+        AtomicInteger sequence = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(Math.max(1, concurrency), runnable -> {
+            Thread thread = new Thread(runnable, "s3-enrich-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.baseBackoffMillis = baseBackoff.toMillis();
+        this.maxBackoffMillis = maxBackoff.toMillis();
+        this.bucketRegions = Caffeine.newBuilder()
+                .expireAfterWrite(regionCacheTtl)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    /**
+     * buckets 와 같은 순서로 버킷 리전을 반환한다. 호출 스레드가 interrupt 되면 남은 요청을 취소한다.
+     */
+    public List<String> regions(S3Client s3Client, List<Bucket> buckets) {
+        List<Future<String>> futures = new ArrayList<>(buckets.size());
+        for (Bucket bucket : buckets) {
+            futures.add(workers.submit(() -> region(s3Client, bucket.name())));
+        }
+
+        List<String> regions = new ArrayList<>(buckets.size());
+        try {
+            for (Future<String> future : futures) {
+                regions.add(future.get());
+            }
+            return regions;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("S3 버킷 리전 조회가 중단되었습니다");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("S3 버킷 리전 조회 실패", e.getCause());
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private String region(S3Client s3Client, String bucketName) throws InterruptedException {
+        String cached = bucketRegions.getIfPresent(bucketName);
+        if (cached != null) {
+            return cached;
+        }
+        String region;
+        try {
+            var response = withRetry(bucketName, () -> s3Client.getBucketLocation(
+                    GetBucketLocationRequest.builder().bucket(bucketName).build()));
+            region = normalize(response.locationConstraintAsString());
+        } catch (S3Exception e) {
+            log.debug("S3 버킷 {} GetBucketLocation 실패, HeadBucket 으로 조회: {}", bucketName, e.getMessage());
+            region = headBucketRegion(s3Client, bucketName);
+        }
+        bucketRegions.put(bucketName, region);
+        return region;
+    }
+
+    /**
+     * 버킷 정책이 GetBucketLocation 을 막아도 HeadBucket 응답에는 거부(403)여도 x-amz-bucket-region 헤더가 온다.
+     * 그마저 없으면 리전을 추측하지 않고 실패시킨다. 다른 리전으로 저장되면 태그 조회와 리전별 집계가 조용히 틀어진다.
+     */
+    private String headBucketRegion(S3Client s3Client, String bucketName) throws InterruptedException {
+        Optional<String> region;
+        try {
+            region = withRetry(bucketName, () -> s3Client.headBucket(HeadBucketRequest.builder().bucket(bucketName).build()))
+                    .sdkHttpResponse()
+                    .firstMatchingHeader(BUCKET_REGION_HEADER);
+        } catch (S3Exception e) {
+            region = e.awsErrorDetails() != null && e.awsErrorDetails().sdkHttpResponse() != null
+                    ? e.awsErrorDetails().sdkHttpResponse().firstMatchingHeader(BUCKET_REGION_HEADER)
+                    : Optional.empty();
+            if (region.isEmpty()) {
+                throw new IllegalStateException("S3 버킷 " + bucketName + " 의 리전을 확인할 수 없습니다: " + e.getMessage(), e);
+            }
+        }
+        return region.filter(value -> !value.isBlank())
+                .orElseThrow(() -> new IllegalStateException("S3 버킷 " + bucketName + " 의 리전을 확인할 수 없습니다"));
+    }
+
+    /**
+     * LocationConstraint 를 리전 코드로 바꾼다. 비어 있으면 us-east-1, 오래된 eu-west-1 버킷은 EU 로 온다.
+     */
+    private static String normalize(String locationConstraint) {
+        if (locationConstraint == null || locationConstraint.isEmpty()) {
+            return DEFAULT_BUCKET_REGION;
+        }
+        return LEGACY_EU.equals(locationConstraint) ? LEGACY_EU_REGION : locationConstraint;
+    }
+
+    private <T> T withRetry(String bucketName, Supplier<T> call) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return call.get();
+            } catch (AwsServiceException e) {
+                if (attempt >= maxAttempts || !isThrottled(e)) {
+                    throw e;
+                }
+                long ceiling = Math.min(maxBackoffMillis, baseBackoffMillis << Math.min(attempt - 1, 20));
+                long sleep = ThreadLocalRandom.current().nextLong(ceiling + 1);
+                log.debug("S3 버킷 {} 요청 스로틀링, {} ms 후 재시도 ({}/{})", bucketName, sleep, attempt, maxAttempts);
+                Thread.sleep(sleep);
+            }
+        }
+    }
+
+    private static boolean isThrottled(AwsServiceException e) {
+        return e.isThrottlingException() || e.statusCode() == 503 || e.statusCode() == 429;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdownNow();
+    }
+}
@@ -3,7 +3,6 @@ package com.finops.api.aws;
 import com.finops.api.entity.AwsResource;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 import software.amazon.awssdk.services.s3.S3Client;
@@ -11,67 +10,62 @@ import software.amazon.awssdk.services.s3.model.*;
 
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
 @Profile("!local")
 @RequiredArgsConstructor
-public class S3ClientService {
+public class S3ClientService implements ResourceCollector {
 
-    private final S3Client s3Client;
+    private final AwsClientRegistry clientRegistry;
+    private final S3BucketEnricher bucketEnricher;
 
-    @Value("${aws.region:ap-northeast-2}")
-    private String defaultRegion;
+    @Override
+    public String resourceType() {
+        return "S3";
+    }
+
+    @Override
+    public boolean global() {
+        return true;
+    }
 
-    public List<AwsResource> listBuckets() {
-        log.info("S3 버킷 조회 시작");
-        List<AwsResource> resources = new ArrayList<>();
+    @Override
+    public void collect(AwsScope scope, Consumer<List<AwsResource>> sink) {
+        listBuckets(scope, sink);
+    }
+
+    /**
+     * 버킷 목록은 계정 전체가 한 번에 나오므로 scope 의 리전은 호출용 클라이언트 리전이고, 버킷의 실제 리전은 GetBucketLocation 으로 채운다.
+     * 버킷별 리전 조회는 청크 단위로 S3BucketEnricher 에서 동시에 실행하고, 태그는 동기화 단계에서 Tagging API 로 채운다.
+     */
+    public void listBuckets(AwsScope scope, Consumer<List<AwsResource>> sink) {
+        log.info("S3 버킷 조회 시작 - {}", scope);
+        S3Client s3Client = clientRegistry.s3(scope);
+        ResourceChunker chunker = new ResourceChunker(sink);
 
         try {
+            // ListBuckets 는 이 SDK 버전에서 페이지네이션이 없어 한 번에 받고, 변환 결과만 청크로 넘긴다
             ListBucketsRequest request = ListBucketsRequest.builder().build();
-            var response = s3Client.listBuckets(request);
+            List<Bucket> buckets = s3Client.listBuckets(request).buckets();
 
-            for (Bucket bucket : response.buckets()) {
-                AwsResource resource = mapToAwsResource(bucket);
-                resources.add(resource);
+            for (int from = 0; from < buckets.size(); from += CHUNK_SIZE) {
+                List<Bucket> chunk = buckets.subList(from, Math.min(from + CHUNK_SIZE, buckets.size()));
+                List<String> regions = bucketEnricher.regions(s3Client, chunk);
+                for (int i = 0; i < chunk.size(); i++) {
+                    chunker.add(mapToAwsResource(chunk.get(i), regions.get(i), scope));
+                }
             }
 
-            log.info("S3 버킷 {} 개 조회 완료", resources.size());
+            log.info("S3 버킷 {} 개 조회 완료 - {}", chunker.finish(), scope);
         } catch (Exception e) {
-            log.error("S3 버킷 조회 실패", e);
+            log.error("S3 버킷 조회 실패 - {}", scope, e);
             throw new RuntimeException("S3 버킷 조회 실패", e);
         }
-
-        return resources;
     }
 
-    private AwsResource mapToAwsResource(Bucket bucket) {
-        Map<String, String> tags = new HashMap<>();
-        String region = defaultRegion;
-
-        try {
-            // Get bucket location
-            GetBucketLocationRequest locationRequest = GetBucketLocationRequest.builder()
-                    .bucket(bucket.name())
-                    .build();
-            var locationResponse = s3Client.getBucketLocation(locationRequest);
-            if (locationResponse.locationConstraint() != null) {
-                region = locationResponse.locationConstraintAsString();
-            }
-
-            // Get bucket tagging
-            GetBucketTaggingRequest taggingRequest = GetBucketTaggingRequest.builder()
-                    .bucket(bucket.name())
-                    .build();
-            var taggingResponse = s3Client.getBucketTagging(taggingRequest);
-            tags = taggingResponse.tagSet().stream()
-                    .collect(Collectors.toMap(Tag::key, Tag::value, (a, b) -> a));
-        } catch (S3Exception e) {
-            // Tagging might not exist, ignore
-            log.debug("S3 버킷 {} 태그 조회 실패 (태그 없음)", bucket.name());
-        }
-
+    private AwsResource mapToAwsResource(Bucket bucket, String region, AwsScope scope) {
         Map<String, Object> metadata = new HashMap<>();
         metadata.put("creationDate", bucket.creationDate() != null ? bucket.creationDate().toString() : null);
 
@@ -79,9 +73,9 @@ public class S3ClientService {
                 .resourceId("arn:aws:s3:::" + bucket.name())
                 .resourceType("S3")
                 .resourceName(bucket.name())
-                .region(region.isEmpty() ? "us-east-1" : region)
+                .accountId(scope.accountId())
+                .region(region)
                 .state("active")
-                .tags(tags)
                 .metadata(metadata)
                 .lastSyncedAt(LocalDateTime.now())
                 .build();
@@ -0,0 +1,56 @@
+package com.finops.api.aws;
+
+import com.finops.api.entity.AwsResource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * 로컬/테스트용 지표. 리소스 ID 로 정한 난수로 시계열을 만들므로 같은 리소스는 항상 같은 값을 받는다.
+ * 약 20% 는 거의 쓰지 않는(유휴) 리소스가 되도록 한다. 중지 상태 리소스는 CloudWatch 처럼 데이터가 없다.
+ */
+@Slf4j
+@Component
+@Profile("local")
+public class StubMetricsSource implements UtilizationMetricsSource {
+
+    private static final int IDLE_PERCENT = 20;
+
+    @Override
+    public Map<Long, Map<UtilizationMetric, double[]>> fetch(AwsScope scope, List<AwsResource> resources,
+                                                             Instant start, Instant end, Duration period) {
+        int points = (int) Math.max(1, Duration.between(start, end).dividedBy(period));
+        Map<Long, Map<UtilizationMetric, double[]>> result = new HashMap<>();
+        for (AwsResource resource : resources) {
+            Map<UtilizationMetric, double[]> metrics = new EnumMap<>(UtilizationMetric.class);
+            SplittableRandom random = new SplittableRandom(resource.getResourceId().hashCode());
+            boolean idle = random.nextInt(100) < IDLE_PERCENT;
+            boolean stopped = "stopped".equals(resource.getState());
+            for (UtilizationMetric metric : UtilizationMetric.forType(resource.getResourceType())) {
+                metrics.put(metric, stopped ? new double[0] : series(random, metric, idle, points, period));
+            }
+            result.put(resource.getId(), metrics);
+        }
+        return result;
+    }
+
+    private static double[] series(SplittableRandom random, UtilizationMetric metric, boolean idle, int points,
+                                   Duration period) {
+        double hours = period.toSeconds() / 3600.0;
+        double base = switch (metric) {
+            case EC2_CPU, RDS_CPU -> idle ? 0.5 + random.nextDouble() * 2 : 10 + random.nextDouble() * 60;
+            case EC2_NETWORK_IN, EC2_NETWORK_OUT -> (idle ? 2_000 : 50_000_000) * hours;
+            case RDS_CONNECTIONS -> idle ? 0 : 5 + random.nextInt(50);
+            case LAMBDA_INVOCATIONS -> idle ? 0 : (50 + random.nextInt(1_000)) * hours;
+        };
+        double[] values = new double[points];
+        for (int i = 0; i < points; i++) {
+            values[i] = base * (0.8 + random.nextDouble() * 0.4);
+        }
+        return values;
+    }
+}
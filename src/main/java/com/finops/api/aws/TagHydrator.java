@@ -0,0 +1,89 @@
+package com.finops.api.aws;
+
+import com.finops.api.entity.AwsResource;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.resourcegroupstaggingapi.model.GetResourcesRequest;
+import software.amazon.awssdk.services.resourcegroupstaggingapi.model.ResourceTagMapping;
+import software.amazon.awssdk.services.resourcegroupstaggingapi.model.Tag;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 수집기가 태그를 채우지 않은(null) 리소스에 Resource Groups Tagging API GetResources 결과를 붙인다.
+ * 계정 x 리전마다 페이지네이션으로 ARN → 태그 맵을 한 번 만들어 짧게 캐시하므로,
+ * 같은 범위의 수집기들이 맵을 공유하고 리소스별 태그 조회 호출이 없어진다.
+ * 맵을 만들지 못하면 태그를 비운 채 저장하지 않도록 예외를 그대로 던져 해당 수집 범위를 실패시킨다.
+ */
+@Slf4j
+@Component
+@Profile("!local")
+public class TagHydrator {
+
+    // GetResources 페이지 최대 크기
+    private static final int RESOURCES_PER_PAGE = 100;
+
+    private final AwsClientRegistry clientRegistry;
+    private final List<String> resourceTypeFilters;
+    private final Cache<AwsScope, Map<String, Map<String, String>>> tagMaps;
+
+    public TagHydrator(AwsClientRegistry clientRegistry,
+                       @Value("${finops.tagging.resource-types:lambda:function,s3:bucket}") List<String> resourceTypeFilters,
+                       @Value("${finops.tagging.cache-ttl:10m}") Duration cacheTtl) {
+        this.clientRegistry = clientRegistry;
+        this.resourceTypeFilters = resourceTypeFilters.stream().map(String::trim).filter(s -> !s.isEmpty()).toList();
+        this.tagMaps = Caffeine.newBuilder()
+                .expireAfterWrite(cacheTtl)
+                .build();
+    }
+
+    /**
+     * 태그가 null 인 리소스에 태그를 채운다. ARN 은 resourceId, 리전은 리소스의 실제 리전을 쓴다.
+     * Tagging API 에 없는 리소스는 태그가 없는 것으로 본다.
+     */
+    public void hydrate(AwsScope scope, List<AwsResource> resources) {
+        for (AwsResource resource : resources) {
+            if (resource.getTags() != null) {
+                continue;
+            }
+            AwsScope resourceScope = resource.getRegion() == null || resource.getRegion().equals(scope.region())
+                    ? scope
+                    : new AwsScope(scope.account(), resource.getRegion());
+            Map<String, String> tags = tagMap(resourceScope).get(resource.getResourceId());
+            resource.setTags(tags != null ? new HashMap<>(tags) : new HashMap<>());
+        }
+    }
+
+    private Map<String, Map<String, String>> tagMap(AwsScope scope) {
+        return tagMaps.get(scope, this::load);
+    }
+
+    private Map<String, Map<String, String>> load(AwsScope scope) {
+        long started = System.currentTimeMillis();
+        GetResourcesRequest request = GetResourcesRequest.builder()
+                .resourceTypeFilters(resourceTypeFilters)
+                .resourcesPerPage(RESOURCES_PER_PAGE)
+                .build();
+
+        Map<String, Map<String, String>> tagsByArn = new HashMap<>();
+        int pages = 0;
+        for (var page : clientRegistry.tagging(scope).getResourcesPaginator(request)) {
+            pages++;
+            for (ResourceTagMapping mapping : page.resourceTagMappingList()) {
+                tagsByArn.put(mapping.resourceARN(), mapping.tags().stream()
+                        .collect(Collectors.toMap(Tag::key, Tag::value, (a, b) -> a)));
+            }
+        }
+        log.info("태그 맵 생성 - {}: 리소스 {} 개, {} 페이지, {} ms",
+                scope, tagsByArn.size(), pages, System.currentTimeMillis() - started);
+        return tagsByArn;
+    }
+}
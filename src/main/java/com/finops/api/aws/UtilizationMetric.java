@@ -0,0 +1,60 @@
+package com.finops.api.aws;
+
+import com.finops.api.entity.AwsResource;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 유휴 판정에 쓰는 CloudWatch 지표. 리소스 타입별로 네임스페이스, 통계, 차원이 정해져 있다.
+ */
+public enum UtilizationMetric {
+
+    EC2_CPU("EC2", "AWS/EC2", "CPUUtilization", "Average", "InstanceId"),
+    EC2_NETWORK_IN("EC2", "AWS/EC2", "NetworkIn", "Sum", "InstanceId"),
+    EC2_NETWORK_OUT("EC2", "AWS/EC2", "NetworkOut", "Sum", "InstanceId"),
+    RDS_CPU("RDS", "AWS/RDS", "CPUUtilization", "Average", "DBInstanceIdentifier"),
+    RDS_CONNECTIONS("RDS", "AWS/RDS", "DatabaseConnections", "Maximum", "DBInstanceIdentifier"),
+    LAMBDA_INVOCATIONS("LAMBDA", "AWS/Lambda", "Invocations", "Sum", "FunctionName");
+
+    private final String resourceType;
+    private final String namespace;
+    private final String metricName;
+    private final String statistic;
+    private final String dimension;
+
+    UtilizationMetric(String resourceType, String namespace, String metricName, String statistic, String dimension) {
+        this.resourceType = resourceType;
+        this.namespace = namespace;
+        this.metricName = metricName;
+        this.statistic = statistic;
+        this.dimension = dimension;
+    }
+
+    public static List<UtilizationMetric> forType(String resourceType) {
+        return Arrays.stream(values()).filter(metric -> metric.resourceType.equals(resourceType)).toList();
+    }
+
+    public String namespace() {
+        return namespace;
+    }
+
+    public String metricName() {
+        return metricName;
+    }
+
+    public String statistic() {
+        return statistic;
+    }
+
+    public String dimension() {
+        return dimension;
+    }
+
+    /**
+     * 차원 값. EC2 는 인스턴스 ID(resourceId), RDS/Lambda 는 ARN 대신 식별자(resourceName)를 쓴다.
+     */
+    public String dimensionValue(AwsResource resource) {
+        return "EC2".equals(resourceType) ? resource.getResourceId() : resource.getResourceName();
+    }
+}
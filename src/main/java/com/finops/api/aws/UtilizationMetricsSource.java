@@ -0,0 +1,24 @@
+package com.finops.api.aws;
+
+import com.finops.api.entity.AwsResource;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 리소스 사용률 지표 조회. 운영은 CloudWatch GetMetricData, 로컬은 결정적인 스텁을 쓴다.
+ */
+public interface UtilizationMetricsSource {
+
+    // GetMetricData 요청 하나에 넣을 수 있는 쿼리 수 상한
+    int MAX_QUERIES_PER_REQUEST = 500;
+
+    /**
+     * scope 의 resources 에 대해 타입별 UtilizationMetric 을 [start, end) 구간, period 간격으로 조회한다.
+     * 반환 맵의 키는 AwsResource.id 이고, 데이터가 없는 지표는 빈 배열이다.
+     */
+    Map<Long, Map<UtilizationMetric, double[]>> fetch(AwsScope scope, List<AwsResource> resources,
+                                                      Instant start, Instant end, Duration period);
+}
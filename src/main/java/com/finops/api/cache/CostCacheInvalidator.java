@@ -0,0 +1,63 @@
+package com.finops.api.cache;
+
+import com.finops.api.event.CostDataChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.function.Predicate;
+
+/**
+ * 비용 데이터 변경 이벤트를 받아, 변경 기간과 겹치는 캐시 항목만 지운다.
+ * 인덱스/롤업/큐브 갱신이 끝난 뒤에 지워야 다음 조회가 갱신된 값을 캐시하므로 가장 마지막 순서로 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CostCacheInvalidator {
+
+    private final CacheManager cacheManager;
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCostDataChanged(CostDataChangedEvent event) {
+        int removed = evict(key -> key.overlaps(event.startDate(), event.endDate()));
+        log.debug("비용 캐시 무효화: {} ~ {}, {} 건", event.startDate(), event.endDate(), removed);
+    }
+
+    /**
+     * 자정이 지나면 "오늘" 기준 항목은 더 이상 조회되지 않으므로 TTL 을 기다리지 않고 비운다.
+     */
+    @Scheduled(cron = "0 0 0 * * *")
+    public void onDayChanged() {
+        LocalDate today = LocalDate.now();
+        int removed = evict(key -> key.relative() && key.rangeEnd().isBefore(today));
+        log.debug("날짜 변경으로 비용 캐시 {} 건 제거", removed);
+    }
+
+    private int evict(Predicate<CostCacheKey> predicate) {
+        int removed = 0;
+        for (String name : CostCaches.ALL) {
+            Cache cache = cacheManager.getCache(name);
+            if (!(cache instanceof CaffeineCache caffeineCache)) {
+                if (cache != null) {
+                    cache.clear();
+                }
+                continue;
+            }
+            var keys = caffeineCache.getNativeCache().asMap().keySet();
+            int before = keys.size();
+            keys.removeIf(key -> key instanceof CostCacheKey costKey && predicate.test(costKey));
+            removed += before - keys.size();
+        }
+        return removed;
+    }
+}
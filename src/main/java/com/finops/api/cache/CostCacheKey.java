@@ -0,0 +1,22 @@
+package com.finops.api.cache;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 비용 캐시 키. 메서드 인자와 함께 결과가 의존하는 비용 일자 범위를 들고 있어,
+ * 변경 이벤트가 오면 범위가 겹치는 항목만 골라 지울 수 있다.
+ *
+ * @param relative 인자에 기간이 없고 "오늘" 기준으로 계산되는 결과인지 여부. 키에 오늘 날짜가 포함된다.
+ */
+public record CostCacheKey(
+        String method,
+        List<Object> args,
+        LocalDate rangeStart,
+        LocalDate rangeEnd,
+        boolean relative
+) {
+    public boolean overlaps(LocalDate startDate, LocalDate endDate) {
+        return !rangeStart.isAfter(endDate) && !rangeEnd.isBefore(startDate);
+    }
+}
@@ -0,0 +1,42 @@
+package com.finops.api.cache;
+
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 인자 중 앞의 두 LocalDate 를 (시작일, 종료일) 범위로 본다.
+ * 기간 인자가 없는 메서드(이번 달, 지난 달, 오늘, 대시보드)는 오늘 날짜를 키에 넣어 날짜가 바뀌면 자연히 새 키가 되고,
+ * 범위는 지난 달 1일 ~ 오늘로 잡는다.
+ */
+@Component(CostCaches.KEY_GENERATOR)
+public class CostCacheKeyGenerator implements KeyGenerator {
+
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        List<LocalDate> dates = new ArrayList<>(2);
+        for (Object param : params) {
+            if (param instanceof LocalDate date && dates.size() < 2) {
+                dates.add(date);
+            }
+        }
+
+        String name = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        if (dates.size() == 2) {
+            return new CostCacheKey(name, Collections.unmodifiableList(new ArrayList<>(Arrays.asList(params))),
+                    dates.get(0), dates.get(1), false);
+        }
+
+        LocalDate today = LocalDate.now();
+        List<Object> args = new ArrayList<>(Arrays.asList(params));
+        args.add(today);
+        return new CostCacheKey(name, Collections.unmodifiableList(args),
+                today.minusMonths(1).withDayOfMonth(1), today, true);
+    }
+}
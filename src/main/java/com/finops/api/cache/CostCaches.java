@@ -0,0 +1,32 @@
+package com.finops.api.cache;
+
+import java.util.List;
+
+/**
+ * 비용 조회 캐시 이름. application.yml 의 spring.cache.cache-names 와 같아야 한다.
+ */
+public final class CostCaches {
+
+    public static final String KEY_GENERATOR = "costCacheKeyGenerator";
+
+    public static final String DASHBOARD_SUMMARY = "dashboardSummary";
+    public static final String DAILY_COSTS = "dailyCosts";
+    public static final String DAILY_COST_TOTALS = "dailyCostTotals";
+    public static final String SERVICE_COSTS = "serviceCosts";
+    public static final String SERVICE_COST_SUMMARY = "serviceCostSummary";
+    public static final String TOP_SERVICES = "topServices";
+    public static final String SERVICE_COST_SERIES = "serviceCostSeries";
+
+    public static final List<String> ALL = List.of(
+            DASHBOARD_SUMMARY,
+            DAILY_COSTS,
+            DAILY_COST_TOTALS,
+            SERVICE_COSTS,
+            SERVICE_COST_SUMMARY,
+            TOP_SERVICES,
+            SERVICE_COST_SERIES
+    );
+
+    private CostCaches() {
+    }
+}
@@ -7,82 +7,19 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
-import software.amazon.awssdk.services.cloudwatch.CloudWatchClient;
-import software.amazon.awssdk.services.ec2.Ec2Client;
-import software.amazon.awssdk.services.lambda.LambdaClient;
 import software.amazon.awssdk.services.pricing.PricingClient;
-import software.amazon.awssdk.services.rds.RdsClient;
-import software.amazon.awssdk.services.resourcegroupstaggingapi.ResourceGroupsTaggingApiClient;
-import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.ses.SesClient;
+import software.amazon.awssdk.services.sts.StsClient;
 
 @Slf4j
 @Configuration
 public class AwsSdkConfig {
 
+    // EC2, RDS, S3, Lambda, Tagging, CloudWatch 인벤토리 클라이언트는 계정/리전별로 AwsClientRegistry 가 만든다
+
     @Value("${aws.region:ap-northeast-2}")
     private String region;
 
-    @Bean
-    @Profile("!local")
-    public Ec2Client ec2Client() {
-        log.info("EC2 Client 생성 - Region: {}", region);
-        return Ec2Client.builder()
-                .region(Region.of(region))
-                .credentialsProvider(DefaultCredentialsProvider.create())
-                .build();
-    }
-
-    @Bean
-    @Profile("!local")
-    public RdsClient rdsClient() {
-        log.info("RDS Client 생성 - Region: {}", region);
-        return RdsClient.builder()
-                .region(Region.of(region))
-                .credentialsProvider(DefaultCredentialsProvider.create())
-                .build();
-    }
-
-    @Bean
-    @Profile("!local")
-    public S3Client s3Client() {
-        log.info("S3 Client 생성 - Region: {}", region);
-        return S3Client.builder()
-                .region(Region.of(region))
-                .credentialsProvider(DefaultCredentialsProvider.create())
-                .build();
-    }
-
-    @Bean
-    @Profile("!local")
-    public LambdaClient lambdaClient() {
-        log.info("Lambda Client 생성 - Region: {}", region);
-        return LambdaClient.builder()
-                .region(Region.of(region))
-                .credentialsProvider(DefaultCredentialsProvider.create())
-                .build();
-    }
-
-    @Bean
-    @Profile("!local")
-    public CloudWatchClient cloudWatchClient() {
-        log.info("CloudWatch Client 생성 - Region: {}", region);
-        return CloudWatchClient.builder()
-                .region(Region.of(region))
-                .credentialsProvider(DefaultCredentialsProvider.create())
-                .build();
-    }
-
-    @Bean
-    @Profile("!local")
-    public ResourceGroupsTaggingApiClient taggingClient() {
-        log.info("Resource Groups Tagging API Client 생성 - Region: {}", region);
-        return ResourceGroupsTaggingApiClient.builder()
-                .region(Region.of(region))
-                .credentialsProvider(DefaultCredentialsProvider.create())
-                .build();
-    }
-
     @Bean
     @Profile("!local")
     public PricingClient pricingClient() {
@@ -103,60 +40,38 @@ public class AwsSdkConfig {
                 .build();
     }
 
-    // Local profile용 Mock beans
-    @Bean
-    @Profile("local")
-    public Ec2Client mockEc2Client() {
-        log.info("Mock EC2 Client 생성 (로컬 환경)");
-        return null;
-    }
-
-    @Bean
-    @Profile("local")
-    public RdsClient mockRdsClient() {
-        log.info("Mock RDS Client 생성 (로컬 환경)");
-        return null;
-    }
-
-    @Bean
-    @Profile("local")
-    public S3Client mockS3Client() {
-        log.info("Mock S3 Client 생성 (로컬 환경)");
-        return null;
-    }
-
+    /**
+     * 인벤토리 계정 AssumeRole 과 기본 계정 ID 조회에 쓴다.
+     */
     @Bean
-    @Profile("local")
-    public LambdaClient mockLambdaClient() {
-        log.info("Mock Lambda Client 생성 (로컬 환경)");
-        return null;
-    }
-
-    @Bean
-    @Profile("local")
-    public CloudWatchClient mockCloudWatchClient() {
-        log.info("Mock CloudWatch Client 생성 (로컬 환경)");
-        return null;
+    @Profile("!local")
+    public StsClient stsClient() {
+        log.info("STS Client 생성 - Region: {}", region);
+        return StsClient.builder()
+                .region(Region.of(region))
+                .credentialsProvider(DefaultCredentialsProvider.create())
+                .build();
     }
 
+    // Local profile용 Mock beans
     @Bean
     @Profile("local")
-    public ResourceGroupsTaggingApiClient mockTaggingClient() {
-        log.info("Mock Tagging Client 생성 (로컬 환경)");
+    public PricingClient mockPricingClient() {
+        log.info("Mock Pricing Client 생성 (로컬 환경)");
         return null;
     }
 
     @Bean
     @Profile("local")
-    public PricingClient mockPricingClient() {
-        log.info("Mock Pricing Client 생성 (로컬 환경)");
+    public SesClient mockSesClient() {
+        log.info("Mock SES Client 생성 (로컬 환경)");
         return null;
     }
 
     @Bean
     @Profile("local")
-    public SesClient mockSesClient() {
-        log.info("Mock SES Client 생성 (로컬 환경)");
+    public StsClient mockStsClient() {
+        log.info("Mock STS Client 생성 (로컬 환경)");
         return null;
     }
 }
@@ -0,0 +1,50 @@
+package com.finops.api.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * IDENTITY 에서 pooled 시퀀스로 바뀐 테이블의 시퀀스를 기존 최대 id 뒤로 맞춘다.
+ * ddl-auto=update 가 새로 만든 시퀀스는 1부터 시작하므로, 기존 행과 id 가 겹치지 않게 한다.
+ */
+@Slf4j
+@Component
+@Profile("prod")
+@Order(0)
+@RequiredArgsConstructor
+public class CostSequenceInitializer implements ApplicationRunner {
+
+    // 엔티티의 @SequenceGenerator allocationSize 와 동일해야 한다
+    private static final int ALLOCATION_SIZE = 50;
+
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "daily_costs", "daily_costs_seq",
+            "service_costs", "service_costs_seq",
+            "aws_resources", "aws_resources_seq"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        SEQUENCES.forEach(this::alignSequence);
+    }
+
+    private void alignSequence(String table, String sequence) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        Long lastValue = jdbcTemplate.queryForObject("SELECT last_value FROM " + sequence, Long.class);
+        if (maxId == null || lastValue == null || lastValue >= maxId + ALLOCATION_SIZE) {
+            return;
+        }
+        jdbcTemplate.queryForObject("SELECT setval('" + sequence + "', ?)", Long.class, maxId + ALLOCATION_SIZE);
+        log.info("시퀀스 {} 를 {} 테이블 최대 id({}) 이후로 조정", sequence, table, maxId);
+    }
+}
@@ -0,0 +1,24 @@
+package com.finops.api.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class CurImportConfig {
+
+    /**
+     * CUR 가져오기를 요청 스레드 밖에서 실행하는 스레드. 가져오기는 한 번에 하나만 돌므로 대기열을 두지 않는다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor curImportExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("cur-import-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
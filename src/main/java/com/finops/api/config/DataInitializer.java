@@ -1,17 +1,20 @@
 package com.finops.api.config;
 
-import com.finops.api.entity.DailyCost;
-import com.finops.api.entity.ServiceCost;
+import com.finops.api.dto.ingest.CostIngestRequest;
 import com.finops.api.repository.DailyCostRepository;
 import com.finops.api.repository.ServiceCostRepository;
+import com.finops.api.service.CostIngestionService;
+import com.finops.api.synthetic.SyntheticInventoryGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
@@ -23,6 +26,7 @@ public class DataInitializer implements CommandLineRunner {
 
     private final DailyCostRepository dailyCostRepository;
     private final ServiceCostRepository serviceCostRepository;
+    private final CostIngestionService costIngestionService;
 
     private static final List<String> AWS_SERVICES = List.of(
             "Amazon EC2", "Amazon S3", "Amazon RDS",
@@ -32,6 +36,16 @@ public class DataInitializer implements CommandLineRunner {
 
     private final Random random = new Random();
 
+    // 0 보다 크면 최근 N 년치 비용을 SyntheticInventoryGenerator 로 만든다 (부하 테스트용)
+    @Value("${finops.synthetic.cost-years:0}")
+    private int syntheticCostYears;
+
+    @Value("${finops.synthetic.seed:42}")
+    private long syntheticSeed;
+
+    @Value("${finops.synthetic.base-date:2024-01-01}")
+    private String syntheticBaseDate;
+
     @Override
     public void run(String... args) {
         if (dailyCostRepository.count() > 0) {
@@ -40,13 +54,36 @@ public class DataInitializer implements CommandLineRunner {
         }
 
         log.info("테스트 데이터 초기화 시작...");
-        initializeDailyCosts();
-        initializeServiceCosts();
+        if (syntheticCostYears > 0) {
+            ingestSyntheticCosts();
+            return;
+        }
+        costIngestionService.ingest(new CostIngestRequest(initializeDailyCosts(), initializeServiceCosts()));
+        log.info("일별 비용 데이터 {} 건, 서비스별 비용 데이터 {} 건 생성",
+                dailyCostRepository.count(), serviceCostRepository.count());
         log.info("테스트 데이터 초기화 완료!");
     }
 
-    private void initializeDailyCosts() {
+    /**
+     * 여러 해 치를 한 번에 만들지 않고 한 달씩 만들어 적재한다.
+     */
+    private void ingestSyntheticCosts() {
+        SyntheticInventoryGenerator generator = new SyntheticInventoryGenerator(syntheticSeed,
+                LocalDate.parse(syntheticBaseDate).atStartOfDay());
         LocalDate today = LocalDate.now();
+        for (LocalDate from = today.minusYears(syntheticCostYears); !from.isAfter(today); from = from.plusMonths(1)) {
+            LocalDate to = from.plusMonths(1).minusDays(1).isAfter(today) ? today : from.plusMonths(1).minusDays(1);
+            costIngestionService.ingest(new CostIngestRequest(
+                    generator.dailyCosts(from, to).toList(),
+                    generator.serviceCosts(from, to).toList()));
+        }
+        log.info("가상 비용 데이터 {} 년치 생성 (seed {}): 일별 {} 건, 서비스별 {} 건", syntheticCostYears, syntheticSeed,
+                dailyCostRepository.count(), serviceCostRepository.count());
+    }
+
+    private List<CostIngestRequest.DailyCostRow> initializeDailyCosts() {
+        LocalDate today = LocalDate.now();
+        List<CostIngestRequest.DailyCostRow> rows = new ArrayList<>();
 
         for (int i = 60; i >= 0; i--) {
             LocalDate date = today.minusDays(i);
@@ -57,20 +94,19 @@ public class DataInitializer implements CommandLineRunner {
                 baseCost = baseCost.multiply(BigDecimal.valueOf(0.7));
             }
 
-            DailyCost dailyCost = DailyCost.builder()
-                    .costDate(date)
-                    .totalCost(baseCost.setScale(4, java.math.RoundingMode.HALF_UP))
-                    .currency("USD")
-                    .build();
-
-            dailyCostRepository.save(dailyCost);
+            rows.add(new CostIngestRequest.DailyCostRow(
+                    date,
+                    baseCost.setScale(4, java.math.RoundingMode.HALF_UP),
+                    "USD"
+            ));
         }
 
-        log.info("일별 비용 데이터 {} 건 생성", dailyCostRepository.count());
+        return rows;
     }
 
-    private void initializeServiceCosts() {
+    private List<CostIngestRequest.ServiceCostRow> initializeServiceCosts() {
         LocalDate today = LocalDate.now();
+        List<CostIngestRequest.ServiceCostRow> rows = new ArrayList<>();
 
         for (int i = 60; i >= 0; i--) {
             LocalDate date = today.minusDays(i);
@@ -78,18 +114,16 @@ public class DataInitializer implements CommandLineRunner {
             for (String service : AWS_SERVICES) {
                 BigDecimal cost = generateServiceCost(service);
 
-                ServiceCost serviceCost = ServiceCost.builder()
-                        .costDate(date)
-                        .serviceName(service)
-                        .cost(cost.setScale(4, java.math.RoundingMode.HALF_UP))
-                        .currency("USD")
-                        .build();
-
-                serviceCostRepository.save(serviceCost);
+                rows.add(new CostIngestRequest.ServiceCostRow(
+                        date,
+                        service,
+                        cost.setScale(4, java.math.RoundingMode.HALF_UP),
+                        "USD"
+                ));
             }
         }
 
-        log.info("서비스별 비용 데이터 {} 건 생성", serviceCostRepository.count());
+        return rows;
     }
 
     private BigDecimal generateServiceCost(String service) {
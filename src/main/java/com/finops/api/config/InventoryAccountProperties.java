@@ -0,0 +1,27 @@
+package com.finops.api.config;
+
+import com.finops.api.aws.AwsAccount;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * finops.inventory 설정. 계정 목록이 길어 @Value 대신 바인딩 클래스로 받는다.
+ *
+ * @param accounts        수집 대상 계정. 비어 있으면 기본 자격 증명의 계정 하나만 수집한다
+ * @param roleName        roleArn 을 생략한 계정에 쓸 역할 이름 (arn:aws:iam::{id}:role/{roleName})
+ * @param sessionDuration AssumeRole 세션 길이
+ * @param refreshBefore   만료 이 시간 전에 세션을 미리 갱신한다
+ * @param fakeCredentials true 면 STS 를 호출하지 않고 고정 자격 증명을 쓴다 (로컬 스텁/테스트용)
+ */
+@ConfigurationProperties(prefix = "finops.inventory")
+public record InventoryAccountProperties(
+        @DefaultValue List<AwsAccount> accounts,
+        String roleName,
+        @DefaultValue("1h") Duration sessionDuration,
+        @DefaultValue("5m") Duration refreshBefore,
+        @DefaultValue("false") boolean fakeCredentials
+) {
+}
@@ -0,0 +1,61 @@
+package com.finops.api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+
+@Configuration
+@EnableConfigurationProperties(InventoryAccountProperties.class)
+public class ResourceSyncConfig {
+
+    /**
+     * 리소스 수집기를 병렬로 실행하는 풀. 풀 크기가 전체 동기화의 동시 실행 상한이다.
+     * AWS API 호출 대기 위주라 CPU 수보다 크게 잡아도 된다. 큐까지 가득 차면 해당 수집기는 실패로 보고된다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor resourceSyncExecutor(@Value("${finops.sync.pool-size:8}") int poolSize,
+                                                       @Value("${finops.sync.queue-capacity:1024}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("resource-sync-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 동기화 작업(SyncJob)을 실행하는 풀. 작업 하나가 수집기 여러 개를 resourceSyncExecutor 에 나눠 맡기므로 작게 둔다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor resourceSyncJobExecutor(@Value("${finops.sync.max-concurrent-jobs:2}") int maxJobs) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxJobs);
+        executor.setMaxPoolSize(maxJobs);
+        executor.setQueueCapacity(16);
+        executor.setThreadNamePrefix("resource-sync-job-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 유휴 리소스 평가(IdleDetectionEngine)를 실행하는 스레드. 동기화 작업 풀과 나눠 두어 긴 평가가 SyncJob 자리를 차지하지 않는다.
+     * 평가는 한 번에 하나만 돌지만, 직전 평가가 running 을 풀고 스레드를 반납하기 직전에 온 요청이 거절되지 않도록 대기열을 하나 둔다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor idleDetectionExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("idle-detection-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,48 @@
+package com.finops.api.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 외래 키 도입 전에 만들어진 aws_resource_tags 에 ON DELETE CASCADE 외래 키를 붙인다.
+ * ddl-auto=update 는 고아 태그 행(리소스가 지워진 태그)이 있으면 외래 키를 만들지 못하고 넘어가므로,
+ * 고아 행을 지운 뒤 같은 트랜잭션에서 제약을 추가한다. 이미 있으면 아무것도 하지 않는다.
+ */
+@Slf4j
+@Component
+@Profile("prod")
+@Order(0)
+@RequiredArgsConstructor
+public class ResourceTagForeignKeyInitializer implements ApplicationRunner {
+
+    // ResourceTag.resource 의 @ForeignKey 이름과 같아야 한다
+    private static final String CONSTRAINT = "fk_aws_resource_tags_resource";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM pg_constraint WHERE conname = ?", Integer.class, CONSTRAINT);
+        if (existing != null && existing > 0) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            int orphans = jdbcTemplate.update("""
+                    DELETE FROM aws_resource_tags t
+                    WHERE NOT EXISTS (SELECT 1 FROM aws_resources r WHERE r.id = t.resource_id)
+                    """);
+            jdbcTemplate.execute("ALTER TABLE aws_resource_tags ADD CONSTRAINT " + CONSTRAINT
+                    + " FOREIGN KEY (resource_id) REFERENCES aws_resources (id) ON DELETE CASCADE");
+            log.info("aws_resource_tags 외래 키 추가, 고아 태그 행 {} 개 삭제", orphans);
+        });
+    }
+}
@@ -0,0 +1,50 @@
+package com.finops.api.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Postgres 에서 aws_resources.tags 에 JSONB GIN 식 인덱스를 만든다. 컬럼은 text 그대로 두고
+ * CAST(tags AS jsonb) 에 jsonb_path_ops 인덱스를 걸어 @> (포함) 조회만 인덱스로 처리한다.
+ * 인덱스가 준비되면 태그 조회가 aws_resource_tags 대신 이 인덱스를 쓴다.
+ */
+@Slf4j
+@Component
+@Profile("prod")
+@ConditionalOnProperty(name = "finops.resources.tags.jsonb-index", havingValue = "true")
+public class ResourceTagJsonbIndex implements ApplicationRunner {
+
+    private static final String CREATE_INDEX = """
+            CREATE INDEX IF NOT EXISTS idx_aws_resources_tags_gin
+            ON aws_resources USING GIN ((CAST(tags AS jsonb)) jsonb_path_ops)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile boolean ready;
+
+    public ResourceTagJsonbIndex(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            jdbcTemplate.execute(CREATE_INDEX);
+            ready = true;
+            log.info("aws_resources.tags JSONB GIN 인덱스 준비 완료");
+        } catch (DataAccessException e) {
+            // JSON 이 아닌 값이 남아 있는 등으로 실패하면 정규화 테이블 조회를 계속 쓴다
+            log.warn("aws_resources.tags JSONB 인덱스 생성 실패, aws_resource_tags 로 조회합니다", e);
+        }
+    }
+
+    public boolean ready() {
+        return ready;
+    }
+}
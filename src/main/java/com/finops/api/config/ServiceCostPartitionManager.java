@@ -0,0 +1,201 @@
+package com.finops.api.config;
+
+import com.finops.api.event.CostDataChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Postgres 에서 service_costs 를 cost_date 기준 월 단위 RANGE 파티션 테이블로 운영한다.
+ * <ul>
+ *     <li>기동 시 일반 테이블이면 파티션 테이블로 옮기고, 앞으로 쓸 월 파티션을 미리 만든다.</li>
+ *     <li>매일 유지보수 작업에서 미래 파티션을 보충하고, 보존 기간이 지난 파티션은 DETACH 하여 보관 테이블로 남긴다.</li>
+ *     <li>분리한 월은 CostDataChangedEvent 로 알려 롤업/큐브/캐시에서도 빠지게 한다.</li>
+ * </ul>
+ * 조회 쿼리는 모두 cost_date BETWEEN 조건을 쓰므로 Postgres 가 해당 월 파티션만 읽는다.
+ */
+@Slf4j
+@Component
+@Profile("prod")
+@Order(1)
+@ConditionalOnProperty(name = "finops.partitioning.enabled", havingValue = "true")
+public class ServiceCostPartitionManager implements ApplicationRunner {
+
+    private static final String TABLE = "service_costs";
+    private static final String DEFAULT_PARTITION = TABLE + "_default";
+    private static final String PARTITION_PREFIX = TABLE + "_p";
+    private static final String ARCHIVE_PREFIX = TABLE + "_archive_p";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("uuuuMM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final boolean dropDetached;
+
+    public ServiceCostPartitionManager(JdbcTemplate jdbcTemplate,
+                                       TransactionTemplate transactionTemplate,
+                                       ApplicationEventPublisher eventPublisher,
+                                       @Value("${finops.partitioning.months-ahead:3}") int monthsAhead,
+                                       @Value("${finops.partitioning.retention-months:0}") int retentionMonths,
+                                       @Value("${finops.partitioning.drop-detached:false}") boolean dropDetached) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.dropDetached = dropDetached;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        String kind = relationKind(TABLE);
+        if ("r".equals(kind)) {
+            transactionTemplate.executeWithoutResult(status -> convertToPartitioned());
+        } else if (!"p".equals(kind)) {
+            log.warn("{} 테이블이 없어 파티션 구성을 건너뜁니다", TABLE);
+            return;
+        }
+        maintain();
+    }
+
+    @Scheduled(cron = "${finops.partitioning.maintenance-cron:0 0 3 * * *}")
+    public void maintain() {
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= monthsAhead; i++) {
+            createPartition(current.plusMonths(i));
+        }
+        if (retentionMonths > 0) {
+            detachExpired(current.minusMonths(retentionMonths));
+        }
+    }
+
+    /**
+     * 기존 일반 테이블을 같은 컬럼의 파티션 테이블로 교체한다. 한 트랜잭션 안에서 수행된다.
+     * 파티션 테이블의 PK 는 파티션 키를 포함해야 하므로 (id, cost_date) 로 바꾼다.
+     */
+    private void convertToPartitioned() {
+        log.info("{} 를 월 단위 파티션 테이블로 전환 시작", TABLE);
+        long started = System.currentTimeMillis();
+
+        String legacy = TABLE + "_legacy";
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " RENAME TO " + legacy);
+        jdbcTemplate.execute("CREATE TABLE " + TABLE + " (LIKE " + legacy + " INCLUDING DEFAULTS INCLUDING CONSTRAINTS)"
+                + " PARTITION BY RANGE (cost_date)");
+        jdbcTemplate.execute("CREATE TABLE " + DEFAULT_PARTITION + " PARTITION OF " + TABLE + " DEFAULT");
+
+        List<Object[]> range = jdbcTemplate.query("SELECT MIN(cost_date), MAX(cost_date) FROM " + legacy,
+                (rs, rowNum) -> new Object[]{rs.getObject(1, LocalDate.class), rs.getObject(2, LocalDate.class)});
+        YearMonth last = YearMonth.now().plusMonths(monthsAhead);
+        YearMonth first = YearMonth.now();
+        if (range.get(0)[0] != null) {
+            first = YearMonth.from((LocalDate) range.get(0)[0]);
+            YearMonth dataLast = YearMonth.from((LocalDate) range.get(0)[1]);
+            last = dataLast.isAfter(last) ? dataLast : last;
+        }
+        for (YearMonth month = first; !month.isAfter(last); month = month.plusMonths(1)) {
+            createPartition(month);
+        }
+
+        int copied = jdbcTemplate.update("INSERT INTO " + TABLE + " SELECT * FROM " + legacy);
+        jdbcTemplate.execute("DROP TABLE " + legacy);
+
+        // PK/인덱스 이름이 기존 테이블과 겹치므로 기존 테이블 삭제 후 만든다. 부모에 만들면 모든 파티션에 전파된다.
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " ADD PRIMARY KEY (id, cost_date)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_service_costs_date ON " + TABLE + " (cost_date)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_service_costs_service ON " + TABLE + " (service_name)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_service_costs_date_service_cost ON " + TABLE
+                + " (cost_date, service_name, cost)");
+
+        log.info("{} 파티션 전환 완료: {} 행, {} ms", TABLE, copied, System.currentTimeMillis() - started);
+    }
+
+    private void createPartition(YearMonth month) {
+        String name = PARTITION_PREFIX + month.format(SUFFIX);
+        if (relationKind(name) != null) {
+            return;
+        }
+        try {
+            jdbcTemplate.execute("CREATE TABLE " + name + " PARTITION OF " + TABLE
+                    + " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+            log.info("파티션 생성: {}", name);
+        } catch (DataAccessException e) {
+            // 기본 파티션에 같은 월 행이 이미 있으면 생성할 수 없다. 다음 유지보수 때 다시 시도한다.
+            log.warn("파티션 생성 실패: {} ({})", name, e.getMostSpecificCause().getMessage());
+        }
+    }
+
+    /**
+     * cutoff 월 이전 파티션을 분리한다. 분리된 테이블은 보관용 이름으로 바꾸거나 설정에 따라 삭제한다.
+     * 분리가 끝나면 분리한 월 범위로 CostDataChangedEvent 를 발행한다. 롤업은 그 범위를 일별 데이터에서 다시 계산하므로
+     * 해당 월/주 버킷이 지워지고, 큐브와 캐시도 같은 범위를 비운다.
+     */
+    void detachExpired(YearMonth cutoff) {
+        List<String> partitions = jdbcTemplate.queryForList("""
+                SELECT c.relname
+                FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                JOIN pg_class p ON p.oid = i.inhparent
+                WHERE p.relname = ?
+                ORDER BY c.relname
+                """, String.class, TABLE);
+
+        YearMonth first = null;
+        YearMonth last = null;
+        for (String partition : partitions) {
+            if (!partition.startsWith(PARTITION_PREFIX)) {
+                continue;
+            }
+            YearMonth month = YearMonth.parse(partition.substring(PARTITION_PREFIX.length()), SUFFIX);
+            if (!month.isBefore(cutoff)) {
+                continue;
+            }
+
+            transactionTemplate.executeWithoutResult(status -> detach(partition, month));
+            first = first == null || month.isBefore(first) ? month : first;
+            last = last == null || month.isAfter(last) ? month : last;
+        }
+
+        if (first != null) {
+            eventPublisher.publishEvent(new CostDataChangedEvent(first.atDay(1), last.atEndOfMonth()));
+        }
+    }
+
+    private void detach(String partition, YearMonth month) {
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " DETACH PARTITION " + partition);
+        if (dropDetached) {
+            jdbcTemplate.execute("DROP TABLE " + partition);
+            log.info("보존 기간이 지난 파티션 삭제: {}", partition);
+        } else {
+            String archive = ARCHIVE_PREFIX + month.format(SUFFIX);
+            jdbcTemplate.execute("ALTER TABLE " + partition + " RENAME TO " + archive);
+            log.info("보존 기간이 지난 파티션 분리: {} -> {}", partition, archive);
+        }
+    }
+
+    /**
+     * pg_class.relkind 를 반환한다. r=일반 테이블, p=파티션 테이블, 없으면 null.
+     */
+    private String relationKind(String name) {
+        List<String> kinds = jdbcTemplate.queryForList(
+                "SELECT relkind::text FROM pg_class WHERE relname = ? AND relnamespace = current_schema()::regnamespace",
+                String.class, name);
+        return kinds.isEmpty() ? null : kinds.get(0);
+    }
+}
@@ -0,0 +1,41 @@
+package com.finops.api.controller;
+
+import com.finops.api.cur.CurFileImporter;
+import com.finops.api.dto.ingest.CostIngestRequest;
+import com.finops.api.dto.ingest.CostIngestResultDto;
+import com.finops.api.dto.ingest.CurImportStatusDto;
+import com.finops.api.service.CostIngestionService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/costs/ingest")
+@RequiredArgsConstructor
+public class CostIngestionController {
+
+    private final CostIngestionService costIngestionService;
+    private final CurFileImporter curFileImporter;
+
+    @PostMapping
+    public ResponseEntity<CostIngestResultDto> ingest(@Valid @RequestBody CostIngestRequest request) {
+        if (request.rowCount() == 0) {
+            throw new IllegalArgumentException("적재할 비용 데이터가 없습니다");
+        }
+        return ResponseEntity.ok(costIngestionService.ingest(request));
+    }
+
+    /**
+     * 가져오기를 백그라운드로 시작하고 바로 상태를 돌려준다 (202). 이미 실행 중이면 그 상태를 돌려준다.
+     */
+    @PostMapping("/cur")
+    public ResponseEntity<CurImportStatusDto> importCurFiles() {
+        return ResponseEntity.accepted().body(curFileImporter.startImport());
+    }
+
+    @GetMapping("/cur")
+    public ResponseEntity<CurImportStatusDto> getCurImportStatus() {
+        return ResponseEntity.ok(curFileImporter.getStatus());
+    }
+}
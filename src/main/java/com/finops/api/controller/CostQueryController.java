@@ -0,0 +1,28 @@
+package com.finops.api.controller;
+
+import com.finops.api.dto.query.CostQueryRequest;
+import com.finops.api.query.CompiledCostQuery;
+import com.finops.api.query.CostQueryEngine;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/costs/query")
+@RequiredArgsConstructor
+public class CostQueryController {
+
+    private final CostQueryEngine costQueryEngine;
+
+    @PostMapping
+    public ResponseEntity<StreamingResponseBody> query(@Valid @RequestBody CostQueryRequest request) {
+        // 잘못된 요청은 스트리밍 시작 전에 400 으로 응답한다
+        CompiledCostQuery query = costQueryEngine.compile(request);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> costQueryEngine.stream(query, out));
+    }
+}
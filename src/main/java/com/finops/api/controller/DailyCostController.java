@@ -1,6 +1,7 @@
 package com.finops.api.controller;
 
 import com.finops.api.dto.DailyCostDto;
+import com.finops.api.dto.DailyCostIndexStatsDto;
 import com.finops.api.service.DailyCostService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -34,6 +35,11 @@ public class DailyCostController {
                 : ResponseEntity.noContent().build();
     }
 
+    @GetMapping("/index/stats")
+    public ResponseEntity<DailyCostIndexStatsDto> getIndexStats() {
+        return ResponseEntity.ok(dailyCostService.getIndexStats());
+    }
+
     @GetMapping("/last-week")
     public ResponseEntity<List<DailyCostDto>> getLastWeekCosts() {
         LocalDate endDate = LocalDate.now();
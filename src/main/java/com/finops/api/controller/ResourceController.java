@@ -1,8 +1,14 @@
 package com.finops.api.controller;
 
 import com.finops.api.dto.resource.AwsResourceDto;
+import com.finops.api.dto.resource.IdleResourceDto;
+import com.finops.api.dto.resource.ResourceSearchResultDto;
 import com.finops.api.dto.resource.ResourceSummaryDto;
+import com.finops.api.dto.resource.SyncJobDto;
+import com.finops.api.service.IdleDetectionEngine;
 import com.finops.api.service.ResourceInventoryService;
+import com.finops.api.service.ResourceSyncJobService;
+import com.finops.api.service.ResourceTagService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -19,14 +25,54 @@ import java.util.Map;
 public class ResourceController {
 
     private final ResourceInventoryService resourceInventoryService;
+    private final ResourceSyncJobService resourceSyncJobService;
+    private final ResourceTagService resourceTagService;
+    private final IdleDetectionEngine idleDetectionEngine;
 
+    /**
+     * tag=키:값 을 주면 해당 태그가 붙은 리소스만 조회한다.
+     */
     @GetMapping
     public ResponseEntity<Page<AwsResourceDto>> getAllResources(
+            @RequestParam(required = false) String tag,
             @PageableDefault(size = 20) Pageable pageable
     ) {
+        if (tag != null && !tag.isBlank()) {
+            return ResponseEntity.ok(resourceTagService.getResourcesByTag(tag, pageable));
+        }
         return ResponseEntity.ok(resourceInventoryService.getResourcesPaginated(pageable));
     }
 
+    /**
+     * 조건 검색 (커서 기반). 응답의 nextCursor 를 cursor 로 넘겨 다음 페이지를 읽는다.
+     * 전체 개수(total)는 includeTotal=true 일 때만 계산한다.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ResourceSearchResultDto> searchResources(
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String region,
+            @RequestParam(required = false) String state,
+            @RequestParam(required = false) String instanceType,
+            @RequestParam(required = false) String namePrefix,
+            @RequestParam(required = false) String tag,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        return ResponseEntity.ok(resourceInventoryService.search(
+                type, region, state, instanceType, namePrefix, tag, cursor, size, includeTotal));
+    }
+
+    @GetMapping("/tags")
+    public ResponseEntity<Map<String, Long>> getTagKeys() {
+        return ResponseEntity.ok(resourceTagService.countByKey());
+    }
+
+    @GetMapping("/tags/{key}")
+    public ResponseEntity<Map<String, Long>> getTagValues(@PathVariable String key) {
+        return ResponseEntity.ok(resourceTagService.countByValue(key));
+    }
+
     @GetMapping("/all")
     public ResponseEntity<List<AwsResourceDto>> getAllResourcesList() {
         return ResponseEntity.ok(resourceInventoryService.getAllResources());
@@ -73,58 +119,66 @@ public class ResourceController {
         return ResponseEntity.ok(resourceInventoryService.getIdleResources());
     }
 
+    @GetMapping("/idle/ranked")
+    public ResponseEntity<List<IdleResourceDto>> getRankedIdleResources(
+            @RequestParam(defaultValue = "50") int limit
+    ) {
+        return ResponseEntity.ok(resourceInventoryService.getRankedIdleResources(limit));
+    }
+
+    /**
+     * CloudWatch 지표 기반 유휴 평가를 백그라운드로 시작한다. 이미 실행 중이면 started=false.
+     */
+    @PostMapping("/idle/evaluate")
+    public ResponseEntity<Map<String, Boolean>> evaluateIdleResources() {
+        return ResponseEntity.accepted().body(Map.of("started", idleDetectionEngine.evaluateAsync()));
+    }
+
     @GetMapping("/summary")
     public ResponseEntity<ResourceSummaryDto> getResourceSummary() {
         return ResponseEntity.ok(resourceInventoryService.getResourceSummary());
     }
 
+    /**
+     * 동기화를 백그라운드 작업으로 시작하고 바로 작업 정보를 돌려준다 (202). 진행 상황은 /sync/jobs/{id} 로 조회한다.
+     */
     @PostMapping("/sync")
-    public ResponseEntity<Map<String, Object>> syncResources() {
-        int count = resourceInventoryService.syncResources();
-        return ResponseEntity.ok(Map.of(
-                "success", true,
-                "message", "리소스 동기화 완료",
-                "syncedCount", count
-        ));
+    public ResponseEntity<SyncJobDto> syncResources() {
+        return ResponseEntity.accepted().body(resourceSyncJobService.submit(ResourceSyncJobService.SCOPE_ALL));
     }
 
     @PostMapping("/sync/ec2")
-    public ResponseEntity<Map<String, Object>> syncEc2Resources() {
-        int count = resourceInventoryService.syncEc2Resources();
-        return ResponseEntity.ok(Map.of(
-                "success", true,
-                "message", "EC2 리소스 동기화 완료",
-                "syncedCount", count
-        ));
+    public ResponseEntity<SyncJobDto> syncEc2Resources() {
+        return ResponseEntity.accepted().body(resourceSyncJobService.submit("EC2"));
     }
 
     @PostMapping("/sync/rds")
-    public ResponseEntity<Map<String, Object>> syncRdsResources() {
-        int count = resourceInventoryService.syncRdsResources();
-        return ResponseEntity.ok(Map.of(
-                "success", true,
-                "message", "RDS 리소스 동기화 완료",
-                "syncedCount", count
-        ));
+    public ResponseEntity<SyncJobDto> syncRdsResources() {
+        return ResponseEntity.accepted().body(resourceSyncJobService.submit("RDS"));
     }
 
     @PostMapping("/sync/s3")
-    public ResponseEntity<Map<String, Object>> syncS3Resources() {
-        int count = resourceInventoryService.syncS3Resources();
-        return ResponseEntity.ok(Map.of(
-                "success", true,
-                "message", "S3 리소스 동기화 완료",
-                "syncedCount", count
-        ));
+    public ResponseEntity<SyncJobDto> syncS3Resources() {
+        return ResponseEntity.accepted().body(resourceSyncJobService.submit("S3"));
     }
 
     @PostMapping("/sync/lambda")
-    public ResponseEntity<Map<String, Object>> syncLambdaResources() {
-        int count = resourceInventoryService.syncLambdaResources();
-        return ResponseEntity.ok(Map.of(
-                "success", true,
-                "message", "Lambda 리소스 동기화 완료",
-                "syncedCount", count
-        ));
+    public ResponseEntity<SyncJobDto> syncLambdaResources() {
+        return ResponseEntity.accepted().body(resourceSyncJobService.submit("LAMBDA"));
+    }
+
+    @GetMapping("/sync/jobs")
+    public ResponseEntity<List<SyncJobDto>> getRecentSyncJobs(
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        return ResponseEntity.ok(resourceSyncJobService.getRecentJobs(limit));
+    }
+
+    @GetMapping("/sync/jobs/{id}")
+    public ResponseEntity<SyncJobDto> getSyncJob(@PathVariable Long id) {
+        var job = resourceSyncJobService.getJob(id);
+        return job != null
+                ? ResponseEntity.ok(job)
+                : ResponseEntity.notFound().build();
     }
 }
@@ -1,6 +1,7 @@
 package com.finops.api.controller;
 
 import com.finops.api.dto.ServiceCostDto;
+import com.finops.api.dto.ServiceCostPointDto;
 import com.finops.api.dto.ServiceCostSummaryDto;
 import com.finops.api.service.ServiceCostService;
 import lombok.RequiredArgsConstructor;
@@ -36,6 +37,16 @@ public class ServiceCostController {
         return ResponseEntity.ok(summary);
     }
 
+    @GetMapping("/series")
+    public ResponseEntity<List<ServiceCostPointDto>> getServiceCostSeries(
+            @RequestParam String serviceName,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+    ) {
+        var series = serviceCostService.getServiceCostSeries(serviceName, startDate, endDate);
+        return ResponseEntity.ok(series);
+    }
+
     @GetMapping("/top")
     public ResponseEntity<List<ServiceCostSummaryDto>> getTopServices(
             @RequestParam(defaultValue = "5") int limit
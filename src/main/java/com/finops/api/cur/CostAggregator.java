@@ -0,0 +1,104 @@
+package com.finops.api.cur;
+
+import java.util.Arrays;
+
+/**
+ * (epoch day, 서비스 id) → nano-dollar 합계를 담는 primitive open addressing 맵.
+ * 키는 (epochDay << 20) | serviceId 로 하나의 long 에 담는다.
+ */
+class CostAggregator {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final int SERVICE_BITS = 20;
+    private static final long SERVICE_MASK = (1L << SERVICE_BITS) - 1;
+
+    private long[] keys;
+    private long[] values;
+    private int size;
+
+    CostAggregator() {
+        keys = new long[1024];
+        values = new long[1024];
+        Arrays.fill(keys, EMPTY);
+    }
+
+    void add(long epochDay, int serviceId, long nanos) {
+        long key = (epochDay << SERVICE_BITS) | serviceId;
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        if (keys[slot] == EMPTY) {
+            keys[slot] = key;
+            size++;
+            values[slot] = nanos;
+            if (size * 2 > keys.length) {
+                rehash();
+            }
+        } else {
+            values[slot] = Math.addExact(values[slot], nanos);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 키 오름차순(= 일자, 서비스 id 순)으로 정렬된 키 배열. 값은 {@link #get(long)} 으로 조회한다.
+     */
+    long[] sortedKeys() {
+        long[] result = new long[size];
+        int i = 0;
+        for (long key : keys) {
+            if (key != EMPTY) {
+                result[i++] = key;
+            }
+        }
+        Arrays.sort(result);
+        return result;
+    }
+
+    long get(long key) {
+        int mask = keys.length - 1;
+        for (int slot = mix(key) & mask; keys[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+        }
+        return 0;
+    }
+
+    static long epochDayOf(long key) {
+        return key >> SERVICE_BITS;
+    }
+
+    static int serviceIdOf(long key) {
+        return (int) (key & SERVICE_MASK);
+    }
+
+    private void rehash() {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        keys = new long[oldKeys.length * 2];
+        values = new long[oldKeys.length * 2];
+        Arrays.fill(keys, EMPTY);
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = mix(oldKeys[i]) & mask;
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,49 @@
+package com.finops.api.cur;
+
+import java.util.List;
+
+/**
+ * CUR 헤더에서 가져오기에 필요한 컬럼 위치만 찾아 둔다. 레거시 CUR 과 CUR 2.0 컬럼명을 모두 지원한다.
+ */
+record CurColumns(
+        int usageDate,
+        int cost,
+        int productName,
+        int productCode
+) {
+    private static final List<String> USAGE_DATE = List.of("lineItem/UsageStartDate", "line_item_usage_start_date");
+    private static final List<String> COST = List.of("lineItem/UnblendedCost", "line_item_unblended_cost");
+    private static final List<String> PRODUCT_NAME = List.of("product/ProductName", "product_product_name");
+    private static final List<String> PRODUCT_CODE = List.of("lineItem/ProductCode", "line_item_product_code");
+
+    static CurColumns resolve(CurCsvReader header) {
+        int usageDate = -1;
+        int cost = -1;
+        int productName = -1;
+        int productCode = -1;
+
+        for (int i = 0; i < header.fieldCount(); i++) {
+            String name = header.fieldString(i).trim();
+            if (USAGE_DATE.contains(name)) {
+                usageDate = i;
+            } else if (COST.contains(name)) {
+                cost = i;
+            } else if (PRODUCT_NAME.contains(name)) {
+                productName = i;
+            } else if (PRODUCT_CODE.contains(name)) {
+                productCode = i;
+            }
+        }
+
+        if (usageDate < 0 || cost < 0 || (productName < 0 && productCode < 0)) {
+            throw new IllegalArgumentException("CUR 헤더에 필수 컬럼(사용 시작일, 비용, 서비스)이 없습니다");
+        }
+        // 없는 컬럼은 항상 비어 있는 위치로 취급한다
+        return new CurColumns(
+                usageDate,
+                cost,
+                productName >= 0 ? productName : Integer.MAX_VALUE,
+                productCode >= 0 ? productCode : Integer.MAX_VALUE
+        );
+    }
+}
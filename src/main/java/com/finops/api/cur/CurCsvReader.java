@@ -0,0 +1,271 @@
+package com.finops.api.cur;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+
+/**
+ * CUR CSV 를 한 레코드씩 읽는 스트리밍 리더.
+ * 고정 크기 char 버퍼를 재사용하고 필드 위치(오프셋)만 기록하므로, 레코드마다 String 을 만들지 않는다.
+ * 필요한 컬럼만 호출 측에서 골라 숫자/날짜로 직접 디코딩한다.
+ */
+class CurCsvReader {
+
+    private static final int MAX_FRACTION_DIGITS = 9;  // nano 단위까지 보존
+
+    private final Reader reader;
+    private char[] buf;
+    private int pos;
+    private int limit;
+    private boolean eof;
+
+    private int[] fieldStart = new int[256];
+    private int[] fieldEnd = new int[256];
+    private boolean[] fieldEscaped = new boolean[256];
+    private int fieldCount;
+
+    CurCsvReader(Reader reader, int bufferSize) {
+        this.reader = reader;
+        this.buf = new char[bufferSize];
+    }
+
+    /**
+     * 다음 레코드로 이동한다. 더 이상 레코드가 없으면 false.
+     */
+    boolean nextRecord() throws IOException {
+        fieldCount = 0;
+        int recordStart = pos;
+        int start = pos;
+        boolean inQuotes = false;
+        boolean quoted = false;
+        boolean escaped = false;
+        int p = pos;
+
+        while (true) {
+            if (p >= limit) {
+                int shift = fill(recordStart);
+                recordStart -= shift;
+                start -= shift;
+                p -= shift;
+                if (p >= limit) {
+                    // EOF
+                    pos = p;
+                    if (p == recordStart && fieldCount == 0) {
+                        return false;
+                    }
+                    addField(start, p, quoted, escaped);
+                    return true;
+                }
+            }
+
+            char c = buf[p];
+            if (inQuotes) {
+                if (c == '"') {
+                    if (p + 1 >= limit) {
+                        int shift = fill(recordStart);
+                        recordStart -= shift;
+                        start -= shift;
+                        p -= shift;
+                    }
+                    if (p + 1 < limit && buf[p + 1] == '"') {
+                        escaped = true;
+                        p += 2;
+                        continue;
+                    }
+                    inQuotes = false;
+                }
+                p++;
+            } else if (c == '"' && p == start) {
+                inQuotes = true;
+                quoted = true;
+                p++;
+            } else if (c == ',') {
+                addField(start, p, quoted, escaped);
+                p++;
+                start = p;
+                quoted = false;
+                escaped = false;
+            } else if (c == '\n') {
+                int end = p > start && buf[p - 1] == '\r' ? p - 1 : p;
+                addField(start, end, quoted, escaped);
+                pos = p + 1;
+                return true;
+            } else {
+                p++;
+            }
+        }
+    }
+
+    int fieldCount() {
+        return fieldCount;
+    }
+
+    int length(int field) {
+        return fieldEnd[field] - fieldStart[field];
+    }
+
+    boolean isEmpty(int field) {
+        return field >= fieldCount || length(field) == 0;
+    }
+
+    char charAt(int field, int index) {
+        return buf[fieldStart[field] + index];
+    }
+
+    boolean isEscaped(int field) {
+        return fieldEscaped[field];
+    }
+
+    /**
+     * 필드 값을 String 으로 만든다. 헤더나 사전에 처음 등장한 값처럼 드문 경우에만 사용한다.
+     */
+    String fieldString(int field) {
+        if (field >= fieldCount) {
+            return "";
+        }
+        String value = new String(buf, fieldStart[field], length(field));
+        return fieldEscaped[field] ? value.replace("\"\"", "\"") : value;
+    }
+
+    /**
+     * "yyyy-MM-dd..." 형태의 필드 앞 10자를 epoch day 로 변환한다.
+     */
+    long parseEpochDay(int field) {
+        if (length(field) < 10) {
+            throw new IllegalArgumentException("날짜 형식이 올바르지 않습니다: " + fieldString(field));
+        }
+        int o = fieldStart[field];
+        int year = digits(o, 4);
+        int month = digits(o + 5, 2);
+        int day = digits(o + 8, 2);
+        return epochDay(year, month, day);
+    }
+
+    /**
+     * 10진 문자열을 nano 단위(10^-9) long 으로 변환한다. 소수 10자리 이하는 HALF_UP 반올림.
+     * 지수 표기(1.2E-5)는 드물기 때문에 BigDecimal 로 처리한다.
+     */
+    long parseNanos(int field) {
+        int o = fieldStart[field];
+        int end = fieldEnd[field];
+        if (o == end) {
+            return 0;
+        }
+
+        boolean negative = false;
+        if (buf[o] == '-' || buf[o] == '+') {
+            negative = buf[o] == '-';
+            o++;
+        }
+
+        long integer = 0;
+        long fraction = 0;
+        int fractionDigits = 0;
+        boolean roundUp = false;
+        boolean inFraction = false;
+        for (int i = o; i < end; i++) {
+            char c = buf[i];
+            if (c >= '0' && c <= '9') {
+                if (!inFraction) {
+                    integer = Math.addExact(Math.multiplyExact(integer, 10), c - '0');
+                } else if (fractionDigits < MAX_FRACTION_DIGITS) {
+                    fraction = fraction * 10 + (c - '0');
+                    fractionDigits++;
+                } else if (fractionDigits == MAX_FRACTION_DIGITS) {
+                    roundUp = c >= '5';
+                    fractionDigits++;
+                }
+            } else if (c == '.') {
+                inFraction = true;
+            } else if (c == 'E' || c == 'e') {
+                return new BigDecimal(fieldString(field))
+                        .movePointRight(MAX_FRACTION_DIGITS)
+                        .setScale(0, RoundingMode.HALF_UP)
+                        .longValueExact();
+            } else {
+                throw new NumberFormatException("숫자 형식이 올바르지 않습니다: " + fieldString(field));
+            }
+        }
+
+        for (int i = Math.min(fractionDigits, MAX_FRACTION_DIGITS); i < MAX_FRACTION_DIGITS; i++) {
+            fraction *= 10;
+        }
+        long nanos = Math.addExact(Math.multiplyExact(integer, 1_000_000_000L), fraction + (roundUp ? 1 : 0));
+        return negative ? -nanos : nanos;
+    }
+
+    private int digits(int offset, int count) {
+        int value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            char c = buf[i];
+            if (c < '0' || c > '9') {
+                throw new IllegalArgumentException("날짜 형식이 올바르지 않습니다: " + new String(buf, offset, count));
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /**
+     * 그레고리력 날짜 → 1970-01-01 기준 일수. LocalDate 를 만들지 않기 위해 직접 계산한다.
+     */
+    static long epochDay(int year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400);
+        long yoe = y - era * 400;
+        long doy = (153L * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        long doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+        return era * 146097 + doe - 719468;
+    }
+
+    private void addField(int start, int end, boolean quoted, boolean escaped) {
+        if (fieldCount == fieldStart.length) {
+            fieldStart = Arrays.copyOf(fieldStart, fieldCount * 2);
+            fieldEnd = Arrays.copyOf(fieldEnd, fieldCount * 2);
+            fieldEscaped = Arrays.copyOf(fieldEscaped, fieldCount * 2);
+        }
+        if (quoted) {
+            start++;
+            if (end > start && buf[end - 1] == '"') {
+                end--;
+            }
+        }
+        fieldStart[fieldCount] = start;
+        fieldEnd[fieldCount] = end;
+        fieldEscaped[fieldCount] = escaped;
+        fieldCount++;
+    }
+
+    /**
+     * 현재 레코드(recordStart 부터)를 버퍼 앞으로 당기고 뒤를 채운다.
+     * 레코드 하나가 버퍼 전체보다 길면 버퍼를 키운다. 앞으로 당긴 거리(shift)를 반환한다.
+     */
+    private int fill(int recordStart) throws IOException {
+        if (eof) {
+            return 0;
+        }
+        int shift = recordStart;
+        int remaining = limit - recordStart;
+        if (shift > 0) {
+            System.arraycopy(buf, recordStart, buf, 0, remaining);
+            for (int i = 0; i < fieldCount; i++) {
+                fieldStart[i] -= shift;
+                fieldEnd[i] -= shift;
+            }
+        } else if (remaining == buf.length) {
+            buf = Arrays.copyOf(buf, buf.length * 2);
+        }
+        limit = remaining;
+        pos -= Math.min(pos, shift);
+
+        int read = reader.read(buf, limit, buf.length - limit);
+        if (read < 0) {
+            eof = true;
+        } else {
+            limit += read;
+        }
+        return shift;
+    }
+}
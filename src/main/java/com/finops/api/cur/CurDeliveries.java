@@ -0,0 +1,127 @@
+package com.finops.api.cur;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.*;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * CUR 디렉터리에서 청구 기간별로 최신 전달본(assembly)의 파일만 고른다.
+ * <p>
+ * CUR 는 같은 청구 기간을 다시 전달할 때마다 기간 디렉터리(20240101-20240201) 아래에 assemblyId 디렉터리를 새로 만들고,
+ * 기간 디렉터리의 {@code *-Manifest.json} 이 최신 assemblyId 를 가리킨다. 전부 합산하면 재전달 횟수만큼 비용이 불어난다.
+ * 매니페스트가 없거나 가리키는 디렉터리가 없으면 파일 수정 시각이 가장 늦은 assembly 를 쓴다.
+ * 기간 디렉터리 밖의 파일은 그대로 가져온다.
+ */
+@Slf4j
+class CurDeliveries {
+
+    // 기존 CUR(yyyyMMdd-yyyyMMdd)와 CUR 2.0(BILLING_PERIOD=yyyy-MM) 의 기간 디렉터리
+    private static final Pattern PERIOD_DIRECTORY = Pattern.compile("\\d{8}-\\d{8}|BILLING_PERIOD=\\d{4}-\\d{2}");
+    private static final String MANIFEST_SUFFIX = "-Manifest.json";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private CurDeliveries() {
+    }
+
+    /**
+     * root 아래 CUR 파일 중 가져올 파일만 정렬해 돌려준다.
+     */
+    static List<Path> latest(Path root, List<Path> files) {
+        List<Path> selected = new ArrayList<>();
+        // 기간 디렉터리 -> (assembly 디렉터리 -> 파일)
+        Map<Path, Map<Path, List<Path>>> periods = new TreeMap<>();
+        for (Path file : files) {
+            Path period = periodOf(root, file);
+            if (period == null) {
+                selected.add(file);
+                continue;
+            }
+            // 기간 디렉터리 바로 아래 파일은 기간 디렉터리 자체를 assembly 로 본다
+            Path assembly = file.getParent().equals(period)
+                    ? period
+                    : period.resolve(period.relativize(file).getName(0));
+            periods.computeIfAbsent(period, key -> new TreeMap<>())
+                    .computeIfAbsent(assembly, key -> new ArrayList<>())
+                    .add(file);
+        }
+
+        periods.forEach((period, assemblies) -> {
+            Path chosen = chooseAssembly(period, assemblies);
+            selected.addAll(assemblies.get(chosen));
+            if (assemblies.size() > 1) {
+                log.info("CUR 기간 {}: assembly {} 개 중 {} 만 가져옵니다", root.relativize(period),
+                        assemblies.size(), period.relativize(chosen));
+            }
+        });
+        Collections.sort(selected);
+        return selected;
+    }
+
+    private static Path periodOf(Path root, Path file) {
+        for (Path dir = file.getParent(); dir != null && dir.startsWith(root) && !dir.equals(root); dir = dir.getParent()) {
+            if (PERIOD_DIRECTORY.matcher(dir.getFileName().toString()).matches()) {
+                return dir;
+            }
+        }
+        return null;
+    }
+
+    private static Path chooseAssembly(Path period, Map<Path, List<Path>> assemblies) {
+        if (assemblies.size() == 1) {
+            return assemblies.keySet().iterator().next();
+        }
+        String assemblyId = manifestAssemblyId(period);
+        if (assemblyId != null) {
+            Path manifested = period.resolve(assemblyId);
+            if (assemblies.containsKey(manifested)) {
+                return manifested;
+            }
+            log.warn("CUR 매니페스트의 assembly {} 가 {} 에 없어 가장 최근 assembly 를 사용합니다", assemblyId, period);
+        }
+        return assemblies.entrySet().stream()
+                .max(Comparator.comparing((Map.Entry<Path, List<Path>> entry) -> lastModified(entry.getValue()))
+                        .thenComparing(Map.Entry::getKey))
+                .orElseThrow()
+                .getKey();
+    }
+
+    private static String manifestAssemblyId(Path period) {
+        try (Stream<Path> list = Files.list(period)) {
+            Optional<Path> manifest = list
+                    .filter(path -> path.getFileName().toString().endsWith(MANIFEST_SUFFIX))
+                    .filter(Files::isRegularFile)
+                    .findFirst();
+            if (manifest.isEmpty()) {
+                return null;
+            }
+            JsonNode assemblyId = OBJECT_MAPPER.readTree(manifest.get().toFile()).path("assemblyId");
+            return assemblyId.isTextual() && !assemblyId.asText().isBlank() ? assemblyId.asText() : null;
+        } catch (IOException e) {
+            log.warn("CUR 매니페스트를 읽지 못했습니다: {} ({})", period, e.getMessage());
+            return null;
+        }
+    }
+
+    private static FileTime lastModified(List<Path> files) {
+        FileTime latest = FileTime.fromMillis(0);
+        for (Path file : files) {
+            try {
+                FileTime modified = Files.getLastModifiedTime(file);
+                if (modified.compareTo(latest) > 0) {
+                    latest = modified;
+                }
+            } catch (IOException e) {
+                log.warn("CUR 파일 수정 시각을 읽지 못했습니다: {} ({})", file, e.getMessage());
+            }
+        }
+        return latest;
+    }
+}
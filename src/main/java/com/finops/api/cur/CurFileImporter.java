@@ -0,0 +1,344 @@
+package com.finops.api.cur;
+
+import com.finops.api.dto.ingest.CostIngestRequest;
+import com.finops.api.dto.ingest.CurImportResultDto;
+import com.finops.api.dto.ingest.CurImportStatusDto;
+import com.finops.api.service.CostIngestionService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 로컬 디렉터리의 AWS Cost and Usage Report(CSV, CSV.gz) 파일을 스트리밍으로 읽어
+ * 일별/서비스별 비용으로 집계한 뒤 {@link CostIngestionService} 로 적재한다.
+ * 파일 전체를 메모리에 올리지 않고, (일자, 서비스) 단위 합계만 primitive 맵에 유지한다.
+ * 같은 청구 기간이 여러 번 전달되어 있으면 최신 전달본만 읽는다 ({@link CurDeliveries}).
+ * 가져오기는 curImportExecutor 에서 실행되고, 한 번에 하나만 돈다.
+ */
+@Slf4j
+@Service
+public class CurFileImporter {
+
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+    private static final int METRICS_INTERVAL = 1 << 16;  // 라인 수
+    private static final int FLUSH_ROWS = 5_000;
+
+    private final CostIngestionService costIngestionService;
+    private final TaskExecutor executor;
+    private final Path directory;
+    private final int bufferSize;
+
+    private final MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong totalBytes = new AtomicLong();
+    private final AtomicLong readBytes = new AtomicLong();
+    private final AtomicLong peakHeapBytes = new AtomicLong();
+    private volatile double linesPerSecond;
+    private volatile CurImportStatusDto lastStatus = new CurImportStatusDto("IDLE", 0, null, null, null, null, false);
+
+    private final Counter linesCounter;
+    private final Counter bytesCounter;
+
+    public CurFileImporter(CostIngestionService costIngestionService,
+                           MeterRegistry meterRegistry,
+                           @Qualifier("curImportExecutor") TaskExecutor executor,
+                           @Value("${finops.cur.directory:./cur-reports}") String directory,
+                           @Value("${finops.cur.buffer-size:65536}") int bufferSize) {
+        this.costIngestionService = costIngestionService;
+        this.executor = executor;
+        this.directory = Paths.get(directory);
+        this.bufferSize = bufferSize;
+
+        this.linesCounter = Counter.builder("finops.cur.import.lines")
+                .description("CUR 파일에서 읽은 라인 수")
+                .register(meterRegistry);
+        this.bytesCounter = Counter.builder("finops.cur.import.bytes")
+                .description("CUR 파일에서 읽은 바이트 수 (압축 기준)")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("finops.cur.import.progress", this, CurFileImporter::progress)
+                .description("현재 가져오기 진행률 (0~1)")
+                .register(meterRegistry);
+        Gauge.builder("finops.cur.import.throughput", this, importer -> importer.linesPerSecond)
+                .description("최근 가져오기 처리량")
+                .baseUnit("lines/s")
+                .register(meterRegistry);
+        Gauge.builder("finops.cur.import.heap.peak", peakHeapBytes, AtomicLong::get)
+                .description("가져오기 중 관측된 최대 힙 사용량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 백그라운드에서 가져오기를 시작한다. 이미 실행 중이면 새로 시작하지 않고 진행 중인 상태를 돌려준다.
+     */
+    public CurImportStatusDto startImport() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("CUR 가져오기가 이미 실행 중이라 새로 시작하지 않습니다");
+            return status(true);
+        }
+        if (!Files.isDirectory(directory)) {
+            running.set(false);
+            throw new IllegalArgumentException("CUR 디렉터리를 찾을 수 없습니다: " + directory);
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        totalBytes.set(0);
+        readBytes.set(0);
+        lastStatus = new CurImportStatusDto("RUNNING", 0, startedAt, null, null, null, false);
+        try {
+            executor.execute(() -> run(startedAt));
+        } catch (TaskRejectedException e) {
+            running.set(false);
+            lastStatus = new CurImportStatusDto("FAILED", 0, startedAt, LocalDateTime.now(), null,
+                    "가져오기 작업을 시작하지 못했습니다", false);
+        }
+        return status(false);
+    }
+
+    public CurImportStatusDto getStatus() {
+        return status(false);
+    }
+
+    private CurImportStatusDto status(boolean alreadyRunning) {
+        CurImportStatusDto status = lastStatus;
+        return new CurImportStatusDto(status.status(), "RUNNING".equals(status.status()) ? progress() : status.progress(),
+                status.startedAt(), status.finishedAt(), status.result(), status.error(), alreadyRunning);
+    }
+
+    private void run(LocalDateTime startedAt) {
+        CurImportStatusDto finished = null;
+        try {
+            CurImportResultDto result = doImport();
+            finished = new CurImportStatusDto("SUCCEEDED", 1.0, startedAt, LocalDateTime.now(), result, null, false);
+        } catch (IOException | RuntimeException e) {
+            log.error("CUR 가져오기 실패", e);
+            finished = new CurImportStatusDto("FAILED", progress(), startedAt, LocalDateTime.now(), null,
+                    e.getMessage(), false);
+        } finally {
+            lastStatus = finished != null
+                    ? finished
+                    : new CurImportStatusDto("FAILED", progress(), startedAt, LocalDateTime.now(), null,
+                    "가져오기가 비정상 종료되었습니다", false);
+            running.set(false);
+        }
+    }
+
+    private CurImportResultDto doImport() throws IOException {
+        List<Path> found;
+        try (Stream<Path> walk = Files.walk(directory)) {
+            found = walk.filter(Files::isRegularFile)
+                    .filter(path -> isCurFile(path.getFileName().toString()))
+                    .sorted()
+                    .toList();
+        }
+        List<Path> files = CurDeliveries.latest(directory, found);
+        if (files.size() < found.size()) {
+            log.info("CUR 이전 전달본 {} 개 파일은 건너뜁니다", found.size() - files.size());
+        }
+
+        long bytes = 0;
+        for (Path file : files) {
+            bytes += Files.size(file);
+        }
+        totalBytes.set(bytes);
+        readBytes.set(0);
+        peakHeapBytes.set(memoryMXBean.getHeapMemoryUsage().getUsed());
+        log.info("CUR 가져오기 시작: {} 개 파일, {} bytes", files.size(), bytes);
+
+        long started = System.nanoTime();
+        ServiceDictionary dictionary = new ServiceDictionary();
+        CostAggregator aggregator = new CostAggregator();
+        long lines = 0;
+        for (Path file : files) {
+            lines += importFile(file, dictionary, aggregator, started, lines);
+        }
+
+        int[] flushed = flush(aggregator, dictionary);
+
+        long elapsedNanos = System.nanoTime() - started;
+        linesPerSecond = rate(lines, elapsedNanos);
+        sampleHeap();
+
+        var result = CurImportResultDto.of(files.size(), lines, bytes, flushed[0], flushed[1],
+                elapsedNanos, peakHeapBytes.get());
+        log.info("CUR 가져오기 완료: {} 라인, {} ms ({} lines/s), 최대 힙 {} bytes",
+                lines, result.elapsedMillis(), result.linesPerSecond(), result.peakHeapBytes());
+        return result;
+    }
+
+    private long importFile(Path file, ServiceDictionary dictionary, CostAggregator aggregator,
+                            long started, long linesBefore) throws IOException {
+        log.debug("CUR 파일 읽기: {}", file);
+        boolean gzip = file.getFileName().toString().endsWith(".gz");
+
+        try (InputStream raw = new CountingInputStream(Files.newInputStream(file));
+             InputStream in = gzip
+                     ? new GZIPInputStream(raw, STREAM_BUFFER_SIZE)
+                     : new BufferedInputStream(raw, STREAM_BUFFER_SIZE);
+             Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+
+            CurCsvReader csv = new CurCsvReader(reader, bufferSize);
+            if (!csv.nextRecord()) {
+                return 0;
+            }
+            CurColumns columns = CurColumns.resolve(csv);
+
+            long lines = 0;
+            while (csv.nextRecord()) {
+                lines++;
+                if ((lines & (METRICS_INTERVAL - 1)) == 0) {
+                    linesCounter.increment(METRICS_INTERVAL);
+                    linesPerSecond = rate(linesBefore + lines, System.nanoTime() - started);
+                    sampleHeap();
+                }
+
+                if (csv.isEmpty(columns.usageDate()) || csv.isEmpty(columns.cost())) {
+                    continue;
+                }
+                int serviceField = !csv.isEmpty(columns.productName()) ? columns.productName() : columns.productCode();
+                if (csv.isEmpty(serviceField)) {
+                    continue;
+                }
+
+                aggregator.add(
+                        csv.parseEpochDay(columns.usageDate()),
+                        dictionary.idOf(csv, serviceField),
+                        csv.parseNanos(columns.cost())
+                );
+            }
+            linesCounter.increment(lines & (METRICS_INTERVAL - 1));
+            return lines;
+        }
+    }
+
+    /**
+     * 집계 결과를 일자 순으로 FLUSH_ROWS 단위씩 끊어 적재한다. 한 일자의 행은 같은 배치에 들어간다.
+     */
+    private int[] flush(CostAggregator aggregator, ServiceDictionary dictionary) {
+        List<CostIngestRequest.DailyCostRow> dailyRows = new ArrayList<>();
+        List<CostIngestRequest.ServiceCostRow> serviceRows = new ArrayList<>();
+        int dailyCount = 0;
+        int serviceCount = 0;
+
+        long currentDay = Long.MIN_VALUE;
+        long dayTotal = 0;
+        for (long key : aggregator.sortedKeys()) {
+            long day = CostAggregator.epochDayOf(key);
+            if (day != currentDay) {
+                if (currentDay != Long.MIN_VALUE) {
+                    dailyRows.add(new CostIngestRequest.DailyCostRow(LocalDate.ofEpochDay(currentDay), toCost(dayTotal), "USD"));
+                    if (serviceRows.size() >= FLUSH_ROWS) {
+                        dailyCount += dailyRows.size();
+                        serviceCount += serviceRows.size();
+                        ingest(dailyRows, serviceRows);
+                    }
+                }
+                currentDay = day;
+                dayTotal = 0;
+            }
+
+            long nanos = aggregator.get(key);
+            dayTotal = Math.addExact(dayTotal, nanos);
+            serviceRows.add(new CostIngestRequest.ServiceCostRow(
+                    LocalDate.ofEpochDay(day),
+                    dictionary.nameOf(CostAggregator.serviceIdOf(key)),
+                    toCost(nanos),
+                    "USD"
+            ));
+        }
+        if (currentDay != Long.MIN_VALUE) {
+            dailyRows.add(new CostIngestRequest.DailyCostRow(LocalDate.ofEpochDay(currentDay), toCost(dayTotal), "USD"));
+            dailyCount += dailyRows.size();
+            serviceCount += serviceRows.size();
+            ingest(dailyRows, serviceRows);
+        }
+        return new int[]{dailyCount, serviceCount};
+    }
+
+    private void ingest(List<CostIngestRequest.DailyCostRow> dailyRows,
+                        List<CostIngestRequest.ServiceCostRow> serviceRows) {
+        costIngestionService.ingest(new CostIngestRequest(List.copyOf(dailyRows), List.copyOf(serviceRows)));
+        dailyRows.clear();
+        serviceRows.clear();
+    }
+
+    private double progress() {
+        long total = totalBytes.get();
+        return total > 0 ? Math.min(1.0, (double) readBytes.get() / total) : 0.0;
+    }
+
+    private void sampleHeap() {
+        long used = memoryMXBean.getHeapMemoryUsage().getUsed();
+        peakHeapBytes.accumulateAndGet(used, Math::max);
+    }
+
+    private static double rate(long lines, long elapsedNanos) {
+        return elapsedNanos > 0 ? lines / (elapsedNanos / 1_000_000_000.0) : 0.0;
+    }
+
+    private static BigDecimal toCost(long nanos) {
+        return BigDecimal.valueOf(nanos, 9).setScale(4, RoundingMode.HALF_UP);
+    }
+
+    private static boolean isCurFile(String name) {
+        return name.endsWith(".csv") || name.endsWith(".csv.gz");
+    }
+
+    /**
+     * 압축 해제 전 바이트 수를 진행률/메트릭에 반영하는 스트림.
+     */
+    private class CountingInputStream extends FilterInputStream {
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count(n);
+            }
+            return n;
+        }
+
+        private void count(long n) {
+            readBytes.addAndGet(n);
+            bytesCounter.increment(n);
+        }
+    }
+}
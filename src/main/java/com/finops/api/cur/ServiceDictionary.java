@@ -0,0 +1,100 @@
+package com.finops.api.cur;
+
+import java.util.Arrays;
+
+/**
+ * CSV 필드(char 구간)를 서비스 id 로 바꾸는 사전.
+ * 이미 등록된 서비스명은 버퍼의 문자와 직접 비교하므로 String 을 새로 만들지 않는다.
+ */
+class ServiceDictionary {
+
+    private String[] names = new String[64];
+    private int[] table = new int[128];  // open addressing, 값은 id + 1 (0 = 빈 칸)
+    private int size;
+
+    int idOf(CurCsvReader reader, int field) {
+        if (reader.isEscaped(field)) {
+            return idOf(reader.fieldString(field));
+        }
+
+        int length = reader.length(field);
+        int hash = 0;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + reader.charAt(field, i);
+        }
+
+        int mask = table.length - 1;
+        for (int slot = spread(hash) & mask; ; slot = (slot + 1) & mask) {
+            int entry = table[slot];
+            if (entry == 0) {
+                return insert(reader.fieldString(field), slot);
+            }
+            if (matches(names[entry - 1], reader, field, length)) {
+                return entry - 1;
+            }
+        }
+    }
+
+    int idOf(String name) {
+        int mask = table.length - 1;
+        for (int slot = spread(name.hashCode()) & mask; ; slot = (slot + 1) & mask) {
+            int entry = table[slot];
+            if (entry == 0) {
+                return insert(name, slot);
+            }
+            if (names[entry - 1].equals(name)) {
+                return entry - 1;
+            }
+        }
+    }
+
+    String nameOf(int id) {
+        return names[id];
+    }
+
+    int size() {
+        return size;
+    }
+
+    private int insert(String name, int slot) {
+        if (size == names.length) {
+            names = Arrays.copyOf(names, size * 2);
+        }
+        names[size] = name;
+        table[slot] = size + 1;
+        size++;
+        if (size * 2 > table.length) {
+            rehash();
+        }
+        return size - 1;
+    }
+
+    private void rehash() {
+        int[] newTable = new int[table.length * 2];
+        int mask = newTable.length - 1;
+        for (int id = 0; id < size; id++) {
+            int slot = spread(names[id].hashCode()) & mask;
+            while (newTable[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            newTable[slot] = id + 1;
+        }
+        table = newTable;
+    }
+
+    private static boolean matches(String name, CurCsvReader reader, int field, int length) {
+        if (name.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (name.charAt(i) != reader.charAt(field, i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,14 @@
+package com.finops.api.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * 대시보드에서 쓰는 기간별 일별 비용 합계.
+ */
+public record CostWindowTotalsDto(
+        BigDecimal currentMonthCost,
+        BigDecimal previousMonthCost,
+        BigDecimal todayCost,
+        BigDecimal yesterdayCost
+) {
+}
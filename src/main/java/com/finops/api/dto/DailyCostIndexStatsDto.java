@@ -0,0 +1,14 @@
+package com.finops.api.dto;
+
+import java.time.LocalDate;
+
+public record DailyCostIndexStatsDto(
+        boolean loaded,
+        LocalDate firstDate,
+        LocalDate lastDate,
+        int days,
+        long memoryBytes,
+        long hits,
+        long misses
+) {
+}
@@ -0,0 +1,10 @@
+package com.finops.api.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record ServiceCostPointDto(
+        LocalDate costDate,
+        BigDecimal cost
+) {
+}
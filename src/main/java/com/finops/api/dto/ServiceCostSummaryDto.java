@@ -1,6 +1,9 @@
 package com.finops.api.dto;
 
+import com.finops.api.util.Money;
+
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 
 public record ServiceCostSummaryDto(
         String serviceName,
@@ -13,4 +16,18 @@ public record ServiceCostSummaryDto(
                 : BigDecimal.ZERO;
         return new ServiceCostSummaryDto(serviceName, totalCost, percentage);
     }
+
+    /**
+     * micro 단위 합계로부터 생성한다. 금액은 scale 4, 비율은 scale 2 로 반올림한다.
+     */
+    public static ServiceCostSummaryDto ofMicros(String serviceName, long totalMicros, long grandTotalMicros) {
+        BigDecimal percentage = grandTotalMicros > 0
+                ? Money.percentage(totalMicros, grandTotalMicros, 2, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO;
+        return new ServiceCostSummaryDto(
+                serviceName,
+                Money.toBigDecimal(totalMicros, 4, RoundingMode.HALF_UP),
+                percentage
+        );
+    }
 }
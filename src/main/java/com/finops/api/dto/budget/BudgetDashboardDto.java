@@ -1,6 +1,9 @@
 package com.finops.api.dto.budget;
 
+import com.finops.api.util.Money;
+
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.List;
 
 public record BudgetDashboardDto(
@@ -18,16 +21,22 @@ public record BudgetDashboardDto(
         int total = usages.size();
         int active = total;
 
-        BigDecimal totalBudget = usages.stream()
-                .map(BudgetUsageDto::budgetAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal totalActual = usages.stream()
-                .map(BudgetUsageDto::actualAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        // 합계는 micro 단위 long 으로 누적하고, 입력 중 가장 큰 scale 로 되돌린다
+        long budgetMicros = 0;
+        long actualMicros = 0;
+        int budgetScale = 0;
+        int actualScale = 0;
+        for (BudgetUsageDto usage : usages) {
+            budgetMicros = Money.add(budgetMicros, Money.toMicros(usage.budgetAmount()));
+            actualMicros = Money.add(actualMicros, Money.toMicros(usage.actualAmount()));
+            budgetScale = Math.max(budgetScale, scaleOf(usage.budgetAmount()));
+            actualScale = Math.max(actualScale, scaleOf(usage.actualAmount()));
+        }
 
-        BigDecimal overallPercent = totalBudget.compareTo(BigDecimal.ZERO) > 0
-                ? totalActual.multiply(BigDecimal.valueOf(100)).divide(totalBudget, 2, java.math.RoundingMode.HALF_UP)
+        BigDecimal totalBudget = Money.toBigDecimal(budgetMicros, budgetScale, RoundingMode.HALF_UP);
+        BigDecimal totalActual = Money.toBigDecimal(actualMicros, actualScale, RoundingMode.HALF_UP);
+        BigDecimal overallPercent = budgetMicros > 0
+                ? Money.percentage(actualMicros, budgetMicros, 2, RoundingMode.HALF_UP)
                 : BigDecimal.ZERO;
 
         int exceeded = (int) usages.stream().filter(u -> "EXCEEDED".equals(u.status())).count();
@@ -46,4 +55,8 @@ public record BudgetDashboardDto(
                 usages
         );
     }
+
+    private static int scaleOf(BigDecimal value) {
+        return value != null ? Math.min(Math.max(value.scale(), 0), Money.SCALE) : 0;
+    }
 }
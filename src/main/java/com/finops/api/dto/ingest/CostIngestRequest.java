@@ -0,0 +1,47 @@
+package com.finops.api.dto.ingest;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public record CostIngestRequest(
+        @Valid
+        List<DailyCostRow> dailyCosts,
+
+        @Valid
+        List<ServiceCostRow> serviceCosts
+) {
+    public record DailyCostRow(
+            @NotNull(message = "비용 일자는 필수입니다")
+            LocalDate costDate,
+
+            @NotNull(message = "총 비용은 필수입니다")
+            BigDecimal totalCost,
+
+            String currency
+    ) {}
+
+    public record ServiceCostRow(
+            @NotNull(message = "비용 일자는 필수입니다")
+            LocalDate costDate,
+
+            @NotBlank(message = "서비스명은 필수입니다")
+            @Size(max = 100)
+            String serviceName,
+
+            @NotNull(message = "비용은 필수입니다")
+            BigDecimal cost,
+
+            String currency
+    ) {}
+
+    public int rowCount() {
+        return (dailyCosts != null ? dailyCosts.size() : 0)
+                + (serviceCosts != null ? serviceCosts.size() : 0);
+    }
+}
@@ -0,0 +1,30 @@
+package com.finops.api.dto.ingest;
+
+public record CostIngestResultDto(
+        int dailyInserted,
+        int dailyUpdated,
+        int serviceInserted,
+        int serviceUpdated,
+        long elapsedMillis,
+        double rowsPerSecond
+) {
+    public static CostIngestResultDto of(
+            int dailyInserted,
+            int dailyUpdated,
+            int serviceInserted,
+            int serviceUpdated,
+            long elapsedNanos,
+            int totalRows
+    ) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        double rowsPerSecond = seconds > 0 ? Math.round(totalRows / seconds * 10) / 10.0 : totalRows;
+        return new CostIngestResultDto(
+                dailyInserted,
+                dailyUpdated,
+                serviceInserted,
+                serviceUpdated,
+                elapsedNanos / 1_000_000,
+                rowsPerSecond
+        );
+    }
+}
@@ -0,0 +1,35 @@
+package com.finops.api.dto.ingest;
+
+public record CurImportResultDto(
+        int files,
+        long lines,
+        long bytes,
+        int dailyRows,
+        int serviceRows,
+        long elapsedMillis,
+        double linesPerSecond,
+        long peakHeapBytes
+) {
+    public static CurImportResultDto of(
+            int files,
+            long lines,
+            long bytes,
+            int dailyRows,
+            int serviceRows,
+            long elapsedNanos,
+            long peakHeapBytes
+    ) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        double linesPerSecond = seconds > 0 ? Math.round(lines / seconds * 10) / 10.0 : lines;
+        return new CurImportResultDto(
+                files,
+                lines,
+                bytes,
+                dailyRows,
+                serviceRows,
+                elapsedNanos / 1_000_000,
+                linesPerSecond,
+                peakHeapBytes
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package com.finops.api.dto.ingest;
+
+import java.time.LocalDateTime;
+
+public record CurImportStatusDto(
+        String status,  // IDLE, RUNNING, SUCCEEDED, FAILED
+        double progress,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        CurImportResultDto result,
+        String error,
+        boolean alreadyRunning  // 진행 중인 가져오기를 그대로 돌려준 경우 true
+) {
+}
@@ -0,0 +1,40 @@
+package com.finops.api.dto.query;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record CostQueryRequest(
+        @NotNull(message = "시작일은 필수입니다")
+        LocalDate startDate,
+
+        @NotNull(message = "종료일은 필수입니다")
+        LocalDate endDate,
+
+        String granularity,  // DAY, WEEK, MONTH (기본 DAY)
+
+        List<String> groupBy,  // service
+
+        @Valid
+        List<Filter> filters,
+
+        @Min(1)
+        @Max(1000)
+        Integer topN
+) {
+    public record Filter(
+            @NotBlank(message = "필터 dimension 은 필수입니다")
+            String dimension,
+
+            String operator,  // IN, NOT_IN (기본 IN)
+
+            @NotEmpty(message = "필터 값은 하나 이상이어야 합니다")
+            List<String> values
+    ) {}
+}
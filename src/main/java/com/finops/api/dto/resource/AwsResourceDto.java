@@ -10,13 +10,15 @@ public record AwsResourceDto(
         String resourceId,
         String resourceType,
         String resourceName,
+        String accountId,
         String region,
         String availabilityZone,
         String state,
         String instanceType,
         Map<String, String> tags,
         Map<String, Object> metadata,
-        LocalDateTime lastSyncedAt
+        LocalDateTime lastSyncedAt,   // 동기화에서 마지막으로 본 시각
+        LocalDateTime updatedAt       // 내용이 마지막으로 바뀐 시각
 ) {
     public static AwsResourceDto from(AwsResource entity) {
         return new AwsResourceDto(
@@ -24,13 +26,15 @@ public record AwsResourceDto(
                 entity.getResourceId(),
                 entity.getResourceType(),
                 entity.getResourceName(),
+                entity.getAccountId(),
                 entity.getRegion(),
                 entity.getAvailabilityZone(),
                 entity.getState(),
                 entity.getInstanceType(),
                 entity.getTags(),
                 entity.getMetadata(),
-                entity.getLastSyncedAt()
+                entity.getLastSyncedAt(),
+                entity.getUpdatedAt()
         );
     }
 }
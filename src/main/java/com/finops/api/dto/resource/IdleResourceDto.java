@@ -0,0 +1,48 @@
+package com.finops.api.dto.resource;
+
+import com.finops.api.entity.AwsResource;
+import com.finops.api.entity.ResourceUtilization;
+
+import java.time.LocalDateTime;
+
+public record IdleResourceDto(
+        Long id,
+        String resourceId,
+        String resourceType,
+        String resourceName,
+        String accountId,
+        String region,
+        String state,
+        String instanceType,
+        double idleScore,
+        String reason,
+        Double cpuAvg,
+        Double cpuP95,
+        Double networkBytesPerDay,
+        Double connectionsMax,
+        Double invocations,
+        int datapoints,
+        LocalDateTime evaluatedAt
+) {
+    public static IdleResourceDto from(ResourceUtilization utilization, AwsResource resource) {
+        return new IdleResourceDto(
+                resource.getId(),
+                resource.getResourceId(),
+                resource.getResourceType(),
+                resource.getResourceName(),
+                resource.getAccountId(),
+                resource.getRegion(),
+                resource.getState(),
+                resource.getInstanceType(),
+                utilization.getIdleScore(),
+                utilization.getReason(),
+                utilization.getCpuAvg(),
+                utilization.getCpuP95(),
+                utilization.getNetworkBytesPerDay(),
+                utilization.getConnectionsMax(),
+                utilization.getInvocations(),
+                utilization.getDatapoints(),
+                utilization.getEvaluatedAt()
+        );
+    }
+}
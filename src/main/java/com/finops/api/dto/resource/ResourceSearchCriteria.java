@@ -0,0 +1,15 @@
+package com.finops.api.dto.resource;
+
+/**
+ * 리소스 검색 조건. null 인 항목은 조건에서 빠진다.
+ */
+public record ResourceSearchCriteria(
+        String resourceType,
+        String region,
+        String state,
+        String instanceType,
+        String namePrefix,
+        String tagKey,
+        String tagValue
+) {
+}
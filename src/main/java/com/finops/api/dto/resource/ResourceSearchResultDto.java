@@ -0,0 +1,15 @@
+package com.finops.api.dto.resource;
+
+import java.util.List;
+
+/**
+ * 커서 기반 검색 결과. nextCursor 를 그대로 다음 요청의 cursor 로 넘기면 이어서 조회한다.
+ * total 은 includeTotal=true 로 요청했을 때만 채운다.
+ */
+public record ResourceSearchResultDto(
+        List<AwsResourceDto> items,
+        String nextCursor,
+        boolean hasMore,
+        Long total
+) {
+}
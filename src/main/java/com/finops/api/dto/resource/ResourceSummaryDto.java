@@ -6,14 +6,18 @@ public record ResourceSummaryDto(
         long totalResources,
         Map<String, Long> byType,
         Map<String, Long> byRegion,
+        Map<String, Long> byAccount,
+        Map<String, Long> byState,
         long idleResources
 ) {
     public static ResourceSummaryDto of(
             long total,
             Map<String, Long> byType,
             Map<String, Long> byRegion,
+            Map<String, Long> byAccount,
+            Map<String, Long> byState,
             long idle
     ) {
-        return new ResourceSummaryDto(total, byType, byRegion, idle);
+        return new ResourceSummaryDto(total, byType, byRegion, byAccount, byState, idle);
     }
 }
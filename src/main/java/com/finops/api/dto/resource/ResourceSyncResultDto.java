@@ -0,0 +1,59 @@
+package com.finops.api.dto.resource;
+
+import java.util.List;
+
+public record ResourceSyncResultDto(
+        int syncedCount,
+        long elapsedMillis,
+        List<RegionResult> regions,
+        List<CollectorResult> collectors
+) {
+    public boolean allSucceeded() {
+        return collectors.stream().allMatch(collector -> "SUCCESS".equals(collector.status()));
+    }
+
+    public record CollectorResult(
+            String resourceType,
+            String accountId,
+            String region,
+            String status,  // SUCCESS, FAILED, TIMEOUT
+            int count,
+            int added,
+            int changed,
+            int removed,
+            long elapsedMillis,
+            String error
+    ) {
+        public static CollectorResult success(String resourceType, String accountId, String region, int count,
+                                              long elapsedMillis) {
+            return new CollectorResult(resourceType, accountId, region, "SUCCESS", count, 0, 0, 0, elapsedMillis, null);
+        }
+
+        // count 는 실패/타임아웃 전까지 저장된 개수
+        public static CollectorResult failed(String resourceType, String accountId, String region, int count,
+                                             long elapsedMillis, String error) {
+            return new CollectorResult(resourceType, accountId, region, "FAILED", count, 0, 0, 0, elapsedMillis, error);
+        }
+
+        public static CollectorResult timedOut(String resourceType, String accountId, String region, int count,
+                                               long elapsedMillis) {
+            return new CollectorResult(resourceType, accountId, region, "TIMEOUT", count, 0, 0, 0, elapsedMillis, "수집 시간 초과");
+        }
+
+        public CollectorResult withChanges(int added, int changed, int removed) {
+            return new CollectorResult(resourceType, accountId, region, status, count, added, changed, removed,
+                    elapsedMillis, error);
+        }
+    }
+
+    /**
+     * 리전별 합계 (전체 계정). elapsedMillis 는 리전 내 가장 느린 수집기의 소요 시간이다.
+     */
+    public record RegionResult(
+            String region,
+            int count,
+            long elapsedMillis,
+            int failedCollectors
+    ) {
+    }
+}
@@ -0,0 +1,62 @@
+package com.finops.api.dto.resource;
+
+import com.finops.api.entity.SyncJob;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record SyncJobDto(
+        Long id,
+        String scope,
+        String status,
+        String phase,
+        int totalTargets,
+        int completedTargets,
+        int failedTargets,
+        long processedResources,
+        int addedResources,
+        int changedResources,
+        int removedResources,
+        long elapsedMillis,
+        long resourcesPerSecond,
+        List<String> errors,
+        LocalDateTime requestedAt,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        boolean deduplicated  // 같은 범위의 진행 중인 작업을 그대로 돌려준 경우 true
+) {
+    public static SyncJobDto from(SyncJob entity) {
+        return from(entity, false);
+    }
+
+    public static SyncJobDto from(SyncJob entity, boolean deduplicated) {
+        long elapsedMillis = 0;
+        if (entity.getStartedAt() != null) {
+            LocalDateTime end = entity.getFinishedAt() != null ? entity.getFinishedAt() : LocalDateTime.now();
+            elapsedMillis = Duration.between(entity.getStartedAt(), end).toMillis();
+        }
+        long perSecond = elapsedMillis > 0 ? entity.getProcessedResources() * 1000 / elapsedMillis : 0;
+
+        return new SyncJobDto(
+                entity.getId(),
+                entity.getScope(),
+                entity.getStatus(),
+                entity.getPhase(),
+                entity.getTotalTargets(),
+                entity.getCompletedTargets(),
+                entity.getFailedTargets(),
+                entity.getProcessedResources(),
+                entity.getAddedResources(),
+                entity.getChangedResources(),
+                entity.getRemovedResources(),
+                elapsedMillis,
+                perSecond,
+                entity.getErrors() != null ? List.copyOf(entity.getErrors()) : List.of(),
+                entity.getRequestedAt(),
+                entity.getStartedAt(),
+                entity.getFinishedAt(),
+                deduplicated
+        );
+    }
+}
@@ -3,6 +3,7 @@ package com.finops.api.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.SQLRestriction;
 import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
@@ -10,10 +11,18 @@ import java.util.Map;
 
 @Entity
 @Table(name = "aws_resources", indexes = {
-        @Index(name = "idx_aws_resources_type", columnList = "resource_type"),
         @Index(name = "idx_aws_resources_region", columnList = "region"),
-        @Index(name = "idx_aws_resources_state", columnList = "state")
+        @Index(name = "idx_aws_resources_state", columnList = "state"),
+        @Index(name = "idx_aws_resources_account_region", columnList = "account_id, region"),
+        // 검색 API 의 키셋 페이지네이션(resource_type, id) 순서와 조건별 복합 인덱스. 타입 단독 조회도 첫 번째가 맡는다
+        @Index(name = "idx_aws_resources_type_id", columnList = "resource_type, id"),
+        @Index(name = "idx_aws_resources_type_region_id", columnList = "resource_type, region, id"),
+        @Index(name = "idx_aws_resources_type_state_id", columnList = "resource_type, state, id"),
+        @Index(name = "idx_aws_resources_type_instance_id", columnList = "resource_type, instance_type, id"),
+        @Index(name = "idx_aws_resources_name", columnList = "resource_name")
 })
+// 삭제 표시(tombstone)된 리소스는 조회에서 제외한다
+@SQLRestriction("deleted_at IS NULL")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -22,7 +31,8 @@ import java.util.Map;
 public class AwsResource {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "aws_resources_seq")
+    @SequenceGenerator(name = "aws_resources_seq", sequenceName = "aws_resources_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "resource_id", nullable = false, unique = true, length = 256)
@@ -34,6 +44,9 @@ public class AwsResource {
     @Column(name = "resource_name", length = 256)
     private String resourceName;
 
+    @Column(name = "account_id", length = 20)
+    private String accountId;
+
     @Column(name = "region", nullable = false, length = 50)
     private String region;
 
@@ -54,13 +67,23 @@ public class AwsResource {
     @Column(name = "metadata", columnDefinition = "text")
     private Map<String, Object> metadata;
 
+    // 동기화에서 마지막으로 본 시각. 내용이 바뀌지 않았으면 이 컬럼만 갱신되고 updatedAt 은 그대로다
     @Column(name = "last_synced_at")
     private LocalDateTime lastSyncedAt;
 
+    // state, tags, metadata 등 내용의 SHA-256. 같으면 동기화 시 쓰지 않는다
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    // 완료된 동기화에서 더 이상 보이지 않은 시각. 다시 나타나면 null 로 되돌린다
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     @Column(name = "created_at")
     @Builder.Default
     private LocalDateTime createdAt = LocalDateTime.now();
 
+    // 내용(contentHash)이 마지막으로 바뀐 시각
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
@@ -21,7 +21,8 @@ import java.time.LocalDateTime;
 public class DailyCost {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "daily_costs_seq")
+    @SequenceGenerator(name = "daily_costs_seq", sequenceName = "daily_costs_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "cost_date", nullable = false)
@@ -45,4 +46,8 @@ public class DailyCost {
     public void preUpdate() {
         this.updatedAt = LocalDateTime.now();
     }
+
+    public void updateTotalCost(BigDecimal totalCost) {
+        this.totalCost = totalCost;
+    }
 }
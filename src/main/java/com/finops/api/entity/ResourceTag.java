@@ -0,0 +1,52 @@
+package com.finops.api.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.io.Serializable;
+
+/**
+ * aws_resources.tags 를 (리소스, 키, 값) 행으로 펼친 것. 태그 조건 조회를 JSON 을 읽지 않고 인덱스로 처리하기 위해 둔다.
+ * 동기화(ResourceSyncWriter)가 리소스를 추가/변경할 때 함께 다시 쓴다. 값은 AWS 와 같이 대소문자를 구분한다.
+ */
+@Entity
+@Table(name = "aws_resource_tags", indexes = {
+        // 키=값 조회 (Team=payments 인 리소스)
+        @Index(name = "idx_aws_resource_tags_key_value", columnList = "tag_key, tag_value, resource_id")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResourceTag {
+
+    // (resource_id, tag_key) 기본 키 인덱스가 리소스별 태그 조회/삭제를 맡는다
+    @EmbeddedId
+    private Key id;
+
+    @Column(name = "tag_value", nullable = false, length = 256)
+    private String tagValue;
+
+    // 리소스 행을 지우면 DB 가 태그 행도 함께 지운다 (ON DELETE CASCADE). 컬럼 값은 id.resourceId 로만 쓴다
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "resource_id", insertable = false, updatable = false,
+            foreignKey = @ForeignKey(name = "fk_aws_resource_tags_resource"))
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private AwsResource resource;
+
+    @Embeddable
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+
+        // aws_resources.id
+        @Column(name = "resource_id", nullable = false)
+        private Long resourceId;
+
+        @Column(name = "tag_key", nullable = false, length = 128)
+        private String tagKey;
+    }
+}
@@ -0,0 +1,74 @@
+package com.finops.api.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리소스별 최근 사용률 요약. 시계열은 저장하지 않고 평가 구간의 통계와 유휴 판정만 남긴다.
+ * 리소스당 한 행이며 평가할 때마다 덮어쓴다.
+ */
+@Entity
+@Table(name = "resource_utilization", indexes = {
+        @Index(name = "idx_resource_utilization_idle_score", columnList = "idle, idle_score")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ResourceUtilization {
+
+    // aws_resources.id
+    @Id
+    @Column(name = "resource_id")
+    private Long resourceId;
+
+    @Column(name = "resource_type", nullable = false, length = 50)
+    private String resourceType;
+
+    @Column(name = "window_start", nullable = false)
+    private LocalDateTime windowStart;
+
+    @Column(name = "window_end", nullable = false)
+    private LocalDateTime windowEnd;
+
+    @Column(name = "datapoints", nullable = false)
+    private int datapoints;
+
+    // CPU 사용률 (%)
+    @Column(name = "cpu_avg")
+    private Double cpuAvg;
+
+    @Column(name = "cpu_p95")
+    private Double cpuP95;
+
+    @Column(name = "cpu_max")
+    private Double cpuMax;
+
+    // EC2 NetworkIn + NetworkOut 하루 평균 (bytes)
+    @Column(name = "network_bytes_per_day")
+    private Double networkBytesPerDay;
+
+    // RDS 최대 연결 수
+    @Column(name = "connections_max")
+    private Double connectionsMax;
+
+    // Lambda 구간 내 총 호출 수
+    @Column(name = "invocations")
+    private Double invocations;
+
+    @Column(name = "idle", nullable = false)
+    private boolean idle;
+
+    // 0~100. 임계값 대비 사용률이 낮을수록 크다
+    @Column(name = "idle_score", nullable = false)
+    private double idleScore;
+
+    @Column(name = "reason", length = 100)
+    private String reason;
+
+    @Column(name = "evaluated_at", nullable = false)
+    private LocalDateTime evaluatedAt;
+}
@@ -13,7 +13,9 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "service_costs", indexes = {
     @Index(name = "idx_service_costs_date", columnList = "cost_date"),
-    @Index(name = "idx_service_costs_service", columnList = "service_name")
+    @Index(name = "idx_service_costs_service", columnList = "service_name"),
+    // 비용 탐색 쿼리(CostQueryEngine)가 테이블을 읽지 않고 인덱스만으로 집계하도록 하는 커버링 인덱스
+    @Index(name = "idx_service_costs_date_service_cost", columnList = "cost_date, service_name, cost")
 })
 @Getter
 @NoArgsConstructor
@@ -22,7 +24,8 @@ import java.time.LocalDateTime;
 public class ServiceCost {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "service_costs_seq")
+    @SequenceGenerator(name = "service_costs_seq", sequenceName = "service_costs_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "cost_date", nullable = false)
@@ -41,4 +44,8 @@ public class ServiceCost {
     @Column(name = "created_at")
     @Builder.Default
     private LocalDateTime createdAt = LocalDateTime.now();
+
+    public void updateCost(BigDecimal cost) {
+        this.cost = cost;
+    }
 }
@@ -0,0 +1,37 @@
+package com.finops.api.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "service_cost_monthly",
+        uniqueConstraints = @UniqueConstraint(name = "uk_service_cost_monthly_month_service", columnNames = {"month_start", "service_name"}),
+        indexes = @Index(name = "idx_service_cost_monthly_month", columnList = "month_start"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ServiceCostMonthly {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "month_start", nullable = false)
+    private LocalDate monthStart;  // 해당 월의 1일
+
+    @Column(name = "service_name", nullable = false, length = 100)
+    private String serviceName;
+
+    @Column(name = "cost", nullable = false, precision = 16, scale = 4)
+    private BigDecimal cost;
+
+    @Column(name = "updated_at")
+    @Builder.Default
+    private LocalDateTime updatedAt = LocalDateTime.now();
+}
@@ -0,0 +1,37 @@
+package com.finops.api.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "service_cost_weekly",
+        uniqueConstraints = @UniqueConstraint(name = "uk_service_cost_weekly_week_service", columnNames = {"week_start", "service_name"}),
+        indexes = @Index(name = "idx_service_cost_weekly_week", columnList = "week_start"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ServiceCostWeekly {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "week_start", nullable = false)
+    private LocalDate weekStart;  // ISO 주의 월요일
+
+    @Column(name = "service_name", nullable = false, length = 100)
+    private String serviceName;
+
+    @Column(name = "cost", nullable = false, precision = 16, scale = 4)
+    private BigDecimal cost;
+
+    @Column(name = "updated_at")
+    @Builder.Default
+    private LocalDateTime updatedAt = LocalDateTime.now();
+}
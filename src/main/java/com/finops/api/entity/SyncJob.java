@@ -0,0 +1,85 @@
+package com.finops.api.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Entity
+@Table(name = "sync_jobs", indexes = {
+        @Index(name = "idx_sync_jobs_status", columnList = "status"),
+        @Index(name = "idx_sync_jobs_requested_at", columnList = "requested_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SyncJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "scope", nullable = false, length = 50)
+    private String scope;  // ALL 또는 리소스 타입 (EC2, RDS, S3, LAMBDA)
+
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private String status = "QUEUED";  // QUEUED, RUNNING, SUCCEEDED, PARTIAL, FAILED, INTERRUPTED
+
+    @Column(name = "phase", nullable = false, length = 20)
+    @Builder.Default
+    private String phase = "QUEUED";  // QUEUED, COLLECTING, FINISHED
+
+    @Column(name = "total_targets")
+    @Builder.Default
+    private Integer totalTargets = 0;  // 수집 범위(타입 x 계정 x 리전) 수
+
+    @Column(name = "completed_targets")
+    @Builder.Default
+    private Integer completedTargets = 0;
+
+    @Column(name = "failed_targets")
+    @Builder.Default
+    private Integer failedTargets = 0;
+
+    @Column(name = "processed_resources")
+    @Builder.Default
+    private Long processedResources = 0L;
+
+    @Column(name = "added_resources")
+    @Builder.Default
+    private Integer addedResources = 0;
+
+    @Column(name = "changed_resources")
+    @Builder.Default
+    private Integer changedResources = 0;
+
+    @Column(name = "removed_resources")
+    @Builder.Default
+    private Integer removedResources = 0;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "errors", columnDefinition = "text")
+    @Builder.Default
+    private List<String> errors = new ArrayList<>();
+
+    @Column(name = "requested_at", nullable = false)
+    @Builder.Default
+    private LocalDateTime requestedAt = LocalDateTime.now();
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    public boolean isActive() {
+        return "QUEUED".equals(status) || "RUNNING".equals(status);
+    }
+}
@@ -0,0 +1,25 @@
+package com.finops.api.event;
+
+import java.time.LocalDate;
+
+/**
+ * daily_costs / service_costs 데이터가 변경되었을 때 발행되는 이벤트.
+ * startDate ~ endDate 범위(양 끝 포함)의 비용 행이 추가/수정되었음을 의미한다.
+ */
+public record CostDataChangedEvent(
+        LocalDate startDate,
+        LocalDate endDate
+) {
+    public CostDataChangedEvent {
+        if (startDate == null || endDate == null) {
+            throw new IllegalArgumentException("변경 범위는 필수입니다");
+        }
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦을 수 없습니다");
+        }
+    }
+
+    public static CostDataChangedEvent of(LocalDate date) {
+        return new CostDataChangedEvent(date, date);
+    }
+}
@@ -0,0 +1,71 @@
+package com.finops.api.event;
+
+import com.finops.api.entity.AwsResource;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 수집 범위(타입 x 계정 x 리전) 하나의 동기화가 끝났을 때 발행되는 변경분.
+ * 내용이 같은 리소스는 포함되지 않으므로 소비자는 전체 재조회 없이 이 변경분만 반영하면 된다.
+ * region 이 null 이면 리전과 무관한 수집기(S3)의 계정 전체 범위다. removed 는 수집이 성공한 경우에만 채워진다.
+ */
+public record ResourceChangeSet(
+        String resourceType,
+        String accountId,
+        String region,
+        List<Change> added,
+        List<Change> changed,
+        List<Change> removed
+) {
+    public boolean isEmpty() {
+        return added.isEmpty() && changed.isEmpty() && removed.isEmpty();
+    }
+
+    public int size() {
+        return added.size() + changed.size() + removed.size();
+    }
+
+    /**
+     * before 는 추가일 때, after 는 삭제일 때 null 이다.
+     */
+    public record Change(String resourceId, Snapshot before, Snapshot after) {
+
+        public static Change added(Snapshot after) {
+            return new Change(after.resourceId(), null, after);
+        }
+
+        public static Change changed(Snapshot before, Snapshot after) {
+            return new Change(after.resourceId(), before, after);
+        }
+
+        public static Change removed(Snapshot before) {
+            return new Change(before.resourceId(), before, null);
+        }
+    }
+
+    /**
+     * 소비자가 집계/판정에 쓰는 필드만 담은 리소스 요약. metadata 는 크기가 커서 제외한다.
+     */
+    public record Snapshot(
+            String resourceId,
+            String resourceType,
+            String accountId,
+            String region,
+            String state,
+            String instanceType,
+            Map<String, String> tags
+    ) {
+        public static Snapshot of(AwsResource resource) {
+            return new Snapshot(
+                    resource.getResourceId(),
+                    resource.getResourceType(),
+                    resource.getAccountId(),
+                    resource.getRegion(),
+                    resource.getState(),
+                    resource.getInstanceType(),
+                    resource.getTags() == null ? Map.of() : Map.copyOf(resource.getTags())
+            );
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.finops.api.event;
+
+/**
+ * 리소스 동기화 한 번의 시작과 끝. 동기화를 실행하는 스레드에서 동기적으로 발행된다.
+ * 청크는 수집 범위가 끝나기 전에 커밋되고 그 변경분(ResourceChangeSet)은 범위가 끝날 때 발행되므로,
+ * STARTED 와 FINISHED 사이에는 DB 의 행과 지금까지 발행된 변경분이 서로 맞지 않을 수 있다.
+ */
+public record ResourceSyncEvent(Phase phase) {
+
+    public enum Phase {
+        STARTED,
+        FINISHED
+    }
+
+    public static ResourceSyncEvent started() {
+        return new ResourceSyncEvent(Phase.STARTED);
+    }
+
+    public static ResourceSyncEvent finished() {
+        return new ResourceSyncEvent(Phase.FINISHED);
+    }
+}
@@ -0,0 +1,18 @@
+package com.finops.api.query;
+
+import com.finops.api.dto.query.CostQueryRequest;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 검증과 SQL 생성이 끝난 비용 탐색 쿼리. 요청 스레드에서 만들고, 실행은 스트리밍 응답 안에서 한다.
+ */
+public record CompiledCostQuery(
+        CostQueryRequest request,
+        CostGranularity granularity,
+        List<CostDimension> groupBy,
+        String sql,
+        Map<String, Object> params
+) {
+}
@@ -0,0 +1,39 @@
+package com.finops.api.query;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * 비용 탐색 쿼리에서 그룹/필터에 쓸 수 있는 차원. 새 차원은 service_costs 컬럼과 함께 여기에 추가한다.
+ */
+public enum CostDimension {
+
+    SERVICE("service", "service_name");
+
+    private final String key;
+    private final String column;
+
+    CostDimension(String key, String column) {
+        this.key = key;
+        this.column = column;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    String column() {
+        return column;
+    }
+
+    public static CostDimension from(String key) {
+        if (key == null || key.isBlank()) {
+            throw new IllegalArgumentException("dimension 은 비어 있을 수 없습니다");
+        }
+        String normalized = key.trim().toLowerCase(Locale.ROOT);
+        return Arrays.stream(values())
+                .filter(dimension -> dimension.key.equals(normalized))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 dimension 입니다: " + key));
+    }
+}
@@ -0,0 +1,21 @@
+package com.finops.api.query;
+
+import java.util.Locale;
+
+public enum CostGranularity {
+
+    DAY,
+    WEEK,   // 월요일 시작
+    MONTH;
+
+    public static CostGranularity from(String value) {
+        if (value == null || value.isBlank()) {
+            return DAY;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 granularity 입니다: " + value);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.finops.api.query;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finops.api.dto.query.CostQueryRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.sql.DatabaseMetaData;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * POST /api/costs/query 요청(기간, 단위, 그룹, 필터, Top-N)을 service_costs 에 대한 SQL 한 문장으로 컴파일하고,
+ * 결과를 행 단위로 JSON 스트림에 쓴다. Top-N 은 CTE 로 상위 그룹을 먼저 고른 뒤 조인한다.
+ */
+@Slf4j
+@Service
+public class CostQueryEngine {
+
+    private static final int FETCH_SIZE = 1_000;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+    private final boolean postgres;
+
+    public CostQueryEngine(DataSource dataSource,
+                           PlatformTransactionManager transactionManager,
+                           ObjectMapper objectMapper) {
+        JdbcTemplate streaming = new JdbcTemplate(dataSource);
+        streaming.setFetchSize(FETCH_SIZE);
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(streaming);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.postgres = isPostgres(dataSource);
+    }
+
+    public CompiledCostQuery compile(CostQueryRequest request) {
+        if (request.startDate().isAfter(request.endDate())) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦을 수 없습니다");
+        }
+        CostGranularity granularity = CostGranularity.from(request.granularity());
+        List<CostDimension> groupBy = request.groupBy() == null ? List.of()
+                : request.groupBy().stream().map(CostDimension::from).distinct().toList();
+        if (request.topN() != null && groupBy.isEmpty()) {
+            throw new IllegalArgumentException("topN 은 groupBy 와 함께 사용해야 합니다");
+        }
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("startDate", request.startDate());
+        params.put("endDate", request.endDate());
+        String where = where(request.filters(), params);
+
+        String bucket = bucket(granularity);
+        String dimensions = groupBy.stream()
+                .map(dimension -> "s." + dimension.column())
+                .collect(Collectors.joining(", "));
+        String groupColumns = groupBy.isEmpty() ? bucket : bucket + ", " + dimensions;
+        String selectColumns = groupBy.isEmpty()
+                ? bucket + " AS period_start"
+                : bucket + " AS period_start, " + groupBy.stream()
+                        .map(dimension -> "s." + dimension.column() + " AS " + dimension.key())
+                        .collect(Collectors.joining(", "));
+        String orderColumns = groupBy.isEmpty() ? "period_start"
+                : "period_start, " + groupBy.stream().map(CostDimension::key).collect(Collectors.joining(", "));
+
+        StringBuilder sql = new StringBuilder();
+        String join = "";
+        if (request.topN() != null) {
+            params.put("topN", request.topN());
+            sql.append("WITH top_groups AS (SELECT ").append(dimensions)
+                    .append(" FROM service_costs s WHERE ").append(where)
+                    .append(" GROUP BY ").append(dimensions)
+                    .append(" ORDER BY SUM(s.cost) DESC, ").append(dimensions)
+                    .append(" LIMIT :topN) ");
+            join = " JOIN top_groups t ON " + groupBy.stream()
+                    .map(dimension -> "t." + dimension.column() + " = s." + dimension.column())
+                    .collect(Collectors.joining(" AND "));
+        }
+        sql.append("SELECT ").append(selectColumns).append(", SUM(s.cost) AS cost")
+                .append(" FROM service_costs s").append(join)
+                .append(" WHERE ").append(where)
+                .append(" GROUP BY ").append(groupColumns)
+                .append(" ORDER BY ").append(orderColumns);
+
+        return new CompiledCostQuery(request, granularity, groupBy, sql.toString(), params);
+    }
+
+    /**
+     * 쿼리를 실행하며 결과 행을 바로 JSON 으로 쓴다. 결과 전체를 메모리에 모으지 않는다.
+     * Postgres 는 트랜잭션 안에서만 fetch size 단위 커서를 쓰므로 읽기 전용 트랜잭션으로 감싼다.
+     */
+    public void stream(CompiledCostQuery query, OutputStream out) throws IOException {
+        long started = System.currentTimeMillis();
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+            json.writeStartObject();
+            json.writeStringField("startDate", query.request().startDate().toString());
+            json.writeStringField("endDate", query.request().endDate().toString());
+            json.writeStringField("granularity", query.granularity().name());
+            json.writeArrayFieldStart("groupBy");
+            for (CostDimension dimension : query.groupBy()) {
+                json.writeString(dimension.key());
+            }
+            json.writeEndArray();
+
+            json.writeArrayFieldStart("rows");
+            long[] rowCount = new long[1];
+            readOnlyTransaction.executeWithoutResult(status ->
+                    jdbcTemplate.query(query.sql(), query.params(), (RowCallbackHandler) rs -> {
+                        try {
+                            json.writeStartObject();
+                            json.writeStringField("period", rs.getObject("period_start", LocalDate.class).toString());
+                            for (CostDimension dimension : query.groupBy()) {
+                                json.writeStringField(dimension.key(), rs.getString(dimension.key()));
+                            }
+                            BigDecimal cost = rs.getBigDecimal("cost");
+                            json.writeNumberField("cost", cost);
+                            json.writeEndObject();
+                            rowCount[0]++;
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }));
+            json.writeEndArray();
+
+            json.writeNumberField("rowCount", rowCount[0]);
+            json.writeEndObject();
+            log.debug("비용 탐색 쿼리 완료: {} 행, {} ms", rowCount[0], System.currentTimeMillis() - started);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private String where(List<CostQueryRequest.Filter> filters, Map<String, Object> params) {
+        StringBuilder where = new StringBuilder("s.cost_date BETWEEN :startDate AND :endDate");
+        if (filters == null) {
+            return where.toString();
+        }
+        for (int i = 0; i < filters.size(); i++) {
+            var filter = filters.get(i);
+            CostDimension dimension = CostDimension.from(filter.dimension());
+            String operator = filter.operator() == null ? "IN" : filter.operator().trim().toUpperCase(Locale.ROOT);
+            String sqlOperator = switch (operator) {
+                case "IN" -> " IN ";
+                case "NOT_IN" -> " NOT IN ";
+                default -> throw new IllegalArgumentException("지원하지 않는 필터 operator 입니다: " + filter.operator());
+            };
+            String param = "filter" + i;
+            params.put(param, new ArrayList<>(filter.values()));
+            where.append(" AND s.").append(dimension.column()).append(sqlOperator).append("(:").append(param).append(")");
+        }
+        return where.toString();
+    }
+
+    /**
+     * 기간 단위 버킷의 시작일. H2 와 Postgres 의 날짜 함수가 달라 방언별로 만든다.
+     */
+    private String bucket(CostGranularity granularity) {
+        return switch (granularity) {
+            case DAY -> "s.cost_date";
+            case WEEK -> postgres
+                    ? "CAST(date_trunc('week', s.cost_date) AS date)"
+                    : "DATEADD(DAY, 1 - ISO_DAY_OF_WEEK(s.cost_date), s.cost_date)";
+            case MONTH -> postgres
+                    ? "CAST(date_trunc('month', s.cost_date) AS date)"
+                    : "DATEADD(DAY, 1 - DAY_OF_MONTH(s.cost_date), s.cost_date)";
+        };
+    }
+
+    private static boolean isPostgres(DataSource dataSource) {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return product != null && product.toLowerCase(Locale.ROOT).contains("postgres");
+        } catch (MetaDataAccessException e) {
+            log.warn("DB 종류 확인 실패, H2 문법을 사용합니다", e);
+            return false;
+        }
+    }
+}
@@ -4,18 +4,79 @@ import com.finops.api.entity.AwsResource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface AwsResourceRepository extends JpaRepository<AwsResource, Long> {
+public interface AwsResourceRepository extends JpaRepository<AwsResource, Long>, AwsResourceSearchRepository {
 
     Optional<AwsResource> findByResourceId(String resourceId);
 
+    /**
+     * 삭제 표시된 행까지 포함해 조회한다. @SQLRestriction 은 네이티브 쿼리에 적용되지 않는다.
+     */
+    @Query(value = "SELECT * FROM aws_resources WHERE resource_id IN (:resourceIds)", nativeQuery = true)
+    List<AwsResource> findIncludingDeletedByResourceIdIn(@Param("resourceIds") Collection<String> resourceIds);
+
+    @Query("""
+            SELECT r.id FROM AwsResource r
+            WHERE r.resourceType = :type AND r.accountId = :accountId AND r.region = :region
+            """)
+    List<Long> findIdsInScope(
+            @Param("type") String resourceType,
+            @Param("accountId") String accountId,
+            @Param("region") String region
+    );
+
+    /**
+     * 내용이 같아 다시 쓰지 않은 리소스의 마지막 동기화 시각만 한 문장으로 갱신한다. updatedAt 은 바꾸지 않는다.
+     */
+    @Modifying
+    @Query("UPDATE AwsResource r SET r.lastSyncedAt = :syncedAt WHERE r.id IN :ids")
+    int updateLastSyncedAt(@Param("ids") Collection<Long> ids, @Param("syncedAt") LocalDateTime syncedAt);
+
+    @Query("SELECT r.id FROM AwsResource r WHERE r.resourceType = :type AND r.accountId = :accountId")
+    List<Long> findIdsInAccount(
+            @Param("type") String resourceType,
+            @Param("accountId") String accountId
+    );
+
+    /**
+     * 태그 키=값 조회. aws_resource_tags 의 (tag_key, tag_value, resource_id) 인덱스로 찾는다.
+     */
+    @Query("""
+            SELECT r FROM AwsResource r
+            WHERE EXISTS (SELECT 1 FROM ResourceTag t
+                          WHERE t.id.resourceId = r.id AND t.id.tagKey = :key AND t.tagValue = :value)
+            """)
+    Page<AwsResource> findByTag(@Param("key") String tagKey, @Param("value") String tagValue, Pageable pageable);
+
+    /**
+     * Postgres JSONB 모드의 태그 조회. tags 는 {"키": "값"} JSON 이며 GIN 식 인덱스(CAST(tags AS jsonb))를 탄다.
+     * 네이티브 쿼리라 Sort 를 엔티티 속성명 그대로 SQL 에 붙이므로 pageable 은 page/size 만 넘긴다. 순서는 id 로 고정한다.
+     */
+    @Query(value = """
+            SELECT * FROM aws_resources
+            WHERE deleted_at IS NULL AND CAST(tags AS jsonb) @> CAST(:tags AS jsonb)
+            ORDER BY id
+            """,
+            countQuery = """
+            SELECT COUNT(*) FROM aws_resources
+            WHERE deleted_at IS NULL AND CAST(tags AS jsonb) @> CAST(:tags AS jsonb)
+            """,
+            nativeQuery = true)
+    Page<AwsResource> findByTagsContaining(@Param("tags") String tagsJson, Pageable pageable);
+
+    // 태그 재구성 등 전체를 id 순서로 나눠 읽을 때 쓴다
+    List<AwsResource> findTop500ByIdGreaterThanOrderByIdAsc(Long id);
+
     List<AwsResource> findByResourceType(String resourceType);
 
     Page<AwsResource> findByResourceType(String resourceType, Pageable pageable);
@@ -33,8 +94,14 @@ public interface AwsResourceRepository extends JpaRepository<AwsResource, Long>
     @Query("SELECT r.resourceType, COUNT(r) FROM AwsResource r GROUP BY r.resourceType")
     List<Object[]> countByResourceType();
 
-    @Query("SELECT r.region, COUNT(r) FROM AwsResource r GROUP BY r.region")
-    List<Object[]> countByRegion();
+    /**
+     * InventoryStatistics 재구성용. 타입/리전/계정/상태별 개수를 한 번에 센다.
+     */
+    @Query("""
+            SELECT r.resourceType, r.region, r.accountId, r.state, COUNT(r) FROM AwsResource r
+            GROUP BY r.resourceType, r.region, r.accountId, r.state
+            """)
+    List<Object[]> countByTypeRegionAccountState();
 
     @Query("SELECT r FROM AwsResource r WHERE r.state = 'stopped' OR r.state = 'unused'")
     List<AwsResource> findIdleResources();
@@ -0,0 +1,19 @@
+package com.finops.api.repository;
+
+import com.finops.api.dto.resource.ResourceSearchCriteria;
+import com.finops.api.entity.AwsResource;
+
+import java.util.List;
+
+/**
+ * 조건 조합이 많은 리소스 검색. 구현은 AwsResourceSearchRepositoryImpl (Spring Data 리포지토리 조각).
+ */
+public interface AwsResourceSearchRepository {
+
+    /**
+     * (resource_type, id) 순서로 afterType/afterId 다음 행부터 limit 개를 읽는다. 둘 다 null 이면 처음부터 읽는다.
+     */
+    List<AwsResource> searchAfter(ResourceSearchCriteria criteria, String afterType, Long afterId, int limit);
+
+    long countMatching(ResourceSearchCriteria criteria);
+}
@@ -0,0 +1,88 @@
+package com.finops.api.repository;
+
+import com.finops.api.dto.resource.ResourceSearchCriteria;
+import com.finops.api.entity.AwsResource;
+import com.finops.api.entity.ResourceTag;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.*;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 키셋 페이지네이션 검색. OFFSET 없이 마지막으로 읽은 (resource_type, id) 보다 뒤의 행만 읽으므로
+ * 몇 번째 페이지든 인덱스 범위 검색 한 번이고, 동기화 중 행이 추가/삭제돼도 건너뛰거나 겹치는 행이 없다.
+ * 조건별 복합 인덱스는 AwsResource 에 정의되어 있다.
+ */
+@RequiredArgsConstructor
+public class AwsResourceSearchRepositoryImpl implements AwsResourceSearchRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<AwsResource> searchAfter(ResourceSearchCriteria criteria, String afterType, Long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<AwsResource> query = cb.createQuery(AwsResource.class);
+        Root<AwsResource> root = query.from(AwsResource.class);
+
+        List<Predicate> predicates = predicates(cb, query, root, criteria);
+        if (afterId != null) {
+            Path<String> type = root.get("resourceType");
+            Path<Long> id = root.get("id");
+            predicates.add(cb.or(
+                    cb.greaterThan(type, afterType),
+                    cb.and(cb.equal(type, afterType), cb.greaterThan(id, afterId))));
+        }
+        query.select(root)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.asc(root.get("resourceType")), cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public long countMatching(ResourceSearchCriteria criteria) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<AwsResource> root = query.from(AwsResource.class);
+        query.select(cb.count(root)).where(predicates(cb, query, root, criteria).toArray(Predicate[]::new));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static List<Predicate> predicates(CriteriaBuilder cb, CriteriaQuery<?> query, Root<AwsResource> root,
+                                              ResourceSearchCriteria criteria) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (criteria.resourceType() != null) {
+            predicates.add(cb.equal(root.get("resourceType"), criteria.resourceType()));
+        }
+        if (criteria.region() != null) {
+            predicates.add(cb.equal(root.get("region"), criteria.region()));
+        }
+        if (criteria.state() != null) {
+            predicates.add(cb.equal(root.get("state"), criteria.state()));
+        }
+        if (criteria.instanceType() != null) {
+            predicates.add(cb.equal(root.get("instanceType"), criteria.instanceType()));
+        }
+        if (criteria.namePrefix() != null) {
+            predicates.add(cb.like(root.get("resourceName"), escapeLike(criteria.namePrefix()) + "%", '\\'));
+        }
+        if (criteria.tagKey() != null) {
+            Subquery<Integer> tag = query.subquery(Integer.class);
+            Root<ResourceTag> tagRoot = tag.from(ResourceTag.class);
+            tag.select(cb.literal(1)).where(
+                    cb.equal(tagRoot.get("id").get("resourceId"), root.get("id")),
+                    cb.equal(tagRoot.get("id").get("tagKey"), criteria.tagKey()),
+                    cb.equal(tagRoot.get("tagValue"), criteria.tagValue()));
+            predicates.add(cb.exists(tag));
+        }
+        return predicates;
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
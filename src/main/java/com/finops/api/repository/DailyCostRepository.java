@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,10 +16,48 @@ public interface DailyCostRepository extends JpaRepository<DailyCost, Long> {
 
     Optional<DailyCost> findByCostDate(LocalDate costDate);
 
+    List<DailyCost> findByCostDateIn(Collection<LocalDate> costDates);
+
     @Query("SELECT SUM(d.totalCost) FROM DailyCost d WHERE d.costDate BETWEEN :startDate AND :endDate")
     Optional<java.math.BigDecimal> sumTotalCostBetween(@Param("startDate") LocalDate startDate,
                                                         @Param("endDate") LocalDate endDate);
 
+    @Query("""
+           SELECT d.costDate, SUM(d.totalCost)
+           FROM DailyCost d
+           GROUP BY d.costDate
+           ORDER BY d.costDate
+           """)
+    List<Object[]> sumTotalCostByDate();
+
+    @Query("""
+           SELECT d.costDate, SUM(d.totalCost)
+           FROM DailyCost d
+           WHERE d.costDate BETWEEN :startDate AND :endDate
+           GROUP BY d.costDate
+           ORDER BY d.costDate
+           """)
+    List<Object[]> sumTotalCostByDateBetween(@Param("startDate") LocalDate startDate,
+                                             @Param("endDate") LocalDate endDate);
+
+    /**
+     * 대시보드 기간별 합계(이번 달, 지난 달, 오늘, 어제)를 daily_costs 한 번 스캔으로 계산한다.
+     * 행이 없는 기간은 null 이다.
+     */
+    @Query("""
+           SELECT SUM(CASE WHEN d.costDate BETWEEN :monthStart AND :today THEN d.totalCost END),
+                  SUM(CASE WHEN d.costDate BETWEEN :previousMonthStart AND :previousMonthEnd THEN d.totalCost END),
+                  SUM(CASE WHEN d.costDate = :today THEN d.totalCost END),
+                  SUM(CASE WHEN d.costDate = :yesterday THEN d.totalCost END)
+           FROM DailyCost d
+           WHERE d.costDate BETWEEN :previousMonthStart AND :today
+           """)
+    List<Object[]> sumDashboardWindows(@Param("previousMonthStart") LocalDate previousMonthStart,
+                                       @Param("previousMonthEnd") LocalDate previousMonthEnd,
+                                       @Param("monthStart") LocalDate monthStart,
+                                       @Param("yesterday") LocalDate yesterday,
+                                       @Param("today") LocalDate today);
+
     @Query("SELECT d FROM DailyCost d WHERE d.costDate >= :startDate ORDER BY d.costDate DESC")
     List<DailyCost> findRecentCosts(@Param("startDate") LocalDate startDate);
 
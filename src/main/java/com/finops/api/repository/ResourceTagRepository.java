@@ -0,0 +1,29 @@
+package com.finops.api.repository;
+
+import com.finops.api.entity.ResourceTag;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ResourceTagRepository extends JpaRepository<ResourceTag, ResourceTag.Key> {
+
+    /**
+     * 삭제 표시되지 않은 리소스의 태그 키별 리소스 수.
+     */
+    @Query("""
+            SELECT t.id.tagKey, COUNT(t) FROM ResourceTag t JOIN AwsResource r ON r.id = t.id.resourceId
+            GROUP BY t.id.tagKey
+            """)
+    List<Object[]> countByKey();
+
+    @Query("""
+            SELECT t.tagValue, COUNT(t) FROM ResourceTag t JOIN AwsResource r ON r.id = t.id.resourceId
+            WHERE t.id.tagKey = :key
+            GROUP BY t.tagValue
+            """)
+    List<Object[]> countByValue(@Param("key") String tagKey);
+}
@@ -0,0 +1,23 @@
+package com.finops.api.repository;
+
+import com.finops.api.entity.ResourceUtilization;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ResourceUtilizationRepository extends JpaRepository<ResourceUtilization, Long> {
+
+    /**
+     * 유휴 리소스를 유휴 점수 순으로 [사용률, 리소스] 쌍으로 조회한다. 삭제 표시된 리소스는 제외된다.
+     */
+    @Query("""
+            SELECT u, r FROM ResourceUtilization u JOIN AwsResource r ON r.id = u.resourceId
+            WHERE u.idle = true
+            ORDER BY u.idleScore DESC, u.cpuAvg ASC, u.resourceId ASC
+            """)
+    List<Object[]> findRankedIdle(Pageable pageable);
+}
@@ -0,0 +1,41 @@
+package com.finops.api.repository;
+
+import com.finops.api.entity.ServiceCostMonthly;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ServiceCostMonthlyRepository extends JpaRepository<ServiceCostMonthly, Long> {
+
+    @Query("""
+           SELECT r.serviceName, SUM(r.cost)
+           FROM ServiceCostMonthly r
+           WHERE r.monthStart IN :months
+           GROUP BY r.serviceName
+           """)
+    List<Object[]> sumByServiceForMonths(@Param("months") Collection<LocalDate> months);
+
+    @Modifying
+    @Query("DELETE FROM ServiceCostMonthly r WHERE r.monthStart = :monthStart")
+    int deleteByMonthStart(@Param("monthStart") LocalDate monthStart);
+
+    /**
+     * 기간의 일별 행을 서비스별로 합산해 버킷 하나를 INSERT ... SELECT 한 번으로 채운다. 삽입한 행 수를 반환한다.
+     */
+    @Modifying
+    @Query(value = """
+           INSERT INTO service_cost_monthly (month_start, service_name, cost, updated_at)
+           SELECT CAST(:monthStart AS DATE), s.service_name, SUM(s.cost), LOCALTIMESTAMP
+           FROM service_costs s
+           WHERE s.cost_date BETWEEN :monthStart AND :monthEnd
+           GROUP BY s.service_name
+           """, nativeQuery = true)
+    int insertFromServiceCosts(@Param("monthStart") LocalDate monthStart, @Param("monthEnd") LocalDate monthEnd);
+}
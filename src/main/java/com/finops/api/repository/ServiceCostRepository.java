@@ -15,6 +15,29 @@ public interface ServiceCostRepository extends JpaRepository<ServiceCost, Long>
 
     List<ServiceCost> findByCostDate(LocalDate costDate);
 
+    @Query("""
+           SELECT s.costDate, s.serviceName, SUM(s.cost)
+           FROM ServiceCost s
+           WHERE s.costDate BETWEEN :startDate AND :endDate
+           GROUP BY s.costDate, s.serviceName
+           """)
+    List<Object[]> sumCostByDateAndServiceBetween(@Param("startDate") LocalDate startDate,
+                                                  @Param("endDate") LocalDate endDate);
+
+    @Query("""
+           SELECT s.costDate, SUM(s.cost)
+           FROM ServiceCost s
+           WHERE s.serviceName = :serviceName AND s.costDate BETWEEN :startDate AND :endDate
+           GROUP BY s.costDate
+           ORDER BY s.costDate
+           """)
+    List<Object[]> findServiceCostSeries(@Param("serviceName") String serviceName,
+                                         @Param("startDate") LocalDate startDate,
+                                         @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT MIN(s.costDate), MAX(s.costDate) FROM ServiceCost s")
+    List<Object[]> findCostDateRange();
+
     @Query("""
            SELECT s.serviceName, SUM(s.cost) as totalCost
            FROM ServiceCost s
@@ -0,0 +1,41 @@
+package com.finops.api.repository;
+
+import com.finops.api.entity.ServiceCostWeekly;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ServiceCostWeeklyRepository extends JpaRepository<ServiceCostWeekly, Long> {
+
+    @Query("""
+           SELECT r.serviceName, SUM(r.cost)
+           FROM ServiceCostWeekly r
+           WHERE r.weekStart IN :weeks
+           GROUP BY r.serviceName
+           """)
+    List<Object[]> sumByServiceForWeeks(@Param("weeks") Collection<LocalDate> weeks);
+
+    @Modifying
+    @Query("DELETE FROM ServiceCostWeekly r WHERE r.weekStart = :weekStart")
+    int deleteByWeekStart(@Param("weekStart") LocalDate weekStart);
+
+    /**
+     * 기간의 일별 행을 서비스별로 합산해 버킷 하나를 INSERT ... SELECT 한 번으로 채운다. 삽입한 행 수를 반환한다.
+     */
+    @Modifying
+    @Query(value = """
+           INSERT INTO service_cost_weekly (week_start, service_name, cost, updated_at)
+           SELECT CAST(:weekStart AS DATE), s.service_name, SUM(s.cost), LOCALTIMESTAMP
+           FROM service_costs s
+           WHERE s.cost_date BETWEEN :weekStart AND :weekEnd
+           GROUP BY s.service_name
+           """, nativeQuery = true)
+    int insertFromServiceCosts(@Param("weekStart") LocalDate weekStart, @Param("weekEnd") LocalDate weekEnd);
+}
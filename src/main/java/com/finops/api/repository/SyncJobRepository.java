@@ -0,0 +1,19 @@
+package com.finops.api.repository;
+
+import com.finops.api.entity.SyncJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface SyncJobRepository extends JpaRepository<SyncJob, Long> {
+
+    @Query("SELECT j FROM SyncJob j ORDER BY j.requestedAt DESC")
+    List<SyncJob> findRecentJobs(Pageable pageable);
+
+    List<SyncJob> findByStatusIn(Collection<String> statuses);
+}
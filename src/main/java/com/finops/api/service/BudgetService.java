@@ -6,6 +6,7 @@ import com.finops.api.entity.BudgetAlert;
 import com.finops.api.entity.BudgetThreshold;
 import com.finops.api.repository.BudgetAlertRepository;
 import com.finops.api.repository.BudgetRepository;
+import com.finops.api.util.Money;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -188,14 +189,15 @@ public class BudgetService {
         // 실제 비용 조회
         BigDecimal actualAmount = dailyCostService.getTotalCostBetween(periodStart, today);
 
-        // 임계값 상태 계산
+        // 임계값 상태 계산 (micro 단위 long 으로 비교)
+        long amountMicros = Money.toMicros(budget.getAmount());
+        long actualMicros = Money.toMicros(actualAmount);
         List<BudgetUsageDto.ThresholdStatus> thresholdStatuses = new ArrayList<>();
         for (BudgetThreshold threshold : budget.getThresholds()) {
-            BigDecimal triggerAmount = budget.getAmount()
-                    .multiply(BigDecimal.valueOf(threshold.getThresholdPercent()))
-                    .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
+            long triggerMicros = Money.percentOf(amountMicros, threshold.getThresholdPercent(), 2, RoundingMode.HALF_UP);
+            BigDecimal triggerAmount = Money.toBigDecimal(triggerMicros, 2, RoundingMode.UNNECESSARY);
 
-            boolean triggered = actualAmount.compareTo(triggerAmount) >= 0;
+            boolean triggered = actualMicros >= triggerMicros;
 
             thresholdStatuses.add(new BudgetUsageDto.ThresholdStatus(
                     threshold.getThresholdPercent(),
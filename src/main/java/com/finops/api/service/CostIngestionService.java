@@ -0,0 +1,160 @@
+package com.finops.api.service;
+
+import com.finops.api.dto.ingest.CostIngestRequest;
+import com.finops.api.dto.ingest.CostIngestResultDto;
+import com.finops.api.entity.DailyCost;
+import com.finops.api.entity.ServiceCost;
+import com.finops.api.event.CostDataChangedEvent;
+import com.finops.api.repository.DailyCostRepository;
+import com.finops.api.repository.ServiceCostRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * 일별/서비스별 비용 행을 대량으로 적재한다.
+ * (일자) 또는 (일자, 서비스) 기준으로 기존 행이 있으면 갱신하고 없으면 추가하며,
+ * BATCH_SIZE 단위로 flush/clear 하여 Hibernate JDBC 배치가 적용되도록 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CostIngestionService {
+
+    // spring.jpa.properties.hibernate.jdbc.batch_size 와 맞춘다
+    private static final int BATCH_SIZE = 500;
+
+    private final DailyCostRepository dailyCostRepository;
+    private final ServiceCostRepository serviceCostRepository;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public CostIngestResultDto ingest(CostIngestRequest request) {
+        int totalRows = request.rowCount();
+        log.info("비용 데이터 적재 시작: {} 행", totalRows);
+        long started = System.nanoTime();
+
+        int[] daily = upsertDailyCosts(request.dailyCosts() != null ? request.dailyCosts() : List.of());
+        int[] service = upsertServiceCosts(request.serviceCosts() != null ? request.serviceCosts() : List.of());
+
+        publishChange(request);
+
+        var result = CostIngestResultDto.of(daily[0], daily[1], service[0], service[1],
+                System.nanoTime() - started, totalRows);
+        log.info("비용 데이터 적재 완료: {} 행, {} ms ({} rows/s)",
+                totalRows, result.elapsedMillis(), result.rowsPerSecond());
+        return result;
+    }
+
+    private int[] upsertDailyCosts(List<CostIngestRequest.DailyCostRow> rows) {
+        List<CostIngestRequest.DailyCostRow> sorted = rows.stream()
+                .sorted(Comparator.comparing(CostIngestRequest.DailyCostRow::costDate))
+                .toList();
+
+        int inserted = 0;
+        int updated = 0;
+        for (int from = 0; from < sorted.size(); from += BATCH_SIZE) {
+            var chunk = sorted.subList(from, Math.min(from + BATCH_SIZE, sorted.size()));
+
+            Map<LocalDate, DailyCost> existing = new HashMap<>();
+            Set<LocalDate> dates = new HashSet<>();
+            chunk.forEach(row -> dates.add(row.costDate()));
+            for (DailyCost cost : dailyCostRepository.findByCostDateIn(dates)) {
+                existing.putIfAbsent(cost.getCostDate(), cost);
+            }
+
+            for (var row : chunk) {
+                DailyCost current = existing.get(row.costDate());
+                if (current == null) {
+                    DailyCost created = DailyCost.builder()
+                            .costDate(row.costDate())
+                            .totalCost(row.totalCost())
+                            .currency(row.currency() != null ? row.currency() : "USD")
+                            .build();
+                    entityManager.persist(created);
+                    existing.put(row.costDate(), created);
+                    inserted++;
+                } else if (current.getTotalCost().compareTo(row.totalCost()) != 0) {
+                    current.updateTotalCost(row.totalCost());
+                    updated++;
+                }
+            }
+
+            entityManager.flush();
+            entityManager.clear();
+        }
+        return new int[]{inserted, updated};
+    }
+
+    private int[] upsertServiceCosts(List<CostIngestRequest.ServiceCostRow> rows) {
+        List<CostIngestRequest.ServiceCostRow> sorted = rows.stream()
+                .sorted(Comparator.comparing(CostIngestRequest.ServiceCostRow::costDate)
+                        .thenComparing(CostIngestRequest.ServiceCostRow::serviceName))
+                .toList();
+
+        int inserted = 0;
+        int updated = 0;
+        for (int from = 0; from < sorted.size(); from += BATCH_SIZE) {
+            var chunk = sorted.subList(from, Math.min(from + BATCH_SIZE, sorted.size()));
+            LocalDate chunkStart = chunk.get(0).costDate();
+            LocalDate chunkEnd = chunk.get(chunk.size() - 1).costDate();
+
+            Map<ServiceCostKey, ServiceCost> existing = new HashMap<>();
+            for (ServiceCost cost : serviceCostRepository.findByCostDateBetweenOrderByServiceNameAsc(chunkStart, chunkEnd)) {
+                existing.putIfAbsent(new ServiceCostKey(cost.getCostDate(), cost.getServiceName()), cost);
+            }
+
+            for (var row : chunk) {
+                var key = new ServiceCostKey(row.costDate(), row.serviceName());
+                ServiceCost current = existing.get(key);
+                if (current == null) {
+                    ServiceCost created = ServiceCost.builder()
+                            .costDate(row.costDate())
+                            .serviceName(row.serviceName())
+                            .cost(row.cost())
+                            .currency(row.currency() != null ? row.currency() : "USD")
+                            .build();
+                    entityManager.persist(created);
+                    existing.put(key, created);
+                    inserted++;
+                } else if (current.getCost().compareTo(row.cost()) != 0) {
+                    current.updateCost(row.cost());
+                    updated++;
+                }
+            }
+
+            entityManager.flush();
+            entityManager.clear();
+        }
+        return new int[]{inserted, updated};
+    }
+
+    private void publishChange(CostIngestRequest request) {
+        Stream<LocalDate> dailyDates = request.dailyCosts() != null
+                ? request.dailyCosts().stream().map(CostIngestRequest.DailyCostRow::costDate)
+                : Stream.empty();
+        Stream<LocalDate> serviceDates = request.serviceCosts() != null
+                ? request.serviceCosts().stream().map(CostIngestRequest.ServiceCostRow::costDate)
+                : Stream.empty();
+        List<LocalDate> dates = Stream.concat(dailyDates, serviceDates).toList();
+        if (dates.isEmpty()) {
+            return;
+        }
+        // 커밋 후 인덱스/롤업/큐브가 이 범위를 다시 읽는다
+        eventPublisher.publishEvent(new CostDataChangedEvent(
+                Collections.min(dates),
+                Collections.max(dates)
+        ));
+    }
+
+    private record ServiceCostKey(LocalDate costDate, String serviceName) {
+    }
+}
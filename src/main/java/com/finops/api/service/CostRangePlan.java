@@ -0,0 +1,72 @@
+package com.finops.api.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 조회 기간을 롤업 버킷(월/ISO 주)과 버킷으로 덮이지 않는 가장자리 일자 구간으로 분해한 결과.
+ * 월 버킷을 우선하고, 다음 달 전체가 기간에 포함되면 그 달에 걸치는 주 버킷은 쓰지 않는다.
+ */
+record CostRangePlan(
+        List<LocalDate> months,
+        List<LocalDate> weeks,
+        List<DayRange> dayRanges
+) {
+    record DayRange(LocalDate startDate, LocalDate endDate) {
+    }
+
+    static CostRangePlan of(LocalDate startDate, LocalDate endDate) {
+        List<LocalDate> months = new ArrayList<>();
+        List<LocalDate> weeks = new ArrayList<>();
+        List<DayRange> dayRanges = new ArrayList<>();
+
+        LocalDate runStart = null;
+        LocalDate cursor = startDate;
+        while (!cursor.isAfter(endDate)) {
+            if (cursor.getDayOfMonth() == 1 && coversMonth(cursor, endDate)) {
+                runStart = closeRun(dayRanges, runStart, cursor);
+                months.add(cursor);
+                cursor = cursor.plusMonths(1);
+            } else if (cursor.getDayOfWeek() == DayOfWeek.MONDAY && coversWeek(cursor, endDate)) {
+                runStart = closeRun(dayRanges, runStart, cursor);
+                weeks.add(cursor);
+                cursor = cursor.plusWeeks(1);
+            } else {
+                if (runStart == null) {
+                    runStart = cursor;
+                }
+                cursor = cursor.plusDays(1);
+            }
+        }
+        closeRun(dayRanges, runStart, cursor);
+
+        return new CostRangePlan(months, weeks, dayRanges);
+    }
+
+    boolean usesRollups() {
+        return !months.isEmpty() || !weeks.isEmpty();
+    }
+
+    private static boolean coversMonth(LocalDate monthStart, LocalDate endDate) {
+        return !monthStart.plusMonths(1).minusDays(1).isAfter(endDate);
+    }
+
+    private static boolean coversWeek(LocalDate monday, LocalDate endDate) {
+        LocalDate sunday = monday.plusDays(6);
+        if (sunday.isAfter(endDate)) {
+            return false;
+        }
+        LocalDate nextMonthStart = monday.withDayOfMonth(1).plusMonths(1);
+        // 주가 다음 달로 넘어가고 그 달 전체가 기간에 포함되면 월 버킷을 쓰도록 양보한다
+        return sunday.isBefore(nextMonthStart) || !coversMonth(nextMonthStart, endDate);
+    }
+
+    private static LocalDate closeRun(List<DayRange> dayRanges, LocalDate runStart, LocalDate cursor) {
+        if (runStart != null) {
+            dayRanges.add(new DayRange(runStart, cursor.minusDays(1)));
+        }
+        return null;
+    }
+}
@@ -0,0 +1,191 @@
+package com.finops.api.service;
+
+import com.finops.api.dto.DailyCostIndexStatsDto;
+import com.finops.api.event.CostDataChangedEvent;
+import com.finops.api.repository.DailyCostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * daily_costs 의 일별 합계를 epoch-day 기준 누적합(prefix sum) 배열로 들고 있는 인메모리 인덱스.
+ * 임의 기간 합계를 DB 조회 없이 O(1) 뺄셈으로 계산한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailyCostPrefixIndex {
+
+    // daily_costs.total_cost 컬럼 scale 과 동일하게 맞춰 SQL SUM 결과와 같은 값을 돌려준다
+    private static final int COST_SCALE = 4;
+
+    private final DailyCostRepository dailyCostRepository;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    private volatile Snapshot snapshot;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    public synchronized void rebuild() {
+        long started = System.currentTimeMillis();
+        Snapshot loaded = Snapshot.EMPTY.patch(null, null, dailyCostRepository.sumTotalCostByDate());
+        snapshot = loaded;
+        log.info("일별 비용 누적합 인덱스 로드 완료: {} 일, {} bytes, {} ms",
+                loaded.days(), loaded.memoryBytes(), System.currentTimeMillis() - started);
+    }
+
+    @Order(0)  // 캐시 무효화(CostCacheInvalidator)보다 먼저 갱신한다
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCostDataChanged(CostDataChangedEvent event) {
+        // rebuild 와 같은 락 안에서 확인한다. 로드 중에 온 변경은 로드가 끝날 때까지 기다렸다가 반영한다
+        synchronized (this) {
+            if (snapshot == null) {
+                // 로드 시작 전 변경분은 ApplicationReadyEvent 시점의 전체 로드에 포함된다
+                return;
+            }
+            var rows = dailyCostRepository.sumTotalCostByDateBetween(event.startDate(), event.endDate());
+            snapshot = snapshot.patch(event.startDate(), event.endDate(), rows);
+        }
+        log.debug("일별 비용 누적합 인덱스 갱신: {} ~ {}", event.startDate(), event.endDate());
+    }
+
+    public boolean isLoaded() {
+        return snapshot != null;
+    }
+
+    /**
+     * 기간 합계를 인덱스에서 계산한다. 인덱스가 아직 로드되지 않았으면 empty 를 반환하므로
+     * 호출 측은 DB 조회로 대체해야 한다.
+     */
+    public Optional<BigDecimal> sumBetween(LocalDate startDate, LocalDate endDate) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+        hits.incrementAndGet();
+        return Optional.of(current.sumBetween(startDate.toEpochDay(), endDate.toEpochDay()));
+    }
+
+    public DailyCostIndexStatsDto getStats() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return new DailyCostIndexStatsDto(false, null, null, 0, 0, hits.get(), misses.get());
+        }
+        return new DailyCostIndexStatsDto(
+                true,
+                current.days() > 0 ? LocalDate.ofEpochDay(current.firstEpochDay()) : null,
+                current.days() > 0 ? LocalDate.ofEpochDay(current.firstEpochDay() + current.days() - 1) : null,
+                current.days(),
+                current.memoryBytes(),
+                hits.get(),
+                misses.get()
+        );
+    }
+
+    /**
+     * 불변 스냅샷. prefixCost[i] 는 firstEpochDay 부터 i 일 동안의 합계(scale 4 unscaled 값),
+     * prefixCount[i] 는 같은 구간에 실제 행이 존재한 일수이다.
+     */
+    private record Snapshot(long firstEpochDay, long[] prefixCost, int[] prefixCount) {
+
+        private static final Snapshot EMPTY = new Snapshot(0, new long[1], new int[1]);
+
+        int days() {
+            return prefixCost.length - 1;
+        }
+
+        long memoryBytes() {
+            // 배열 헤더(16 bytes) + 원소 크기
+            return 16L + (long) prefixCost.length * Long.BYTES
+                    + 16L + (long) prefixCount.length * Integer.BYTES;
+        }
+
+        BigDecimal sumBetween(long startEpochDay, long endEpochDay) {
+            int lo = clamp(startEpochDay - firstEpochDay);
+            int hi = clamp(endEpochDay - firstEpochDay + 1);
+            if (hi <= lo || prefixCount[hi] - prefixCount[lo] == 0) {
+                // SQL SUM 이 NULL 을 돌려주는 경우와 동일하게 처리
+                return BigDecimal.ZERO;
+            }
+            return BigDecimal.valueOf(prefixCost[hi] - prefixCost[lo], COST_SCALE);
+        }
+
+        private int clamp(long offset) {
+            return (int) Math.max(0, Math.min(offset, days()));
+        }
+
+        /**
+         * [from, to] 구간의 일별 값을 rows 로 교체한 새 스냅샷을 만든다.
+         * from/to 가 null 이면 rows 만으로 전체를 다시 만든다.
+         */
+        Snapshot patch(LocalDate from, LocalDate to, List<Object[]> rows) {
+            long first = firstEpochDay;
+            long last = firstEpochDay + days() - 1;
+            boolean empty = days() == 0 || from == null;
+
+            long newFirst = empty ? Long.MAX_VALUE : first;
+            long newLast = empty ? Long.MIN_VALUE : last;
+            for (Object[] row : rows) {
+                long day = ((LocalDate) row[0]).toEpochDay();
+                newFirst = Math.min(newFirst, day);
+                newLast = Math.max(newLast, day);
+            }
+            if (newFirst > newLast) {
+                return EMPTY;
+            }
+
+            int length = (int) (newLast - newFirst + 1);
+            long[] dayCost = new long[length];
+            boolean[] present = new boolean[length];
+
+            if (!empty) {
+                long clearFrom = from.toEpochDay();
+                long clearTo = to.toEpochDay();
+                for (int i = 0; i < days(); i++) {
+                    long day = first + i;
+                    if (day >= clearFrom && day <= clearTo) {
+                        continue;
+                    }
+                    int idx = (int) (day - newFirst);
+                    dayCost[idx] = prefixCost[i + 1] - prefixCost[i];
+                    present[idx] = prefixCount[i + 1] - prefixCount[i] > 0;
+                }
+            }
+
+            for (Object[] row : rows) {
+                int idx = (int) (((LocalDate) row[0]).toEpochDay() - newFirst);
+                dayCost[idx] = toUnscaled((BigDecimal) row[1]);
+                present[idx] = true;
+            }
+
+            long[] newPrefixCost = new long[length + 1];
+            int[] newPrefixCount = new int[length + 1];
+            for (int i = 0; i < length; i++) {
+                newPrefixCost[i + 1] = newPrefixCost[i] + dayCost[i];
+                newPrefixCount[i + 1] = newPrefixCount[i] + (present[i] ? 1 : 0);
+            }
+            return new Snapshot(newFirst, newPrefixCost, newPrefixCount);
+        }
+
+        private static long toUnscaled(BigDecimal value) {
+            return value.setScale(COST_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package com.finops.api.service;
 
+import com.finops.api.cache.CostCaches;
+import com.finops.api.dto.CostWindowTotalsDto;
 import com.finops.api.dto.DailyCostDto;
+import com.finops.api.dto.DailyCostIndexStatsDto;
 import com.finops.api.repository.DailyCostRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,10 +20,13 @@ import java.util.List;
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@CacheConfig(keyGenerator = CostCaches.KEY_GENERATOR)
 public class DailyCostService {
 
     private final DailyCostRepository dailyCostRepository;
+    private final DailyCostPrefixIndex dailyCostPrefixIndex;
 
+    @Cacheable(cacheNames = CostCaches.DAILY_COSTS, sync = true)
     public List<DailyCostDto> getDailyCosts(LocalDate startDate, LocalDate endDate) {
         log.debug("일별 비용 조회: {} ~ {}", startDate, endDate);
 
@@ -28,27 +36,69 @@ public class DailyCostService {
                 .toList();
     }
 
+    @Cacheable(cacheNames = CostCaches.DAILY_COSTS, sync = true)
     public DailyCostDto getTodayCost() {
         return dailyCostRepository.findByCostDate(LocalDate.now())
                 .map(DailyCostDto::from)
                 .orElse(null);
     }
 
+    @Cacheable(cacheNames = CostCaches.DAILY_COST_TOTALS, sync = true)
     public BigDecimal getTotalCostBetween(LocalDate startDate, LocalDate endDate) {
-        return dailyCostRepository.sumTotalCostBetween(startDate, endDate)
-                .orElse(BigDecimal.ZERO);
+        return dailyCostPrefixIndex.sumBetween(startDate, endDate)
+                .orElseGet(() -> dailyCostRepository.sumTotalCostBetween(startDate, endDate)
+                        .orElse(BigDecimal.ZERO));
     }
 
+    public DailyCostIndexStatsDto getIndexStats() {
+        return dailyCostPrefixIndex.getStats();
+    }
+
+    @Cacheable(cacheNames = CostCaches.DAILY_COST_TOTALS, sync = true)
     public BigDecimal getCurrentMonthCost() {
         LocalDate now = LocalDate.now();
         LocalDate startOfMonth = now.withDayOfMonth(1);
         return getTotalCostBetween(startOfMonth, now);
     }
 
+    @Cacheable(cacheNames = CostCaches.DAILY_COST_TOTALS, sync = true)
     public BigDecimal getPreviousMonthCost() {
         LocalDate now = LocalDate.now();
         LocalDate startOfPrevMonth = now.minusMonths(1).withDayOfMonth(1);
         LocalDate endOfPrevMonth = now.withDayOfMonth(1).minusDays(1);
         return getTotalCostBetween(startOfPrevMonth, endOfPrevMonth);
     }
+
+    /**
+     * 이번 달/지난 달/오늘/어제 합계를 한 번에 계산한다.
+     * 누적합 인덱스가 있으면 DB 조회 없이, 없으면 조건부 집계 쿼리 한 번으로 구한다.
+     */
+    public CostWindowTotalsDto getCostWindowTotals(LocalDate today) {
+        LocalDate yesterday = today.minusDays(1);
+        LocalDate startOfMonth = today.withDayOfMonth(1);
+        LocalDate startOfPrevMonth = startOfMonth.minusMonths(1);
+        LocalDate endOfPrevMonth = startOfMonth.minusDays(1);
+
+        if (dailyCostPrefixIndex.isLoaded()) {
+            return new CostWindowTotalsDto(
+                    getTotalCostBetween(startOfMonth, today),
+                    getTotalCostBetween(startOfPrevMonth, endOfPrevMonth),
+                    getTotalCostBetween(today, today),
+                    getTotalCostBetween(yesterday, yesterday)
+            );
+        }
+
+        Object[] row = dailyCostRepository.sumDashboardWindows(
+                startOfPrevMonth, endOfPrevMonth, startOfMonth, yesterday, today).get(0);
+        return new CostWindowTotalsDto(
+                orZero(row[0]),
+                orZero(row[1]),
+                orZero(row[2]),
+                orZero(row[3])
+        );
+    }
+
+    private static BigDecimal orZero(Object value) {
+        return value != null ? (BigDecimal) value : BigDecimal.ZERO;
+    }
 }
@@ -1,9 +1,13 @@
 package com.finops.api.service;
 
+import com.finops.api.cache.CostCaches;
 import com.finops.api.dto.CostSummaryDto;
+import com.finops.api.dto.CostWindowTotalsDto;
 import com.finops.api.dto.ServiceCostSummaryDto;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,18 +17,32 @@ import java.util.List;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
+@CacheConfig(keyGenerator = CostCaches.KEY_GENERATOR)
 public class DashboardService {
 
     private final DailyCostService dailyCostService;
     private final ServiceCostService serviceCostService;
+    private final boolean singlePass;
 
     private static final int TOP_SERVICES_LIMIT = 5;
 
+    public DashboardService(DailyCostService dailyCostService,
+                            ServiceCostService serviceCostService,
+                            @Value("${finops.dashboard.single-pass:true}") boolean singlePass) {
+        this.dailyCostService = dailyCostService;
+        this.serviceCostService = serviceCostService;
+        this.singlePass = singlePass;
+    }
+
+    @Cacheable(cacheNames = CostCaches.DASHBOARD_SUMMARY, sync = true)
     public CostSummaryDto getCostSummary() {
         log.debug("대시보드 요약 정보 조회");
 
+        if (singlePass) {
+            return getCostSummarySinglePass();
+        }
+
         LocalDate today = LocalDate.now();
         LocalDate yesterday = today.minusDays(1);
         LocalDate startOfMonth = today.withDayOfMonth(1);
@@ -50,4 +68,22 @@ public class DashboardService {
                 topServices
         );
     }
+
+    /**
+     * 기간별 합계 4개를 한 번에 구하고(쿼리 1회 또는 인덱스), Top 5 서비스를 한 번 더 조회한다.
+     */
+    private CostSummaryDto getCostSummarySinglePass() {
+        LocalDate today = LocalDate.now();
+        CostWindowTotalsDto totals = dailyCostService.getCostWindowTotals(today);
+        List<ServiceCostSummaryDto> topServices = serviceCostService.getTopServices(
+                today.withDayOfMonth(1), today, TOP_SERVICES_LIMIT);
+
+        return CostSummaryDto.of(
+                totals.currentMonthCost(),
+                totals.previousMonthCost(),
+                totals.todayCost(),
+                totals.yesterdayCost(),
+                topServices
+        );
+    }
 }
@@ -0,0 +1,258 @@
+package com.finops.api.service;
+
+import com.finops.api.aws.AwsAccount;
+import com.finops.api.aws.AwsAccountRegistry;
+import com.finops.api.aws.AwsScope;
+import com.finops.api.aws.UtilizationMetric;
+import com.finops.api.aws.UtilizationMetricsSource;
+import com.finops.api.entity.AwsResource;
+import com.finops.api.entity.ResourceUtilization;
+import com.finops.api.repository.AwsResourceRepository;
+import com.finops.api.repository.ResourceUtilizationRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * EC2/RDS/Lambda 의 사용률 지표로 유휴 여부를 판정해 resource_utilization 에 요약을 남긴다.
+ * <ul>
+ *     <li>계정 x 리전 x 타입별로 리소스를 CHUNK_SIZE 개씩 읽어 UtilizationMetricsSource 에 한꺼번에 묻는다.
+ *     CloudWatch 구현은 이를 GetMetricData 500 쿼리 단위로 묶는다.</li>
+ *     <li>lookback 구간의 period 간격 값으로 평균/p95/최댓값을 계산하고, 타입별 임계값 대비 가장 높은 비율이 1 미만이면 유휴로 본다.
+ *     유휴 점수는 100 x (1 - 비율) 이다.</li>
+ *     <li>stopped/unused 상태는 지표와 무관하게 점수 100 의 유휴다. Lambda 는 호출이 없으면 데이터가 없으므로 호출 0 으로 본다.</li>
+ * </ul>
+ * 매일 finops.idle.cron 에 전용 스레드(idleDetectionExecutor)에서 실행되며, 동시에 두 번 실행되지 않는다.
+ */
+@Slf4j
+@Service
+public class IdleDetectionEngine {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final List<String> RESOURCE_TYPES = List.of("EC2", "RDS", "LAMBDA");
+    private static final Set<String> IDLE_STATES = Set.of("stopped", "unused");
+
+    private final AwsResourceRepository resourceRepository;
+    private final ResourceUtilizationRepository utilizationRepository;
+    private final UtilizationMetricsSource metricsSource;
+    private final AwsAccountRegistry accountRegistry;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor executor;
+    private final List<String> regions;
+    private final Duration lookback;
+    private final Duration period;
+    private final double cpuThreshold;
+    private final double networkThresholdBytes;
+    private final double connectionsThreshold;
+    private final double invocationsThreshold;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public IdleDetectionEngine(AwsResourceRepository resourceRepository,
+                               ResourceUtilizationRepository utilizationRepository,
+                               UtilizationMetricsSource metricsSource,
+                               AwsAccountRegistry accountRegistry,
+                               EntityManager entityManager,
+                               PlatformTransactionManager transactionManager,
+                               @Qualifier("idleDetectionExecutor") TaskExecutor executor,
+                               @Value("${aws.regions:${aws.region:ap-northeast-2}}") List<String> regions,
+                               @Value("${finops.idle.lookback:14d}") Duration lookback,
+                               @Value("${finops.idle.period:1h}") Duration period,
+                               @Value("${finops.idle.cpu-threshold:5}") double cpuThreshold,
+                               @Value("${finops.idle.network-threshold-mb:5}") double networkThresholdMb,
+                               @Value("${finops.idle.connections-threshold:1}") double connectionsThreshold,
+                               @Value("${finops.idle.invocations-threshold:1}") double invocationsThreshold) {
+        this.resourceRepository = resourceRepository;
+        this.utilizationRepository = utilizationRepository;
+        this.metricsSource = metricsSource;
+        this.accountRegistry = accountRegistry;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.executor = executor;
+        this.regions = regions.stream().map(String::trim).filter(region -> !region.isEmpty()).distinct().toList();
+        this.lookback = lookback;
+        this.period = period;
+        this.cpuThreshold = cpuThreshold;
+        this.networkThresholdBytes = networkThresholdMb * 1024 * 1024;
+        this.connectionsThreshold = connectionsThreshold;
+        this.invocationsThreshold = invocationsThreshold;
+    }
+
+    public record EvaluationResult(int evaluated, int idle, long elapsedMillis) {
+    }
+
+    /**
+     * 백그라운드에서 평가를 시작한다. 이미 실행 중이면 false.
+     */
+    public boolean evaluateAsync() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    evaluateAll();
+                } catch (RuntimeException e) {
+                    log.error("유휴 리소스 평가 실패", e);
+                } finally {
+                    running.set(false);
+                }
+            });
+            return true;
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+    }
+
+    @Scheduled(cron = "${finops.idle.cron:0 30 4 * * *}")
+    public void scheduledEvaluate() {
+        if (!evaluateAsync()) {
+            log.info("유휴 리소스 평가가 이미 실행 중이라 예약 실행을 건너뜁니다");
+        }
+    }
+
+    private EvaluationResult evaluateAll() {
+        long started = System.currentTimeMillis();
+        // 지표 구간을 period 경계에 맞춰 CloudWatch 가 집계한 값을 그대로 받는다
+        Instant end = Instant.now().truncatedTo(ChronoUnit.HOURS);
+        Instant start = end.minus(lookback);
+        int evaluated = 0;
+        int idle = 0;
+        for (String resourceType : RESOURCE_TYPES) {
+            for (String region : regions) {
+                for (AwsAccount account : accountRegistry.accounts()) {
+                    AwsScope scope = new AwsScope(account, region);
+                    List<Long> ids = resourceRepository.findIdsInScope(resourceType, account.id(), region);
+                    for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+                        List<AwsResource> resources = resourceRepository.findAllById(
+                                ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size())));
+                        var metrics = metricsSource.fetch(scope, resources, start, end, period);
+                        List<ResourceUtilization> summaries = resources.stream()
+                                .map(resource -> summarize(resource, metrics.getOrDefault(resource.getId(), Map.of()),
+                                        start, end))
+                                .toList();
+                        save(summaries);
+                        evaluated += summaries.size();
+                        idle += (int) summaries.stream().filter(ResourceUtilization::isIdle).count();
+                    }
+                }
+            }
+        }
+        var result = new EvaluationResult(evaluated, idle, System.currentTimeMillis() - started);
+        log.info("유휴 리소스 평가 완료: {} 개 중 유휴 {} 개, {} ms", evaluated, idle, result.elapsedMillis());
+        return result;
+    }
+
+    private ResourceUtilization summarize(AwsResource resource, Map<UtilizationMetric, double[]> metrics,
+                                          Instant start, Instant end) {
+        double days = Math.max(1, Duration.between(start, end).toHours() / 24.0);
+        int datapoints = metrics.values().stream().mapToInt(values -> values.length).sum();
+        ResourceUtilization.ResourceUtilizationBuilder builder = ResourceUtilization.builder()
+                .resourceId(resource.getId())
+                .resourceType(resource.getResourceType())
+                .windowStart(LocalDateTime.ofInstant(start, ZoneId.systemDefault()))
+                .windowEnd(LocalDateTime.ofInstant(end, ZoneId.systemDefault()))
+                .datapoints(datapoints)
+                .evaluatedAt(LocalDateTime.now());
+
+        double ratio;
+        switch (resource.getResourceType()) {
+            case "EC2" -> {
+                double[] cpu = metrics.getOrDefault(UtilizationMetric.EC2_CPU, new double[0]);
+                double network = (sum(metrics.get(UtilizationMetric.EC2_NETWORK_IN))
+                        + sum(metrics.get(UtilizationMetric.EC2_NETWORK_OUT))) / days;
+                Double p95 = percentile(cpu, 0.95);
+                builder.cpuAvg(average(cpu)).cpuP95(p95).cpuMax(max(cpu)).networkBytesPerDay(network);
+                ratio = Math.max(p95 == null ? 0 : p95 / cpuThreshold, network / networkThresholdBytes);
+            }
+            case "RDS" -> {
+                double[] cpu = metrics.getOrDefault(UtilizationMetric.RDS_CPU, new double[0]);
+                Double p95 = percentile(cpu, 0.95);
+                Double connections = max(metrics.getOrDefault(UtilizationMetric.RDS_CONNECTIONS, new double[0]));
+                builder.cpuAvg(average(cpu)).cpuP95(p95).cpuMax(max(cpu)).connectionsMax(connections);
+                ratio = Math.max(p95 == null ? 0 : p95 / cpuThreshold,
+                        connections == null ? 0 : connections / connectionsThreshold);
+            }
+            default -> {
+                double invocations = sum(metrics.get(UtilizationMetric.LAMBDA_INVOCATIONS));
+                builder.invocations(invocations);
+                ratio = invocations / invocationsThreshold;
+            }
+        }
+
+        if (IDLE_STATES.contains(resource.getState())) {
+            return builder.idle(true).idleScore(100).reason("state:" + resource.getState()).build();
+        }
+        // Lambda 는 호출이 없으면 데이터 포인트도 없다
+        if (datapoints == 0 && !"LAMBDA".equals(resource.getResourceType())) {
+            return builder.idle(false).idleScore(0).reason("no-data").build();
+        }
+        boolean idle = ratio < 1;
+        double score = Math.round(1000 * (1 - Math.min(1, ratio))) / 10.0;
+        return builder.idle(idle).idleScore(score).reason(idle ? "low-utilization" : null).build();
+    }
+
+    private void save(List<ResourceUtilization> summaries) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<Long, ResourceUtilization> existing = new HashMap<>();
+            for (ResourceUtilization row : utilizationRepository.findAllById(
+                    summaries.stream().map(ResourceUtilization::getResourceId).toList())) {
+                existing.put(row.getResourceId(), row);
+            }
+            for (ResourceUtilization summary : summaries) {
+                ResourceUtilization current = existing.get(summary.getResourceId());
+                if (current == null) {
+                    entityManager.persist(summary);
+                } else {
+                    entityManager.merge(summary);
+                }
+            }
+            entityManager.flush();
+            entityManager.clear();
+        });
+    }
+
+    private static double sum(double[] values) {
+        if (values == null) {
+            return 0;
+        }
+        double sum = 0;
+        for (double value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    private static Double average(double[] values) {
+        return values.length == 0 ? null : sum(values) / values.length;
+    }
+
+    private static Double max(double[] values) {
+        return values.length == 0 ? null : Arrays.stream(values).max().getAsDouble();
+    }
+
+    private static Double percentile(double[] values, double percentile) {
+        if (values.length == 0) {
+            return null;
+        }
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+}
@@ -0,0 +1,161 @@
+package com.finops.api.service;
+
+import com.finops.api.dto.resource.ResourceSummaryDto;
+import com.finops.api.event.ResourceChangeSet;
+import com.finops.api.event.ResourceChangeSet.Change;
+import com.finops.api.event.ResourceChangeSet.Snapshot;
+import com.finops.api.event.ResourceSyncEvent;
+import com.finops.api.repository.AwsResourceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 인벤토리 요약(타입/리전/계정/상태별 개수, 유휴 개수)을 메모리에 유지한다.
+ * <ul>
+ *     <li>(타입, 리전, 계정, 상태) 칸별 개수만 들고 있고, 동기화가 발행하는 ResourceChangeSet 으로 증감한다.</li>
+ *     <li>변경을 반영할 때마다 불변 요약을 새로 만들어 두므로 조회는 참조 하나를 읽는 것으로 끝난다.</li>
+ *     <li>기동 시 GROUP BY 한 번으로 다시 만들고, 이벤트 유실 등으로 생긴 오차는
+ *     finops.inventory.stats.reconcile-cron 주기의 재구성으로 바로잡는다.</li>
+ *     <li>동기화 중에는 커밋된 청크가 아직 변경분으로 오지 않아, 그때 재구성하면 나중에 온 변경분이 같은 리소스를 한 번 더 센다.
+ *     그래서 동기화가 진행 중이면(ResourceSyncEvent) 재구성을 미뤘다가 마지막 동기화가 끝날 때 실행한다.
+ *     동기화 시작 이벤트도 같은 락을 잡으므로 재구성이 읽는 동안에는 새 동기화가 쓰기 시작하지 않는다.</li>
+ * </ul>
+ * 유휴는 기존 findIdleResources 와 같이 stopped/unused 상태를 뜻한다.
+ */
+@Slf4j
+@Component
+public class InventoryStatistics {
+
+    private static final Set<String> IDLE_STATES = Set.of("stopped", "unused");
+
+    private final AwsResourceRepository resourceRepository;
+
+    // 아래 필드는 this 로 보호한다
+    private final Map<Cell, Long> cells = new HashMap<>();
+    private int activeSyncs;
+    private boolean rebuildDeferred;
+    private volatile ResourceSummaryDto summary = ResourceSummaryDto.of(0, Map.of(), Map.of(), Map.of(), Map.of(), 0);
+
+    public InventoryStatistics(AwsResourceRepository resourceRepository) {
+        this.resourceRepository = resourceRepository;
+    }
+
+    public ResourceSummaryDto summary() {
+        return summary;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        rebuild();
+    }
+
+    @Scheduled(cron = "${finops.inventory.stats.reconcile-cron:0 15 * * * *}")
+    public void reconcile() {
+        ResourceSummaryDto before = summary;
+        if (!rebuild()) {
+            return;
+        }
+        if (before.totalResources() != summary.totalResources() || before.idleResources() != summary.idleResources()) {
+            log.info("인벤토리 통계 보정: 전체 {} -> {}, 유휴 {} -> {}", before.totalResources(), summary.totalResources(),
+                    before.idleResources(), summary.idleResources());
+        }
+    }
+
+    /**
+     * DB 에서 칸별 개수를 다시 읽는다. 동기화가 진행 중이면 읽지 않고 마지막 동기화가 끝날 때로 미룬 뒤 false 를 반환한다.
+     */
+    public synchronized boolean rebuild() {
+        if (activeSyncs > 0) {
+            rebuildDeferred = true;
+            log.info("리소스 동기화 중이라 인벤토리 통계 재구성을 동기화 종료 후로 미룹니다");
+            return false;
+        }
+        long started = System.nanoTime();
+        cells.clear();
+        for (Object[] row : resourceRepository.countByTypeRegionAccountState()) {
+            cells.put(new Cell((String) row[0], (String) row[1], (String) row[2], (String) row[3]), (Long) row[4]);
+        }
+        publish();
+        log.info("인벤토리 통계 재구성: 리소스 {} 개, {} 칸, {} ms", summary.totalResources(), cells.size(),
+                (System.nanoTime() - started) / 1_000_000);
+        return true;
+    }
+
+    @EventListener
+    public synchronized void onSyncEvent(ResourceSyncEvent event) {
+        if (event.phase() == ResourceSyncEvent.Phase.STARTED) {
+            activeSyncs++;
+            return;
+        }
+        activeSyncs = Math.max(0, activeSyncs - 1);
+        if (activeSyncs == 0 && rebuildDeferred) {
+            rebuildDeferred = false;
+            rebuild();
+        }
+    }
+
+    @EventListener
+    public synchronized void onChangeSet(ResourceChangeSet changeSet) {
+        for (Change change : changeSet.added()) {
+            add(change.after(), 1);
+        }
+        for (Change change : changeSet.changed()) {
+            add(change.before(), -1);
+            add(change.after(), 1);
+        }
+        for (Change change : changeSet.removed()) {
+            add(change.before(), -1);
+        }
+        publish();
+    }
+
+    private void add(Snapshot snapshot, long delta) {
+        Cell cell = new Cell(snapshot.resourceType(), snapshot.region(), snapshot.accountId(), snapshot.state());
+        long count = cells.getOrDefault(cell, 0L) + delta;
+        if (count > 0) {
+            cells.put(cell, count);
+        } else {
+            cells.remove(cell);
+        }
+    }
+
+    private void publish() {
+        long total = 0;
+        long idle = 0;
+        Map<String, Long> byType = new TreeMap<>();
+        Map<String, Long> byRegion = new TreeMap<>();
+        Map<String, Long> byAccount = new TreeMap<>();
+        Map<String, Long> byState = new TreeMap<>();
+        for (Map.Entry<Cell, Long> entry : cells.entrySet()) {
+            Cell cell = entry.getKey();
+            long count = entry.getValue();
+            total += count;
+            merge(byType, cell.resourceType(), count);
+            merge(byRegion, cell.region(), count);
+            merge(byAccount, cell.accountId(), count);
+            merge(byState, cell.state(), count);
+            if (IDLE_STATES.contains(cell.state())) {
+                idle += count;
+            }
+        }
+        summary = ResourceSummaryDto.of(total, Map.copyOf(byType), Map.copyOf(byRegion), Map.copyOf(byAccount),
+                Map.copyOf(byState), idle);
+    }
+
+    private static void merge(Map<String, Long> counts, String key, long count) {
+        if (key != null) {
+            counts.merge(key, count, Long::sum);
+        }
+    }
+
+    private record Cell(String resourceType, String region, String accountId, String state) {
+    }
+}
@@ -0,0 +1,45 @@
+package com.finops.api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.finops.api.entity.AwsResource;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 리소스 내용(이름, 계정, 리전, 상태, 타입, 태그, 메타데이터)의 SHA-256.
+ * 맵은 키 순서로 직렬화하므로 수집 순서가 달라도 같은 내용이면 같은 값이 나온다.
+ * 동기화 시각 같은 수집 부가 정보는 포함하지 않는다.
+ */
+final class ResourceContentHash {
+
+    private static final ObjectMapper CANONICAL = new ObjectMapper()
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+    private ResourceContentHash() {
+    }
+
+    static String of(AwsResource resource) {
+        Map<String, Object> content = new LinkedHashMap<>();
+        content.put("type", resource.getResourceType());
+        content.put("name", resource.getResourceName());
+        content.put("account", resource.getAccountId());
+        content.put("region", resource.getRegion());
+        content.put("az", resource.getAvailabilityZone());
+        content.put("state", resource.getState());
+        content.put("instanceType", resource.getInstanceType());
+        content.put("tags", resource.getTags());
+        content.put("metadata", resource.getMetadata());
+        try {
+            byte[] json = CANONICAL.writeValueAsBytes(content);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(json));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("리소스 해시 계산 실패: " + resource.getResourceId(), e);
+        }
+    }
+}
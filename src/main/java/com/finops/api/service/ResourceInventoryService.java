@@ -1,51 +1,37 @@
 package com.finops.api.service;
 
-import com.finops.api.aws.*;
 import com.finops.api.dto.resource.AwsResourceDto;
+import com.finops.api.dto.resource.IdleResourceDto;
+import com.finops.api.dto.resource.ResourceSearchCriteria;
+import com.finops.api.dto.resource.ResourceSearchResultDto;
 import com.finops.api.dto.resource.ResourceSummaryDto;
 import com.finops.api.entity.AwsResource;
+import com.finops.api.entity.ResourceUtilization;
 import com.finops.api.repository.AwsResourceRepository;
+import com.finops.api.repository.ResourceUtilizationRepository;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
-import java.util.HashMap;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Locale;
 
 @Slf4j
 @Service
+@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ResourceInventoryService {
 
     private final AwsResourceRepository resourceRepository;
-    private final Ec2ClientService ec2ClientService;
-    private final RdsClientService rdsClientService;
-    private final S3ClientService s3ClientService;
-    private final LambdaClientService lambdaClientService;
-    private final MockResourceService mockResourceService;
-
-    @Autowired
-    public ResourceInventoryService(
-            AwsResourceRepository resourceRepository,
-            @Autowired(required = false) Ec2ClientService ec2ClientService,
-            @Autowired(required = false) RdsClientService rdsClientService,
-            @Autowired(required = false) S3ClientService s3ClientService,
-            @Autowired(required = false) LambdaClientService lambdaClientService,
-            @Autowired(required = false) MockResourceService mockResourceService
-    ) {
-        this.resourceRepository = resourceRepository;
-        this.ec2ClientService = ec2ClientService;
-        this.rdsClientService = rdsClientService;
-        this.s3ClientService = s3ClientService;
-        this.lambdaClientService = lambdaClientService;
-        this.mockResourceService = mockResourceService;
-    }
+    private final ResourceUtilizationRepository utilizationRepository;
+    private final InventoryStatistics inventoryStatistics;
 
     public List<AwsResourceDto> getAllResources() {
         log.debug("전체 리소스 조회");
@@ -59,6 +45,63 @@ public class ResourceInventoryService {
                 .map(AwsResourceDto::from);
     }
 
+    /**
+     * 조건 검색. (resource_type, id) 키셋 페이지네이션이라 cursor 로 몇 페이지를 넘겨도 비용이 같다.
+     * 전체 개수는 includeTotal 일 때만 센다.
+     */
+    public ResourceSearchResultDto search(String resourceType, String region, String state, String instanceType,
+                                          String namePrefix, String tag, String cursor, int size,
+                                          boolean includeTotal) {
+        if (size < 1 || size > 500) {
+            throw new IllegalArgumentException("size 는 1~500 사이여야 합니다");
+        }
+        String[] tagFilter = blankToNull(tag) == null ? null : ResourceTagService.parseFilter(tag);
+        ResourceSearchCriteria criteria = new ResourceSearchCriteria(
+                blankToNull(resourceType) == null ? null : resourceType.trim().toUpperCase(Locale.ROOT),
+                blankToNull(region),
+                blankToNull(state),
+                blankToNull(instanceType),
+                blankToNull(namePrefix),
+                tagFilter == null ? null : tagFilter[0],
+                tagFilter == null ? null : tagFilter[1]);
+
+        String afterType = null;
+        Long afterId = null;
+        if (blankToNull(cursor) != null) {
+            String[] position = decodeCursor(cursor);
+            afterType = position[0];
+            afterId = Long.parseLong(position[1]);
+        }
+
+        // 한 개 더 읽어 다음 페이지가 있는지 본다
+        List<AwsResource> rows = resourceRepository.searchAfter(criteria, afterType, afterId, size + 1);
+        boolean hasMore = rows.size() > size;
+        List<AwsResource> page = hasMore ? rows.subList(0, size) : rows;
+        String nextCursor = hasMore ? encodeCursor(page.get(page.size() - 1)) : null;
+        Long total = includeTotal ? resourceRepository.countMatching(criteria) : null;
+        return new ResourceSearchResultDto(page.stream().map(AwsResourceDto::from).toList(), nextCursor, hasMore, total);
+    }
+
+    private static String encodeCursor(AwsResource last) {
+        String position = last.getResourceType() + "\n" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            String[] parts = position.split("\n", 2);
+            Long.parseLong(parts[1]);
+            return parts;
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("잘못된 cursor 입니다: " + cursor);
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
     public List<AwsResourceDto> getResourcesByType(String resourceType) {
         log.debug("리소스 타입별 조회: {}", resourceType);
         return resourceRepository.findByResourceType(resourceType.toUpperCase()).stream()
@@ -85,163 +128,23 @@ public class ResourceInventoryService {
                 .toList();
     }
 
-    public ResourceSummaryDto getResourceSummary() {
-        log.debug("리소스 요약 조회");
-
-        long total = resourceRepository.count();
-
-        Map<String, Long> byType = resourceRepository.countByResourceType().stream()
-                .collect(Collectors.toMap(
-                        row -> (String) row[0],
-                        row -> (Long) row[1]
-                ));
-
-        Map<String, Long> byRegion = resourceRepository.countByRegion().stream()
-                .collect(Collectors.toMap(
-                        row -> (String) row[0],
-                        row -> (Long) row[1]
-                ));
-
-        long idle = resourceRepository.findIdleResources().size();
-
-        return ResourceSummaryDto.of(total, byType, byRegion, idle);
-    }
-
-    @Transactional
-    public int syncResources() {
-        log.info("리소스 동기화 시작");
-        List<AwsResource> resources;
-
-        if (mockResourceService != null) {
-            log.info("Mock 리소스 사용 (로컬 환경)");
-            resources = mockResourceService.getAllMockResources();
-        } else {
-            log.info("AWS 리소스 동기화 (프로덕션 환경)");
-            resources = new java.util.ArrayList<>();
-
-            if (ec2ClientService != null) {
-                resources.addAll(ec2ClientService.describeInstances());
-            }
-            if (rdsClientService != null) {
-                resources.addAll(rdsClientService.describeDbInstances());
-            }
-            if (s3ClientService != null) {
-                resources.addAll(s3ClientService.listBuckets());
-            }
-            if (lambdaClientService != null) {
-                resources.addAll(lambdaClientService.listFunctions());
-            }
-        }
-
-        int savedCount = 0;
-        for (AwsResource resource : resources) {
-            saveOrUpdateResource(resource);
-            savedCount++;
-        }
-
-        log.info("리소스 동기화 완료: {} 개", savedCount);
-        return savedCount;
-    }
-
-    @Transactional
-    public int syncEc2Resources() {
-        log.info("EC2 리소스 동기화");
-        List<AwsResource> resources;
-
-        if (mockResourceService != null) {
-            resources = mockResourceService.getMockEc2Instances();
-        } else if (ec2ClientService != null) {
-            resources = ec2ClientService.describeInstances();
-        } else {
-            return 0;
-        }
-
-        int count = 0;
-        for (AwsResource resource : resources) {
-            saveOrUpdateResource(resource);
-            count++;
-        }
-        return count;
-    }
-
-    @Transactional
-    public int syncRdsResources() {
-        log.info("RDS 리소스 동기화");
-        List<AwsResource> resources;
-
-        if (mockResourceService != null) {
-            resources = mockResourceService.getMockRdsInstances();
-        } else if (rdsClientService != null) {
-            resources = rdsClientService.describeDbInstances();
-        } else {
-            return 0;
+    /**
+     * IdleDetectionEngine 이 마지막으로 평가한 사용률 기준 유휴 리소스를 유휴 점수 순으로 반환한다.
+     */
+    public List<IdleResourceDto> getRankedIdleResources(int limit) {
+        if (limit < 1 || limit > 1_000) {
+            throw new IllegalArgumentException("limit 은 1~1000 사이여야 합니다");
         }
-
-        int count = 0;
-        for (AwsResource resource : resources) {
-            saveOrUpdateResource(resource);
-            count++;
-        }
-        return count;
-    }
-
-    @Transactional
-    public int syncS3Resources() {
-        log.info("S3 리소스 동기화");
-        List<AwsResource> resources;
-
-        if (mockResourceService != null) {
-            resources = mockResourceService.getMockS3Buckets();
-        } else if (s3ClientService != null) {
-            resources = s3ClientService.listBuckets();
-        } else {
-            return 0;
-        }
-
-        int count = 0;
-        for (AwsResource resource : resources) {
-            saveOrUpdateResource(resource);
-            count++;
-        }
-        return count;
-    }
-
-    @Transactional
-    public int syncLambdaResources() {
-        log.info("Lambda 리소스 동기화");
-        List<AwsResource> resources;
-
-        if (mockResourceService != null) {
-            resources = mockResourceService.getMockLambdaFunctions();
-        } else if (lambdaClientService != null) {
-            resources = lambdaClientService.listFunctions();
-        } else {
-            return 0;
-        }
-
-        int count = 0;
-        for (AwsResource resource : resources) {
-            saveOrUpdateResource(resource);
-            count++;
-        }
-        return count;
+        return utilizationRepository.findRankedIdle(PageRequest.of(0, limit)).stream()
+                .map(row -> IdleResourceDto.from((ResourceUtilization) row[0], (AwsResource) row[1]))
+                .toList();
     }
 
-    private void saveOrUpdateResource(AwsResource resource) {
-        resourceRepository.findByResourceId(resource.getResourceId())
-                .ifPresentOrElse(
-                        existing -> {
-                            existing.setResourceName(resource.getResourceName());
-                            existing.setRegion(resource.getRegion());
-                            existing.setAvailabilityZone(resource.getAvailabilityZone());
-                            existing.setState(resource.getState());
-                            existing.setInstanceType(resource.getInstanceType());
-                            existing.setTags(resource.getTags());
-                            existing.setMetadata(resource.getMetadata());
-                            existing.setLastSyncedAt(LocalDateTime.now());
-                            resourceRepository.save(existing);
-                        },
-                        () -> resourceRepository.save(resource)
-                );
+    /**
+     * 동기화 변경분으로 갱신되는 메모리 통계를 그대로 반환한다. DB 를 조회하지 않으므로 커넥션도 잡지 않는다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResourceSummaryDto getResourceSummary() {
+        return inventoryStatistics.summary();
     }
 }
@@ -0,0 +1,243 @@
+package com.finops.api.service;
+
+import com.finops.api.dto.resource.ResourceSyncResultDto;
+import com.finops.api.dto.resource.ResourceSyncResultDto.CollectorResult;
+import com.finops.api.dto.resource.SyncJobDto;
+import com.finops.api.entity.SyncJob;
+import com.finops.api.repository.SyncJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 리소스 동기화를 백그라운드 작업으로 실행하고 진행 상황을 sync_jobs 에 기록한다.
+ * <ul>
+ *     <li>같은 범위(ALL 또는 리소스 타입)의 작업이 대기/실행 중이면 새로 만들지 않고 그 작업을 돌려준다.
+ *     ALL 작업이 대기/실행 중이면 타입 요청에도 그 작업을 돌려준다.</li>
+ *     <li>타입 작업이 실행 중일 때 등록된 ALL 작업은 그 작업들이 끝난 뒤 시작한다.</li>
+ *     <li>진행 상황은 finops.sync.job-progress-interval 간격으로 저장하므로 상태 조회는 DB 만 읽는다.</li>
+ *     <li>재시작 시 끝나지 않은 작업은 INTERRUPTED 로 바꾼다. 단일 인스턴스 실행을 전제로 한다.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class ResourceSyncJobService {
+
+    public static final String SCOPE_ALL = "ALL";
+
+    private static final int MAX_ERRORS = 100;
+
+    private final SyncJobRepository jobRepository;
+    private final ResourceSyncOrchestrator orchestrator;
+    private final TaskExecutor jobExecutor;
+    private final Duration progressInterval;
+
+    // 범위별 대기/실행 중인 작업 ID
+    private final Map<String, Long> activeJobs = new ConcurrentHashMap<>();
+    // ALL 작업과 타입 작업이 같은 리소스를 동시에 쓰지 않도록 한다
+    private final ReadWriteLock scopeLock = new ReentrantReadWriteLock(true);
+
+    public ResourceSyncJobService(SyncJobRepository jobRepository,
+                                  ResourceSyncOrchestrator orchestrator,
+                                  @Qualifier("resourceSyncJobExecutor") TaskExecutor jobExecutor,
+                                  @Value("${finops.sync.job-progress-interval:2s}") Duration progressInterval) {
+        this.jobRepository = jobRepository;
+        this.orchestrator = orchestrator;
+        this.jobExecutor = jobExecutor;
+        this.progressInterval = progressInterval;
+    }
+
+    public synchronized SyncJobDto submit(String scope) {
+        String normalized = normalizeScope(scope);
+
+        // ALL 작업은 모든 타입을 포함하므로 타입 요청은 진행 중인 ALL 작업으로 돌려준다
+        Optional<SyncJob> active = activeJob(normalized);
+        if (active.isEmpty() && !SCOPE_ALL.equals(normalized)) {
+            active = activeJob(SCOPE_ALL);
+        }
+        if (active.isPresent()) {
+            log.info("{} 동기화 작업 {} 이 진행 중이라 새 작업을 만들지 않습니다", active.get().getScope(), active.get().getId());
+            return SyncJobDto.from(active.get(), true);
+        }
+
+        SyncJob job = jobRepository.save(SyncJob.builder().scope(normalized).build());
+        activeJobs.put(normalized, job.getId());
+        // 실행이 시작되면 작업 스레드가 엔티티를 바꾸므로 응답은 넘기기 전에 만든다
+        SyncJobDto queued = SyncJobDto.from(job);
+        try {
+            jobExecutor.execute(() -> run(job));
+        } catch (TaskRejectedException e) {
+            activeJobs.remove(normalized, job.getId());
+            addError(job, "작업 대기열이 가득 찼습니다");
+            finish(job, "FAILED");
+            return SyncJobDto.from(job);
+        }
+        log.info("{} 동기화 작업 {} 등록", normalized, job.getId());
+        return queued;
+    }
+
+    public SyncJobDto getJob(Long id) {
+        return jobRepository.findById(id)
+                .map(SyncJobDto::from)
+                .orElse(null);
+    }
+
+    public List<SyncJobDto> getRecentJobs(int limit) {
+        return jobRepository.findRecentJobs(PageRequest.of(0, limit)).stream()
+                .map(SyncJobDto::from)
+                .toList();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void markInterruptedJobs() {
+        List<SyncJob> unfinished = jobRepository.findByStatusIn(List.of("QUEUED", "RUNNING"));
+        for (SyncJob job : unfinished) {
+            addError(job, "서버 재시작으로 중단되었습니다");
+            finish(job, "INTERRUPTED");
+        }
+        if (!unfinished.isEmpty()) {
+            log.warn("중단된 동기화 작업 {} 개를 INTERRUPTED 로 표시했습니다", unfinished.size());
+        }
+    }
+
+    private void run(SyncJob job) {
+        // 타입 작업끼리는 겹치지 않으니 함께 실행하고, ALL 작업은 앞선 타입 작업이 끝날 때까지 QUEUED 로 기다린다
+        Lock lock = SCOPE_ALL.equals(job.getScope()) ? scopeLock.writeLock() : scopeLock.readLock();
+        lock.lock();
+        String status = "FAILED";
+        try {
+            job.setStatus("RUNNING");
+            job.setStartedAt(LocalDateTime.now());
+            jobRepository.save(job);
+
+            JobProgress progress = new JobProgress(job);
+            ResourceSyncResultDto result = SCOPE_ALL.equals(job.getScope())
+                    ? orchestrator.syncAll(progress)
+                    : orchestrator.syncType(job.getScope(), progress);
+            if (result.allSucceeded()) {
+                status = "SUCCEEDED";
+            } else {
+                status = job.getFailedTargets() >= job.getTotalTargets() ? "FAILED" : "PARTIAL";
+            }
+        } catch (RuntimeException e) {
+            log.error("동기화 작업 {} 실패", job.getId(), e);
+            addError(job, e.getMessage());
+        } finally {
+            // Error 로 끝나거나 저장이 실패해도 범위가 진행 중으로 남아 새 작업을 막지 않게 한다
+            try {
+                finish(job, status);
+            } finally {
+                activeJobs.remove(job.getScope(), job.getId());
+                lock.unlock();
+            }
+        }
+        log.info("동기화 작업 {} 종료: {}, {} 개 처리", job.getId(), status, job.getProcessedResources());
+    }
+
+    /**
+     * scope 의 대기/실행 중인 작업. 기록만 남고 끝난 작업이면 정리한다.
+     */
+    private Optional<SyncJob> activeJob(String scope) {
+        Long activeId = activeJobs.get(scope);
+        if (activeId == null) {
+            return Optional.empty();
+        }
+        Optional<SyncJob> active = jobRepository.findById(activeId).filter(SyncJob::isActive);
+        if (active.isEmpty()) {
+            activeJobs.remove(scope, activeId);
+        }
+        return active;
+    }
+
+    private void finish(SyncJob job, String status) {
+        job.setStatus(status);
+        job.setPhase("FINISHED");
+        job.setFinishedAt(LocalDateTime.now());
+        jobRepository.save(job);
+    }
+
+    private String normalizeScope(String scope) {
+        if (scope == null || scope.isBlank()) {
+            return SCOPE_ALL;
+        }
+        String normalized = scope.trim().toUpperCase(Locale.ROOT);
+        if (!SCOPE_ALL.equals(normalized) && !orchestrator.supportsType(normalized)) {
+            throw new IllegalArgumentException("지원하지 않는 리소스 타입입니다: " + scope);
+        }
+        return normalized;
+    }
+
+    private static void addError(SyncJob job, String error) {
+        if (job.getErrors().size() < MAX_ERRORS) {
+            job.getErrors().add(error);
+        }
+    }
+
+    /**
+     * 동기화 콜백을 작업 엔티티에 반영하고, progressInterval 마다 저장한다.
+     */
+    private class JobProgress implements ResourceSyncListener {
+
+        private final SyncJob job;
+        private long lastSavedNanos = System.nanoTime();
+
+        JobProgress(SyncJob job) {
+            this.job = job;
+        }
+
+        @Override
+        public void onStarted(int totalTargets) {
+            job.setPhase("COLLECTING");
+            job.setTotalTargets(totalTargets);
+            save();
+        }
+
+        @Override
+        public void onChunkStored(int count) {
+            job.setProcessedResources(job.getProcessedResources() + count);
+            saveIfDue();
+        }
+
+        @Override
+        public void onTargetFinished(CollectorResult result) {
+            job.setCompletedTargets(job.getCompletedTargets() + 1);
+            job.setAddedResources(job.getAddedResources() + result.added());
+            job.setChangedResources(job.getChangedResources() + result.changed());
+            job.setRemovedResources(job.getRemovedResources() + result.removed());
+            if (!"SUCCESS".equals(result.status())) {
+                job.setFailedTargets(job.getFailedTargets() + 1);
+                addError(job, "%s@%s/%s %s: %s".formatted(result.resourceType(), result.accountId(),
+                        result.region(), result.status(), result.error()));
+            }
+            saveIfDue();
+        }
+
+        private void saveIfDue() {
+            if (System.nanoTime() - lastSavedNanos >= progressInterval.toNanos()) {
+                save();
+            }
+        }
+
+        private void save() {
+            jobRepository.save(job);
+            lastSavedNanos = System.nanoTime();
+        }
+    }
+}
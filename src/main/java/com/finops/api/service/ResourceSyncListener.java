@@ -0,0 +1,21 @@
+package com.finops.api.service;
+
+import com.finops.api.dto.resource.ResourceSyncResultDto.CollectorResult;
+
+/**
+ * 동기화 진행 상황 콜백. 모두 동기화를 실행하는 스레드에서 순서대로 호출된다.
+ */
+public interface ResourceSyncListener {
+
+    ResourceSyncListener NONE = new ResourceSyncListener() {
+    };
+
+    default void onStarted(int totalTargets) {
+    }
+
+    default void onChunkStored(int count) {
+    }
+
+    default void onTargetFinished(CollectorResult result) {
+    }
+}
@@ -0,0 +1,430 @@
+package com.finops.api.service;
+
+import com.finops.api.aws.AwsAccount;
+import com.finops.api.aws.AwsAccountRegistry;
+import com.finops.api.aws.AwsScope;
+import com.finops.api.aws.MockResourceService;
+import com.finops.api.aws.ResourceCollector;
+import com.finops.api.aws.TagHydrator;
+import com.finops.api.dto.resource.ResourceSyncResultDto;
+import com.finops.api.dto.resource.ResourceSyncResultDto.CollectorResult;
+import com.finops.api.dto.resource.ResourceSyncResultDto.RegionResult;
+import com.finops.api.entity.AwsResource;
+import com.finops.api.event.ResourceChangeSet;
+import com.finops.api.event.ResourceChangeSet.Change;
+import com.finops.api.event.ResourceSyncEvent;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+/**
+ * 리소스 타입 x 계정 x 리전별 수집기를 제한된 스레드 풀에서 동시에 실행하고, 수집기가 넘기는 청크를 도착 순서대로 저장한다.
+ * <ul>
+ *     <li>AwsAccountRegistry 의 모든 계정, aws.regions 의 모든 리전에 대해 실행한다.
+ *     리전과 무관한 수집기(S3)는 계정마다 기본 리전에서 한 번만 실행한다.</li>
+ *     <li>동시에 실행 중인 수집기는 finops.sync.pool-size 개를 넘지 않는다. 나머지는 대기하다가 앞의 수집기가 끝나면 시작한다.</li>
+ *     <li>수집기는 페이지를 받는 대로 청크를 넘기며, 저장 대기 청크가 max-in-flight-chunks 를 넘으면 대기한다.
+ *     따라서 메모리 사용량은 계정 크기와 무관하게 청크 몇 개 수준으로 유지된다.</li>
+ *     <li>수집기마다 실행 시작 시점부터 타임아웃을 적용하고, 초과하면 작업 스레드를 interrupt 한다.
+ *     그때까지 저장된 청크는 유지되고 개수는 결과에 남는다.</li>
+ *     <li>한 수집기의 실패/타임아웃은 다른 수집기에 영향을 주지 않으며 결과에 상태로만 남는다.</li>
+ *     <li>수집기가 태그를 채우지 않은 리소스는 TagHydrator 가 Tagging API 결과로 채운다.</li>
+ *     <li>범위별 추가/변경/삭제분은 ResourceChangeSet 이벤트로 발행한다. 동기화 전체의 시작과 끝은 ResourceSyncEvent 로 알린다.</li>
+ *     <li>수집기별 소요 시간은 결과와 finops.sync.collector.duration 타이머로, 리전별 소요 시간과 개수는
+ *     finops.sync.region.duration, finops.sync.region.resources 로 보고한다.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class ResourceSyncOrchestrator {
+
+    private final List<ResourceCollector> collectors;
+    private final ResourceSyncWriter writer;
+    private final TaskExecutor executor;
+    private final MeterRegistry meterRegistry;
+    private final Duration collectorTimeout;
+    private final int maxInFlightChunks;
+    private final int maxConcurrency;
+    private final AwsAccountRegistry accountRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TagHydrator tagHydrator;
+    private final List<String> regions;
+    private final String homeRegion;
+
+    private final ScheduledExecutorService timeoutScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "resource-sync-timeout");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Autowired
+    public ResourceSyncOrchestrator(
+            @Autowired(required = false) List<ResourceCollector> awsCollectors,
+            @Autowired(required = false) MockResourceService mockResourceService,
+            ResourceSyncWriter writer,
+            @Qualifier("resourceSyncExecutor") TaskExecutor executor,
+            MeterRegistry meterRegistry,
+            @Value("${finops.sync.collector-timeout:5m}") Duration collectorTimeout,
+            @Value("${finops.sync.max-in-flight-chunks:4}") int maxInFlightChunks,
+            @Value("${finops.sync.pool-size:8}") int maxConcurrency,
+            AwsAccountRegistry accountRegistry,
+            ApplicationEventPublisher eventPublisher,
+            @Autowired(required = false) TagHydrator tagHydrator,
+            @Value("${aws.regions:${aws.region:ap-northeast-2}}") List<String> regions,
+            @Value("${aws.region:ap-northeast-2}") String homeRegion
+    ) {
+        // 로컬 환경에서는 Mock 수집기를 사용한다
+        this.collectors = mockResourceService != null
+                ? mockResourceService.collectors()
+                : (awsCollectors != null ? List.copyOf(awsCollectors) : List.of());
+        this.writer = writer;
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+        this.collectorTimeout = collectorTimeout;
+        this.maxInFlightChunks = Math.max(1, maxInFlightChunks);
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+        this.accountRegistry = accountRegistry;
+        this.eventPublisher = eventPublisher;
+        this.tagHydrator = tagHydrator;
+        this.regions = regions.stream().map(String::trim).filter(region -> !region.isEmpty()).distinct().toList();
+        this.homeRegion = homeRegion;
+        log.info("리소스 동기화 대상 리전: {}, 최대 동시 실행 {}", this.regions, this.maxConcurrency);
+    }
+
+    public ResourceSyncResultDto syncAll(ResourceSyncListener listener) {
+        return sync(collectors, listener);
+    }
+
+    public ResourceSyncResultDto syncType(String resourceType, ResourceSyncListener listener) {
+        return sync(collectors.stream()
+                .filter(collector -> collector.resourceType().equalsIgnoreCase(resourceType))
+                .toList(), listener);
+    }
+
+    public boolean supportsType(String resourceType) {
+        return collectors.stream().anyMatch(collector -> collector.resourceType().equalsIgnoreCase(resourceType));
+    }
+
+    private ResourceSyncResultDto sync(Collection<ResourceCollector> collectors, ResourceSyncListener listener) {
+        eventPublisher.publishEvent(ResourceSyncEvent.started());
+        try {
+            return syncTargets(collectors, listener);
+        } finally {
+            eventPublisher.publishEvent(ResourceSyncEvent.finished());
+        }
+    }
+
+    private ResourceSyncResultDto syncTargets(Collection<ResourceCollector> collectors, ResourceSyncListener listener) {
+        long started = System.nanoTime();
+        // API 한도는 계정 단위라 계정을 가장 안쪽 루프로 두어 한 계정의 작업이 한꺼번에 몰리지 않게 한다
+        Deque<Target> pending = new ArrayDeque<>();
+        for (ResourceCollector collector : collectors) {
+            List<String> collectorRegions = collector.global() ? List.of(homeRegion) : regions;
+            for (String region : collectorRegions) {
+                for (AwsAccount account : accountRegistry.accounts()) {
+                    pending.add(new Target(collector, new AwsScope(account, region)));
+                }
+            }
+        }
+        int total = pending.size();
+        listener.onStarted(total);
+
+        // 청크와 종료 이벤트가 한 큐로 들어온다. 수집기별로는 청크가 항상 종료 이벤트보다 먼저 들어온다
+        BlockingQueue<Event> events = new LinkedBlockingQueue<>();
+        Semaphore inFlight = new Semaphore(maxInFlightChunks);
+        for (int i = 0; i < maxConcurrency && !pending.isEmpty(); i++) {
+            submit(pending.poll(), events, inFlight);
+        }
+
+        Map<Target, Progress> progress = new HashMap<>();
+        List<CollectorResult> results = new ArrayList<>(total);
+        int synced = 0;
+        int remaining = total;
+        while (remaining > 0) {
+            Event event = take(events);
+            Progress current = progress.computeIfAbsent(event.target(), key -> new Progress());
+            if (event instanceof Chunk chunk) {
+                try {
+                    listener.onChunkStored(persist(chunk, current));
+                } finally {
+                    inFlight.release();
+                }
+                continue;
+            }
+            CollectorResult result = finish((Outcome) event, current);
+            results.add(result);
+            synced += result.count();
+            record(result);
+            listener.onTargetFinished(result);
+            remaining--;
+            if (!pending.isEmpty()) {
+                submit(pending.poll(), events, inFlight);
+            }
+        }
+
+        List<RegionResult> regionResults = summarizeRegions(results);
+        regionResults.forEach(this::record);
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        log.info("리소스 동기화 완료: {} 개, {} ms, {}", synced, elapsedMillis, regionResults);
+        return new ResourceSyncResultDto(synced, elapsedMillis, regionResults, List.copyOf(results));
+    }
+
+    /**
+     * 수집기를 풀에 넣는다. 청크는 저장 대기 허용량이 생길 때까지 기다렸다가 events 큐에 넣고,
+     * 결과는 성공/실패/타임아웃 중 먼저 정해진 하나만 넣는다.
+     */
+    private void submit(Target target, BlockingQueue<Event> events, Semaphore inFlight) {
+        ResourceCollector collector = target.collector();
+        CompletableFuture<Outcome> outcome = new CompletableFuture<>();
+        outcome.thenAccept(events::add);
+
+        Consumer<List<AwsResource>> sink = resources -> {
+            if (outcome.isDone()) {
+                throw new CancellationException(target + " 수집이 이미 종료되었습니다");
+            }
+            // 태그 조회는 수집 스레드에서 한다. 저장 스레드를 막지 않는다
+            if (tagHydrator != null) {
+                tagHydrator.hydrate(target.scope(), resources);
+            }
+            try {
+                inFlight.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException(target + " 수집이 중단되었습니다");
+            }
+            events.add(new Chunk(target, resources));
+        };
+
+        FutureTask<?>[] self = new FutureTask<?>[1];
+        FutureTask<Void> task = new FutureTask<>(() -> {
+            long started = System.nanoTime();
+            ScheduledFuture<?> timer = timeoutScheduler.schedule(() -> {
+                if (outcome.complete(Outcome.timedOut(target, elapsedSince(started)))) {
+                    self[0].cancel(true);
+                }
+            }, collectorTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            try {
+                collector.collect(target.scope(), sink);
+                outcome.complete(Outcome.success(target, elapsedSince(started)));
+            } catch (Exception e) {
+                if (!outcome.isDone()) {
+                    log.warn("{} 수집 실패: {}", target, e.getMessage());
+                }
+                outcome.complete(Outcome.failed(target, e, elapsedSince(started)));
+            } finally {
+                timer.cancel(false);
+            }
+        }, null);
+        self[0] = task;
+
+        try {
+            executor.execute(task);
+        } catch (RuntimeException e) {
+            outcome.complete(Outcome.failed(target, e, 0));
+        }
+    }
+
+    /**
+     * 청크 하나를 저장하고 저장한 개수를 반환한다. 이미 종료됐거나 저장에 실패한 수집기의 청크는 버린다.
+     */
+    private int persist(Chunk chunk, Progress progress) {
+        if (progress.finished || progress.storeError != null) {
+            return 0;
+        }
+        try {
+            var written = writer.upsert(chunk.resources());
+            progress.count += written.count();
+            progress.seenIds.addAll(written.ids());
+            progress.added.addAll(written.added());
+            progress.changed.addAll(written.changed());
+            return written.count();
+        } catch (RuntimeException e) {
+            log.error("{} 리소스 저장 실패", chunk.target(), e);
+            progress.storeError = e;
+            return 0;
+        }
+    }
+
+    /**
+     * 수집기 결과를 확정하고 변경분을 ResourceChangeSet 으로 발행한다.
+     * 사라진 리소스의 삭제 표시는 수집과 저장이 모두 성공한 범위에서만 한다. 일부만 본 범위에서 하면 멀쩡한 리소스가 지워진다.
+     */
+    private CollectorResult finish(Outcome outcome, Progress progress) {
+        progress.finished = true;
+        Target target = outcome.target();
+        CollectorResult result = result(outcome, progress);
+        List<Change> removed = List.of();
+        if ("SUCCESS".equals(result.status())) {
+            try {
+                removed = writer.markMissingAsDeleted(result.resourceType(), result.accountId(),
+                        target.collector().global() ? null : result.region(), progress.seenIds);
+            } catch (RuntimeException e) {
+                log.error("{} 삭제 표시 실패", target, e);
+                result = CollectorResult.failed(result.resourceType(), result.accountId(), result.region(),
+                        result.count(), result.elapsedMillis(), "삭제 표시 실패: " + e.getMessage());
+            }
+        }
+
+        ResourceChangeSet changeSet = new ResourceChangeSet(result.resourceType(), result.accountId(),
+                target.collector().global() ? null : result.region(),
+                List.copyOf(progress.added), List.copyOf(progress.changed), removed);
+        progress.release();
+        if (!changeSet.isEmpty()) {
+            log.info("{} 변경분: 추가 {}, 변경 {}, 삭제 {}", target,
+                    changeSet.added().size(), changeSet.changed().size(), changeSet.removed().size());
+            eventPublisher.publishEvent(changeSet);
+        }
+        return result.withChanges(changeSet.added().size(), changeSet.changed().size(), removed.size());
+    }
+
+    private CollectorResult result(Outcome outcome, Progress progress) {
+        Target target = outcome.target();
+        String type = target.collector().resourceType();
+        String accountId = target.scope().accountId();
+        String region = target.scope().region();
+        if (outcome.timedOut()) {
+            log.warn("{} 수집 시간 초과 ({} ms), {} 개까지 저장됨", target, outcome.elapsedMillis(), progress.count);
+            return CollectorResult.timedOut(type, accountId, region, progress.count, outcome.elapsedMillis());
+        }
+        if (progress.storeError != null) {
+            return CollectorResult.failed(type, accountId, region, progress.count, outcome.elapsedMillis(),
+                    "저장 실패: " + progress.storeError.getMessage());
+        }
+        if (outcome.error() != null) {
+            return CollectorResult.failed(type, accountId, region, progress.count, outcome.elapsedMillis(),
+                    outcome.error().getMessage());
+        }
+        log.debug("{} 리소스 {} 개 저장 ({} ms)", target, progress.count, outcome.elapsedMillis());
+        return CollectorResult.success(type, accountId, region, progress.count, outcome.elapsedMillis());
+    }
+
+    private static List<RegionResult> summarizeRegions(List<CollectorResult> results) {
+        Map<String, List<CollectorResult>> byRegion = new TreeMap<>();
+        for (CollectorResult result : results) {
+            byRegion.computeIfAbsent(result.region(), key -> new ArrayList<>()).add(result);
+        }
+        List<RegionResult> summaries = new ArrayList<>(byRegion.size());
+        byRegion.forEach((region, regionResults) -> summaries.add(new RegionResult(
+                region,
+                regionResults.stream().mapToInt(CollectorResult::count).sum(),
+                regionResults.stream().mapToLong(CollectorResult::elapsedMillis).max().orElse(0),
+                (int) regionResults.stream().filter(result -> !"SUCCESS".equals(result.status())).count())));
+        return summaries;
+    }
+
+    private void record(CollectorResult result) {
+        Timer.builder("finops.sync.collector.duration")
+                .description("리소스 수집기별 수집 소요 시간")
+                .tag("type", result.resourceType())
+                .tag("region", result.region())
+                .tag("status", result.status())
+                .register(meterRegistry)
+                .record(Duration.ofMillis(result.elapsedMillis()));
+    }
+
+    private void record(RegionResult result) {
+        Timer.builder("finops.sync.region.duration")
+                .description("리전별 수집 소요 시간 (가장 느린 수집기 기준)")
+                .tag("region", result.region())
+                .register(meterRegistry)
+                .record(Duration.ofMillis(result.elapsedMillis()));
+        DistributionSummary.builder("finops.sync.region.resources")
+                .description("리전별 동기화 리소스 수")
+                .tag("region", result.region())
+                .register(meterRegistry)
+                .record(result.count());
+    }
+
+    private static Event take(BlockingQueue<Event> events) {
+        try {
+            return events.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("리소스 동기화가 중단되었습니다", e);
+        }
+    }
+
+    private static long elapsedSince(long startedNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        timeoutScheduler.shutdownNow();
+    }
+
+    /**
+     * 수집 단위. 같은 수집기라도 계정/리전마다 별도 작업으로 실행된다.
+     */
+    private record Target(ResourceCollector collector, AwsScope scope) {
+
+        @Override
+        public String toString() {
+            return collector.resourceType() + "@" + scope;
+        }
+    }
+
+    private sealed interface Event permits Chunk, Outcome {
+        Target target();
+    }
+
+    private record Chunk(Target target, List<AwsResource> resources) implements Event {
+    }
+
+    private record Outcome(Target target, Exception error, boolean timedOut, long elapsedMillis)
+            implements Event {
+
+        static Outcome success(Target target, long elapsedMillis) {
+            return new Outcome(target, null, false, elapsedMillis);
+        }
+
+        static Outcome failed(Target target, Exception error, long elapsedMillis) {
+            return new Outcome(target, error, false, elapsedMillis);
+        }
+
+        static Outcome timedOut(Target target, long elapsedMillis) {
+            return new Outcome(target, null, true, elapsedMillis);
+        }
+    }
+
+    /**
+     * 요청 스레드에서만 읽고 쓰는 수집기별 저장 진행 상황. 종료 후에는 늦게 도착한 청크를 버리기 위한 표시만 남긴다.
+     */
+    private static final class Progress {
+        int count;
+        RuntimeException storeError;
+        boolean finished;
+        Set<Long> seenIds = new HashSet<>();
+        List<Change> added = new ArrayList<>();
+        List<Change> changed = new ArrayList<>();
+
+        void release() {
+            seenIds = Set.of();
+            added = List.of();
+            changed = List.of();
+        }
+    }
+}
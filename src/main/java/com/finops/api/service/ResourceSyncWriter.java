@@ -0,0 +1,229 @@
+package com.finops.api.service;
+
+import com.finops.api.entity.AwsResource;
+import com.finops.api.event.ResourceChangeSet.Change;
+import com.finops.api.event.ResourceChangeSet.Snapshot;
+import com.finops.api.repository.AwsResourceRepository;
+import com.finops.api.repository.ResourceTagRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 수집된 리소스를 aws_resources 에 반영한다.
+ * CHUNK_SIZE 단위로 기존 행을 IN 쿼리 한 번에 읽어 contentHash 로 비교하고, 추가/변경분만 JDBC 배치로 쓴 뒤 청크마다 커밋한다.
+ * 내용이 같은 행은 다시 쓰지 않고 last_synced_at 만 청크당 UPDATE 한 문장으로 갱신한다. 태그가 바뀐 리소스는 같은 트랜잭션에서 aws_resource_tags 도 다시 쓴다.
+ */
+@Slf4j
+@Component
+public class ResourceSyncWriter {
+
+    // spring.jpa.properties.hibernate.jdbc.batch_size 와 맞춘다
+    private static final int CHUNK_SIZE = 500;
+
+    private static final String DELETE_TAGS = "DELETE FROM aws_resource_tags WHERE resource_id = ?";
+    private static final String INSERT_TAG = "INSERT INTO aws_resource_tags (resource_id, tag_key, tag_value) VALUES (?, ?, ?)";
+
+    private final AwsResourceRepository resourceRepository;
+    private final ResourceTagRepository tagRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public ResourceSyncWriter(AwsResourceRepository resourceRepository,
+                              ResourceTagRepository tagRepository,
+                              EntityManager entityManager,
+                              JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager) {
+        this.resourceRepository = resourceRepository;
+        this.tagRepository = tagRepository;
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 반영 결과. ids 는 이번에 본 행의 id 로, 범위 동기화가 끝난 뒤 삭제 판정에 쓴다.
+     */
+    public record WriteResult(int count, List<Long> ids, List<Change> added, List<Change> changed) {
+    }
+
+    public WriteResult upsert(List<AwsResource> resources) {
+        long started = System.nanoTime();
+
+        // 같은 resourceId 가 여러 번 오면 마지막 값을 쓴다
+        Map<String, AwsResource> unique = new LinkedHashMap<>();
+        for (AwsResource resource : resources) {
+            unique.put(resource.getResourceId(), resource);
+        }
+        List<AwsResource> rows = new ArrayList<>(unique.values());
+
+        List<Long> ids = new ArrayList<>(rows.size());
+        List<Change> added = new ArrayList<>();
+        List<Change> changed = new ArrayList<>();
+        for (int from = 0; from < rows.size(); from += CHUNK_SIZE) {
+            var chunk = rows.subList(from, Math.min(from + CHUNK_SIZE, rows.size()));
+            transactionTemplate.executeWithoutResult(status -> upsertChunk(chunk, ids, added, changed));
+        }
+
+        long elapsedNanos = System.nanoTime() - started;
+        log.debug("리소스 {} 개 반영 (추가 {}, 변경 {}, 동일 {}), {} ms, {} rows/s",
+                rows.size(), added.size(), changed.size(), rows.size() - added.size() - changed.size(),
+                elapsedNanos / 1_000_000,
+                elapsedNanos > 0 ? (long) (rows.size() / (elapsedNanos / 1_000_000_000.0)) : 0);
+        return new WriteResult(rows.size(), ids, added, changed);
+    }
+
+    private void upsertChunk(List<AwsResource> chunk, List<Long> ids, List<Change> added, List<Change> changed) {
+        Map<String, AwsResource> existing = new HashMap<>();
+        List<String> resourceIds = chunk.stream().map(AwsResource::getResourceId).toList();
+        for (AwsResource resource : resourceRepository.findIncludingDeletedByResourceIdIn(resourceIds)) {
+            existing.put(resource.getResourceId(), resource);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<AwsResource> retagged = new ArrayList<>();
+        List<Long> staleTagIds = new ArrayList<>();
+        List<Long> unchangedIds = new ArrayList<>();
+        for (AwsResource resource : chunk) {
+            String hash = ResourceContentHash.of(resource);
+            AwsResource current = existing.get(resource.getResourceId());
+            if (current == null) {
+                resource.setContentHash(hash);
+                resource.setLastSyncedAt(now);
+                resource.setUpdatedAt(now);
+                entityManager.persist(resource);
+                ids.add(resource.getId());
+                added.add(Change.added(Snapshot.of(resource)));
+                retagged.add(resource);
+                continue;
+            }
+
+            ids.add(current.getId());
+            if (current.getDeletedAt() != null || (!hash.equals(current.getContentHash())
+                    && !Objects.equals(current.getTags(), resource.getTags()))) {
+                retagged.add(current);
+                staleTagIds.add(current.getId());
+            }
+            if (current.getDeletedAt() != null) {
+                // 삭제 표시됐다가 다시 나타난 리소스는 추가로 본다
+                copyState(resource, current);
+                current.setContentHash(hash);
+                current.setDeletedAt(null);
+                current.setLastSyncedAt(now);
+                added.add(Change.added(Snapshot.of(current)));
+            } else if (!hash.equals(current.getContentHash())) {
+                Snapshot before = Snapshot.of(current);
+                copyState(resource, current);
+                current.setContentHash(hash);
+                current.setLastSyncedAt(now);
+                changed.add(Change.changed(before, Snapshot.of(current)));
+            } else {
+                unchangedIds.add(current.getId());
+            }
+        }
+
+        entityManager.flush();
+        // 내용이 같은 행은 행 전체 대신 last_synced_at 만 청크당 한 문장으로 갱신한다
+        if (!unchangedIds.isEmpty()) {
+            resourceRepository.updateLastSyncedAt(unchangedIds, now);
+        }
+        writeTags(retagged, staleTagIds);
+        entityManager.clear();
+    }
+
+    /**
+     * aws_resource_tags 가 비어 있는데 리소스가 있으면(태그 테이블 도입 전 데이터) id 순서로 나눠 채운다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillTags() {
+        if (tagRepository.count() > 0 || resourceRepository.count() == 0) {
+            return;
+        }
+        long started = System.currentTimeMillis();
+        int total = 0;
+        long lastId = 0;
+        while (true) {
+            List<AwsResource> page = resourceRepository.findTop500ByIdGreaterThanOrderByIdAsc(lastId);
+            if (page.isEmpty()) {
+                break;
+            }
+            transactionTemplate.executeWithoutResult(status -> writeTags(page, List.of()));
+            total += page.size();
+            lastId = page.get(page.size() - 1).getId();
+        }
+        log.info("리소스 {} 개의 태그를 aws_resource_tags 에 채움, {} ms", total, System.currentTimeMillis() - started);
+    }
+
+    // 리소스 행이 flush 된 뒤 같은 트랜잭션에서 호출한다
+    private void writeTags(List<AwsResource> resources, List<Long> staleTagIds) {
+        if (!staleTagIds.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_TAGS, staleTagIds, CHUNK_SIZE, (ps, id) -> ps.setLong(1, id));
+        }
+        List<Object[]> rows = new ArrayList<>();
+        for (AwsResource resource : resources) {
+            if (resource.getTags() == null) {
+                continue;
+            }
+            resource.getTags().forEach((key, value) -> {
+                if (key != null && value != null) {
+                    rows.add(new Object[]{resource.getId(), key, value});
+                }
+            });
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_TAG, rows);
+        }
+    }
+
+    /**
+     * 수집이 끝난 범위에서 이번에 보이지 않은 리소스를 삭제 표시하고 그 목록을 반환한다.
+     * region 이 null 이면 계정 전체(리전과 무관한 수집기)가 대상이다.
+     */
+    public List<Change> markMissingAsDeleted(String resourceType, String accountId, String region,
+                                             Set<Long> seenIds) {
+        List<Long> scopeIds = region == null
+                ? resourceRepository.findIdsInAccount(resourceType, accountId)
+                : resourceRepository.findIdsInScope(resourceType, accountId, region);
+        List<Long> missing = scopeIds.stream().filter(id -> !seenIds.contains(id)).toList();
+        if (missing.isEmpty()) {
+            return List.of();
+        }
+
+        List<Change> removed = new ArrayList<>(missing.size());
+        for (int from = 0; from < missing.size(); from += CHUNK_SIZE) {
+            var chunk = missing.subList(from, Math.min(from + CHUNK_SIZE, missing.size()));
+            transactionTemplate.executeWithoutResult(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                for (AwsResource resource : resourceRepository.findAllById(chunk)) {
+                    resource.setDeletedAt(now);
+                    removed.add(Change.removed(Snapshot.of(resource)));
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+        log.info("{} {} {} 에서 사라진 리소스 {} 개 삭제 표시", resourceType, accountId,
+                region == null ? "(전체 리전)" : region, removed.size());
+        return removed;
+    }
+
+    private static void copyState(AwsResource source, AwsResource target) {
+        target.setResourceName(source.getResourceName());
+        target.setAccountId(source.getAccountId());
+        target.setRegion(source.getRegion());
+        target.setAvailabilityZone(source.getAvailabilityZone());
+        target.setState(source.getState());
+        target.setInstanceType(source.getInstanceType());
+        target.setTags(source.getTags());
+        target.setMetadata(source.getMetadata());
+    }
+}
@@ -0,0 +1,96 @@
+package com.finops.api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finops.api.config.ResourceTagJsonbIndex;
+import com.finops.api.dto.resource.AwsResourceDto;
+import com.finops.api.repository.AwsResourceRepository;
+import com.finops.api.repository.ResourceTagRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 태그 조건 조회. 기본은 aws_resource_tags 인덱스를 쓰고, Postgres 에서 JSONB 인덱스가 준비되어 있으면 그쪽을 쓴다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class ResourceTagService {
+
+    private final AwsResourceRepository resourceRepository;
+    private final ResourceTagRepository tagRepository;
+    private final ObjectMapper objectMapper;
+    private final ResourceTagJsonbIndex jsonbIndex;
+
+    public ResourceTagService(AwsResourceRepository resourceRepository,
+                              ResourceTagRepository tagRepository,
+                              ObjectMapper objectMapper,
+                              @Autowired(required = false) ResourceTagJsonbIndex jsonbIndex) {
+        this.resourceRepository = resourceRepository;
+        this.tagRepository = tagRepository;
+        this.objectMapper = objectMapper;
+        this.jsonbIndex = jsonbIndex;
+    }
+
+    /**
+     * filter 는 "키:값" 형식이다. 첫 번째 ':' 에서 나누므로 키에 ':' 가 들어간 태그(aws:*)는 조회할 수 없다.
+     */
+    public Page<AwsResourceDto> getResourcesByTag(String filter, Pageable pageable) {
+        String[] tag = parseFilter(filter);
+        String key = tag[0];
+        String value = tag[1];
+        log.debug("태그 조건 리소스 조회: {}={}", key, value);
+
+        // 정렬 요청은 JPQL 로 처리되는 aws_resource_tags 경로로 보낸다. JSONB 경로는 id 순서 page/size 만 지원한다
+        if (jsonbIndex != null && jsonbIndex.ready() && pageable.getSort().isUnsorted()) {
+            return resourceRepository.findByTagsContaining(toJson(Map.of(key, value)),
+                            PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()))
+                    .map(AwsResourceDto::from);
+        }
+        return resourceRepository.findByTag(key, value, pageable)
+                .map(AwsResourceDto::from);
+    }
+
+    /**
+     * "키:값" 을 [키, 값] 으로 나눈다.
+     */
+    static String[] parseFilter(String filter) {
+        int separator = filter.indexOf(':');
+        if (separator <= 0) {
+            throw new IllegalArgumentException("tag 는 키:값 형식이어야 합니다: " + filter);
+        }
+        return new String[]{filter.substring(0, separator).trim(), filter.substring(separator + 1).trim()};
+    }
+
+    public Map<String, Long> countByKey() {
+        return toCounts(tagRepository.countByKey());
+    }
+
+    public Map<String, Long> countByValue(String tagKey) {
+        return toCounts(tagRepository.countByValue(tagKey));
+    }
+
+    private static Map<String, Long> toCounts(Iterable<Object[]> rows) {
+        Map<String, Long> counts = new TreeMap<>();
+        for (Object[] row : rows) {
+            counts.put((String) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
+    private String toJson(Map<String, String> tags) {
+        try {
+            return objectMapper.writeValueAsString(tags);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("태그 조건 직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.finops.api.service;
+
+import com.finops.api.event.CostDataChangedEvent;
+import com.finops.api.repository.ServiceCostRepository;
+import com.finops.api.util.Money;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 일자 × 서비스 비용을 메모리에 컬럼 단위로 저장하는 큐브 (finops.cost-cube.enabled=true 일 때만 사용).
+ * 서비스명은 int id 로 사전 인코딩하고, 서비스별 일자 비용은 micro-dollar long 배열로 보관한다.
+ * 조회는 엔티티나 Object[] 없이 배열 루프로만 처리한다.
+ */
+@Slf4j
+@Component
+public class ServiceCostCube {
+
+    private final ServiceCostRepository serviceCostRepository;
+    private final boolean enabled;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Integer> serviceIds = new HashMap<>();
+    private String[] serviceNames = new String[0];
+    private long[][] columns = new long[0][];     // [serviceId][dayOffset] micro-dollar
+    private BitSet[] present = new BitSet[0];     // 실제 행이 있었던 일자
+    private long firstEpochDay;
+    private int days;
+    private volatile boolean ready;
+
+    public ServiceCostCube(ServiceCostRepository serviceCostRepository,
+                           @Value("${finops.cost-cube.enabled:false}") boolean enabled) {
+        this.serviceCostRepository = serviceCostRepository;
+        this.enabled = enabled;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        if (!enabled) {
+            return;
+        }
+        long started = System.currentTimeMillis();
+        var range = serviceCostRepository.findCostDateRange();
+        if (!range.isEmpty() && range.get(0)[0] != null) {
+            apply((LocalDate) range.get(0)[0], (LocalDate) range.get(0)[1]);
+        }
+        ready = true;
+        log.info("서비스 비용 큐브 로드 완료: 서비스 {} 개, {} 일, {} ms",
+                serviceNames.length, days, System.currentTimeMillis() - started);
+    }
+
+    @Order(0)  // 캐시 무효화(CostCacheInvalidator)보다 먼저 갱신한다
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCostDataChanged(CostDataChangedEvent event) {
+        // load 와 같은 락 안에서 확인하고 조회/반영한다. 로드 중에 온 변경은 로드가 끝날 때까지 기다렸다가 반영하고,
+        // 서로 다른 스레드의 변경도 조회한 순서대로 반영되어 오래된 결과가 새 결과를 덮어쓰지 않는다
+        synchronized (this) {
+            if (!ready) {
+                // 로드 시작 전 변경분은 ApplicationReadyEvent 시점의 전체 로드에 포함된다
+                return;
+            }
+            apply(event.startDate(), event.endDate());
+        }
+        log.debug("서비스 비용 큐브 갱신: {} ~ {}", event.startDate(), event.endDate());
+    }
+
+    /**
+     * 기간 내 서비스별 합계. 기간에 행이 하나도 없는 서비스는 결과에서 제외한다.
+     */
+    public List<Total> sumByService(LocalDate startDate, LocalDate endDate, int limit) {
+        lock.readLock().lock();
+        try {
+            int lo = offset(startDate.toEpochDay());
+            int hi = offset(endDate.toEpochDay() + 1);
+            int services = serviceNames.length;
+
+            long[] totals = new long[services];
+            int[] ids = new int[services];
+            int count = 0;
+            for (int id = 0; id < services; id++) {
+                long[] column = columns[id];
+                long sum = 0;
+                for (int d = lo; d < hi; d++) {
+                    sum += column[d];
+                }
+                if (sum != 0 || hasRows(id, lo, hi)) {
+                    totals[id] = sum;
+                    ids[count++] = id;
+                }
+            }
+
+            int resultSize = Math.min(limit, count);
+            selectTop(ids, count, totals, resultSize);
+
+            List<Total> result = new ArrayList<>(resultSize);
+            for (int i = 0; i < resultSize; i++) {
+                result.add(new Total(serviceNames[ids[i]], totals[ids[i]]));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 서비스 하나의 일자별 비용. 행이 없는 일자는 건너뛴다.
+     */
+    public List<Point> series(String serviceName, LocalDate startDate, LocalDate endDate) {
+        lock.readLock().lock();
+        try {
+            Integer id = serviceIds.get(serviceName);
+            if (id == null) {
+                return List.of();
+            }
+            int lo = offset(startDate.toEpochDay());
+            int hi = offset(endDate.toEpochDay() + 1);
+            long[] column = columns[id];
+            BitSet rows = present[id];
+
+            List<Point> result = new ArrayList<>();
+            for (int d = rows.nextSetBit(lo); d >= 0 && d < hi; d = rows.nextSetBit(d + 1)) {
+                result.add(new Point(LocalDate.ofEpochDay(firstEpochDay + d), column[d]));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 합계는 micro-dollar 이다. BigDecimal 변환은 DTO 를 만들 때 한 번만 한다.
+     */
+    public record Total(String serviceName, long micros) {
+    }
+
+    public record Point(LocalDate costDate, long micros) {
+    }
+
+    /**
+     * 기간을 DB 값으로 교체한다. 호출 측이 this 락을 잡고 있어야 하며, 쓰기 락은 배열을 바꾸는 동안만 잡아 조회를 막는 시간을 줄인다.
+     */
+    private void apply(LocalDate startDate, LocalDate endDate) {
+        var rows = serviceCostRepository.sumCostByDateAndServiceBetween(startDate, endDate);
+
+        lock.writeLock().lock();
+        try {
+            ensureRange(startDate.toEpochDay(), endDate.toEpochDay());
+
+            int lo = (int) (startDate.toEpochDay() - firstEpochDay);
+            int hi = (int) (endDate.toEpochDay() - firstEpochDay + 1);
+            for (int id = 0; id < serviceNames.length; id++) {
+                Arrays.fill(columns[id], lo, hi, 0L);
+                present[id].clear(lo, hi);
+            }
+
+            for (Object[] row : rows) {
+                int id = serviceId((String) row[1]);
+                int d = (int) (((LocalDate) row[0]).toEpochDay() - firstEpochDay);
+                columns[id][d] = Money.toMicros((BigDecimal) row[2]);
+                present[id].set(d);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void ensureRange(long startEpochDay, long endEpochDay) {
+        if (days == 0) {
+            firstEpochDay = startEpochDay;
+        }
+        long newFirst = Math.min(firstEpochDay, startEpochDay);
+        long newLast = Math.max(firstEpochDay + days - 1, endEpochDay);
+        int newDays = (int) (newLast - newFirst + 1);
+        if (newFirst == firstEpochDay && newDays == days) {
+            return;
+        }
+
+        int shift = (int) (firstEpochDay - newFirst);
+        for (int id = 0; id < serviceNames.length; id++) {
+            long[] column = new long[newDays];
+            System.arraycopy(columns[id], 0, column, shift, days);
+            columns[id] = column;
+
+            BitSet rows = new BitSet(newDays);
+            present[id].stream().forEach(d -> rows.set(d + shift));
+            present[id] = rows;
+        }
+        firstEpochDay = newFirst;
+        days = newDays;
+    }
+
+    private int serviceId(String serviceName) {
+        Integer id = serviceIds.get(serviceName);
+        if (id != null) {
+            return id;
+        }
+        int newId = serviceNames.length;
+        serviceNames = Arrays.copyOf(serviceNames, newId + 1);
+        columns = Arrays.copyOf(columns, newId + 1);
+        present = Arrays.copyOf(present, newId + 1);
+        serviceNames[newId] = serviceName;
+        columns[newId] = new long[days];
+        present[newId] = new BitSet(days);
+        serviceIds.put(serviceName, newId);
+        return newId;
+    }
+
+    private int offset(long epochDay) {
+        return (int) Math.max(0, Math.min(epochDay - firstEpochDay, days));
+    }
+
+    private boolean hasRows(int id, int lo, int hi) {
+        int next = present[id].nextSetBit(lo);
+        return next >= 0 && next < hi;
+    }
+
+    /**
+     * ids[0..count) 를 totals 내림차순으로 앞쪽 k 개만 정렬한다 (부분 선택 정렬).
+     */
+    private static void selectTop(int[] ids, int count, long[] totals, int k) {
+        for (int i = 0; i < k; i++) {
+            int best = i;
+            for (int j = i + 1; j < count; j++) {
+                if (totals[ids[j]] > totals[ids[best]]) {
+                    best = j;
+                }
+            }
+            int tmp = ids[i];
+            ids[i] = ids[best];
+            ids[best] = tmp;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.finops.api.service;
+
+import com.finops.api.event.CostDataChangedEvent;
+import com.finops.api.repository.ServiceCostMonthlyRepository;
+import com.finops.api.repository.ServiceCostRepository;
+import com.finops.api.repository.ServiceCostWeeklyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+
+/**
+ * service_costs 일별 행을 (월, 서비스) / (ISO 주, 서비스) 단위로 미리 합산해 두는 롤업 테이블 관리.
+ * 비용 데이터 변경 이벤트가 오면 해당 기간이 걸친 버킷만 다시 계산한다.
+ * 버킷마다 DELETE 와 INSERT ... SELECT GROUP BY 한 번씩만 실행하므로, 서비스 수와 무관하게 DB 왕복은 버킷당 두 번이다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ServiceCostRollupService {
+
+    private final ServiceCostRepository serviceCostRepository;
+    private final ServiceCostMonthlyRepository monthlyRepository;
+    private final ServiceCostWeeklyRepository weeklyRepository;
+
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initialize() {
+        if (monthlyRepository.count() == 0 && serviceCostRepository.count() > 0) {
+            log.info("서비스 비용 롤업 테이블이 비어 있어 전체 재계산을 시작합니다");
+            rebuildAll();
+        }
+        ready = true;
+    }
+
+    @Order(0)  // 캐시 무효화(CostCacheInvalidator)보다 먼저 갱신한다
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onCostDataChanged(CostDataChangedEvent event) {
+        refresh(event.startDate(), event.endDate());
+    }
+
+    @Transactional
+    public void rebuildAll() {
+        List<Object[]> range = serviceCostRepository.findCostDateRange();
+        if (range.isEmpty() || range.get(0)[0] == null) {
+            return;
+        }
+        refresh((LocalDate) range.get(0)[0], (LocalDate) range.get(0)[1]);
+    }
+
+    /**
+     * startDate ~ endDate 가 걸친 모든 월/주 버킷을 일별 데이터로부터 다시 계산한다.
+     */
+    @Transactional
+    public void refresh(LocalDate startDate, LocalDate endDate) {
+        int months = 0;
+        for (LocalDate month = startDate.withDayOfMonth(1); !month.isAfter(endDate); month = month.plusMonths(1)) {
+            refreshMonth(month);
+            months++;
+        }
+
+        int weeks = 0;
+        LocalDate firstMonday = startDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        for (LocalDate week = firstMonday; !week.isAfter(endDate); week = week.plusWeeks(1)) {
+            refreshWeek(week);
+            weeks++;
+        }
+
+        log.debug("서비스 비용 롤업 갱신: {} ~ {} (월 {} 개, 주 {} 개)", startDate, endDate, months, weeks);
+    }
+
+    private void refreshMonth(LocalDate monthStart) {
+        monthlyRepository.deleteByMonthStart(monthStart);
+        monthlyRepository.insertFromServiceCosts(monthStart, monthStart.plusMonths(1).minusDays(1));
+    }
+
+    private void refreshWeek(LocalDate weekStart) {
+        weeklyRepository.deleteByWeekStart(weekStart);
+        weeklyRepository.insertFromServiceCosts(weekStart, weekStart.plusDays(6));
+    }
+}
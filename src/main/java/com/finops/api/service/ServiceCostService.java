@@ -1,25 +1,42 @@
 package com.finops.api.service;
 
+import com.finops.api.cache.CostCaches;
 import com.finops.api.dto.ServiceCostDto;
+import com.finops.api.dto.ServiceCostPointDto;
 import com.finops.api.dto.ServiceCostSummaryDto;
+import com.finops.api.repository.ServiceCostMonthlyRepository;
 import com.finops.api.repository.ServiceCostRepository;
+import com.finops.api.repository.ServiceCostWeeklyRepository;
+import com.finops.api.util.Money;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@CacheConfig(keyGenerator = CostCaches.KEY_GENERATOR)
 public class ServiceCostService {
 
     private final ServiceCostRepository serviceCostRepository;
+    private final ServiceCostMonthlyRepository monthlyRepository;
+    private final ServiceCostWeeklyRepository weeklyRepository;
+    private final ServiceCostRollupService rollupService;
+    private final ServiceCostCube serviceCostCube;
 
+    @Cacheable(cacheNames = CostCaches.SERVICE_COSTS, sync = true)
     public List<ServiceCostDto> getServiceCosts(LocalDate startDate, LocalDate endDate) {
         log.debug("서비스별 비용 조회: {} ~ {}", startDate, endDate);
 
@@ -29,35 +46,104 @@ public class ServiceCostService {
                 .toList();
     }
 
+    @Cacheable(cacheNames = CostCaches.SERVICE_COST_SUMMARY, sync = true)
     public List<ServiceCostSummaryDto> getServiceCostSummary(LocalDate startDate, LocalDate endDate) {
-        var results = serviceCostRepository.findServiceCostSummary(startDate, endDate);
-
-        BigDecimal grandTotal = results.stream()
-                .map(row -> (BigDecimal) row[1])
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        return results.stream()
-                .map(row -> ServiceCostSummaryDto.of(
-                        (String) row[0],
-                        (BigDecimal) row[1],
-                        grandTotal
-                ))
-                .toList();
+        if (serviceCostCube.isReady()) {
+            return fromTotals(serviceCostCube.sumByService(startDate, endDate, Integer.MAX_VALUE));
+        }
+
+        var plan = CostRangePlan.of(startDate, endDate);
+        if (plan.usesRollups() && rollupService.isReady()) {
+            return fromTotals(sumByServiceFromRollups(plan, Integer.MAX_VALUE));
+        }
+        return toSummary(serviceCostRepository.findServiceCostSummary(startDate, endDate));
     }
 
+    @Cacheable(cacheNames = CostCaches.TOP_SERVICES, sync = true)
     public List<ServiceCostSummaryDto> getTopServices(LocalDate startDate, LocalDate endDate, int limit) {
-        var results = serviceCostRepository.findTopServices(startDate, endDate, limit);
-
-        BigDecimal grandTotal = results.stream()
-                .map(row -> (BigDecimal) row[1])
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        return results.stream()
-                .map(row -> ServiceCostSummaryDto.of(
-                        (String) row[0],
-                        (BigDecimal) row[1],
-                        grandTotal
-                ))
+        if (serviceCostCube.isReady()) {
+            return fromTotals(serviceCostCube.sumByService(startDate, endDate, limit));
+        }
+
+        var plan = CostRangePlan.of(startDate, endDate);
+        if (plan.usesRollups() && rollupService.isReady()) {
+            return fromTotals(sumByServiceFromRollups(plan, limit));
+        }
+        return toSummary(serviceCostRepository.findTopServices(startDate, endDate, limit));
+    }
+
+    @Cacheable(cacheNames = CostCaches.SERVICE_COST_SERIES, sync = true)
+    public List<ServiceCostPointDto> getServiceCostSeries(String serviceName, LocalDate startDate, LocalDate endDate) {
+        log.debug("서비스 비용 추이 조회: {} {} ~ {}", serviceName, startDate, endDate);
+
+        if (serviceCostCube.isReady()) {
+            return serviceCostCube.series(serviceName, startDate, endDate).stream()
+                    .map(point -> new ServiceCostPointDto(point.costDate(),
+                            Money.toBigDecimal(point.micros(), 4, RoundingMode.HALF_UP)))
+                    .toList();
+        }
+
+        return serviceCostRepository.findServiceCostSeries(serviceName, startDate, endDate).stream()
+                .map(row -> new ServiceCostPointDto((LocalDate) row[0], (BigDecimal) row[1]))
+                .toList();
+    }
+
+    /**
+     * 기간에 완전히 포함된 월/주는 롤업 테이블에서, 나머지 가장자리 일자만 일별 테이블에서 합산한다.
+     * 합산은 micro 단위 long 으로 하고, 결과도 BigDecimal 로 바꾸지 않은 채 비용 내림차순으로 돌려준다.
+     */
+    private List<ServiceCostCube.Total> sumByServiceFromRollups(CostRangePlan plan, int limit) {
+        Map<String, long[]> totals = new HashMap<>();
+
+        if (!plan.months().isEmpty()) {
+            merge(totals, monthlyRepository.sumByServiceForMonths(plan.months()));
+        }
+        if (!plan.weeks().isEmpty()) {
+            merge(totals, weeklyRepository.sumByServiceForWeeks(plan.weeks()));
+        }
+        for (var range : plan.dayRanges()) {
+            merge(totals, serviceCostRepository.findServiceCostSummary(range.startDate(), range.endDate()));
+        }
+
+        return totals.entrySet().stream()
+                .sorted((a, b) -> Long.compare(b.getValue()[0], a.getValue()[0]))
+                .limit(limit)
+                .map(entry -> new ServiceCostCube.Total(entry.getKey(), entry.getValue()[0]))
                 .toList();
     }
+
+    private void merge(Map<String, long[]> totals, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            long[] total = totals.computeIfAbsent((String) row[0], name -> new long[1]);
+            total[0] = Money.add(total[0], Money.toMicros((BigDecimal) row[1]));
+        }
+    }
+
+    private List<ServiceCostSummaryDto> fromTotals(List<ServiceCostCube.Total> totals) {
+        long grandTotal = 0;
+        for (var total : totals) {
+            grandTotal = Money.add(grandTotal, total.micros());
+        }
+
+        List<ServiceCostSummaryDto> result = new ArrayList<>(totals.size());
+        for (var total : totals) {
+            result.add(ServiceCostSummaryDto.ofMicros(total.serviceName(), total.micros(), grandTotal));
+        }
+        return result;
+    }
+
+    private List<ServiceCostSummaryDto> toSummary(List<Object[]> results) {
+        long[] micros = new long[results.size()];
+        long grandTotal = 0;
+        for (int i = 0; i < micros.length; i++) {
+            micros[i] = Money.toMicros((BigDecimal) results.get(i)[1]);
+            grandTotal = Money.add(grandTotal, micros[i]);
+        }
+
+        List<ServiceCostSummaryDto> result = new ArrayList<>(micros.length);
+        for (int i = 0; i < micros.length; i++) {
+            result.add(ServiceCostSummaryDto.ofMicros((String) results.get(i)[0], micros[i], grandTotal));
+        }
+        return result;
+    }
 }
@@ -0,0 +1,289 @@
+package com.finops.api.synthetic;
+
+import com.finops.api.aws.AwsScope;
+import com.finops.api.aws.ResourceChunker;
+import com.finops.api.aws.ResourceCollector;
+import com.finops.api.dto.ingest.CostIngestRequest;
+import com.finops.api.entity.AwsResource;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * 부하 테스트용 대규모 가상 인벤토리와 비용 시계열을 만든다.
+ * <ul>
+ *     <li>같은 seed 와 기준일이면 실행 시점과 무관하게 항상 같은 결과가 나온다. 리소스 하나하나를 (seed, 계정, 리전, 타입, 순번),
+ *     비용 하나하나를 (seed, 서비스, 일자) 에서 만든 난수로 생성하므로 범위를 나눠 병렬로 만들어도, 일부만 다시 만들어도 값이 같다.
+ *     lastSyncedAt 처럼 실행 시각에 따라 바뀌는 값은 채우지 않는다 (ResourceSyncWriter 가 채운다).</li>
+ *     <li>목록을 만들지 않고 Stream 으로 하나씩 내보내므로 1M 개도 메모리에 쌓이지 않는다.</li>
+ *     <li>태그는 팀/환경 분포가 치우쳐 있고 키별 누락률, 대소문자가 다른 키 같은 실제 계정의 지저분함을 흉내 낸다.</li>
+ *     <li>비용은 서비스별 기준값에 월 성장률, 주말 감소, 월말 급증, 잡음을 더한다. 일별 합계는 같은 날 서비스별 비용의 합이다.</li>
+ * </ul>
+ */
+@Slf4j
+public class SyntheticInventoryGenerator {
+
+    // 타입별 비중 (합 100)
+    private static final List<TypeShare> TYPE_SHARES = List.of(
+            new TypeShare("EC2", 40), new TypeShare("LAMBDA", 30), new TypeShare("S3", 15), new TypeShare("RDS", 15));
+
+    // 앞쪽 팀일수록 리소스가 많다 (가중치)
+    private static final String[] TEAMS = {"platform", "payments", "search", "data", "mobile", "growth",
+            "identity", "ml", "infra", "billing", "support", "security"};
+    private static final int[] TEAM_WEIGHTS = {30, 18, 12, 10, 8, 6, 5, 4, 3, 2, 1, 1};
+
+    private static final String[] ENVIRONMENTS = {"production", "staging", "development"};
+    private static final int[] ENVIRONMENT_WEIGHTS = {40, 20, 40};
+
+    // 태그 키별 누락률 (%)
+    private static final int MISSING_ENVIRONMENT = 10;
+    private static final int MISSING_TEAM = 15;
+    private static final int MISSING_COST_CENTER = 25;
+    private static final int MISSING_OWNER = 30;
+    // Environment 대신 environment 처럼 대소문자가 다른 키를 쓰는 비율 (%)
+    private static final int MISCASED_KEY = 3;
+
+    private static final String[] EC2_TYPES = {"t3.micro", "t3.small", "t3.medium", "t3.large", "m5.large",
+            "m5.xlarge", "c5.large", "c5.xlarge", "r5.large", "r5.2xlarge"};
+    private static final int[] EC2_TYPE_WEIGHTS = {15, 20, 18, 10, 12, 8, 6, 4, 5, 2};
+    private static final String[] EC2_STATES = {"running", "stopped", "stopping", "pending"};
+    private static final int[] EC2_STATE_WEIGHTS = {80, 15, 3, 2};
+
+    private static final String[] RDS_CLASSES = {"db.t3.micro", "db.t3.small", "db.t3.medium", "db.r5.large", "db.r5.xlarge"};
+    private static final int[] RDS_CLASS_WEIGHTS = {20, 30, 25, 18, 7};
+    private static final String[] RDS_ENGINES = {"mysql", "postgres", "aurora-mysql", "aurora-postgresql"};
+    private static final String[] RDS_STATES = {"available", "stopped", "backing-up", "modifying"};
+    private static final int[] RDS_STATE_WEIGHTS = {88, 8, 3, 1};
+
+    private static final String[] LAMBDA_RUNTIMES = {"python3.11", "nodejs18.x", "java17", "go1.x", "python3.9"};
+    private static final int[] LAMBDA_MEMORY = {128, 256, 512, 1024, 2048};
+    private static final String[] LAMBDA_STATES = {"Active", "Inactive"};
+    private static final int[] LAMBDA_STATE_WEIGHTS = {95, 5};
+
+    private static final String[] S3_STATES = {"active", "unused"};
+    private static final int[] S3_STATE_WEIGHTS = {92, 8};
+
+    // 서비스별 하루 기준 비용 (USD)
+    private static final Map<String, Double> SERVICE_BASE_COSTS = Map.of(
+            "Amazon EC2", 40.0, "Amazon RDS", 25.0, "Amazon S3", 12.0,
+            "AWS Lambda", 6.0, "Amazon CloudFront", 5.0, "Amazon DynamoDB", 4.0,
+            "Amazon EKS", 15.0, "AWS Fargate", 6.0, "Amazon ElastiCache", 5.0);
+    private static final List<String> SERVICES = SERVICE_BASE_COSTS.keySet().stream().sorted().toList();
+    private static final double MONTHLY_GROWTH = 0.02;
+
+    private final long seed;
+    private final LocalDateTime baseTime;
+
+    /**
+     * baseTime 은 launchTime 같은 날짜 메타데이터와 비용 성장률의 기준일이다.
+     * 실행일마다 결과가 달라지지 않도록 현재 시각이 아닌 고정 값(finops.synthetic.base-date)을 넘긴다.
+     */
+    public SyntheticInventoryGenerator(long seed, LocalDateTime baseTime) {
+        this.seed = seed;
+        this.baseTime = baseTime.truncatedTo(ChronoUnit.DAYS);
+    }
+
+    /**
+     * 한 수집 범위에 만들 타입별 개수. 전체 count 를 TYPE_SHARES 비율로 나눈다.
+     */
+    public static int countFor(String resourceType, int count) {
+        int total = TYPE_SHARES.stream().mapToInt(TypeShare::percent).sum();
+        return TYPE_SHARES.stream()
+                .filter(share -> share.resourceType().equals(resourceType))
+                .mapToInt(share -> (int) ((long) count * share.percent() / total))
+                .findFirst()
+                .orElse(0);
+    }
+
+    public static List<String> resourceTypes() {
+        return TYPE_SHARES.stream().map(TypeShare::resourceType).toList();
+    }
+
+    /**
+     * scope 에 속한 resourceType 리소스 count 개를 순서대로 내보낸다.
+     */
+    public Stream<AwsResource> resources(AwsScope scope, String resourceType, int count) {
+        return IntStream.range(0, count).mapToObj(index -> resource(scope, resourceType, index));
+    }
+
+    /**
+     * 범위마다 perScopeCount 개를 TYPE_SHARES 비율로 나눠 만드는 수집기. S3 는 실제처럼 계정 단위(global)다.
+     */
+    public List<ResourceCollector> collectors(int perScopeCount) {
+        return resourceTypes().stream()
+                .map(type -> (ResourceCollector) new SyntheticCollector(this, type, "S3".equals(type),
+                        countFor(type, perScopeCount)))
+                .toList();
+    }
+
+    public AwsResource resource(AwsScope scope, String resourceType, int index) {
+        SplittableRandom random = new SplittableRandom(
+                mix(seed, scope.accountId().hashCode(), scope.region().hashCode(), resourceType.hashCode(), index));
+        String region = scope.region();
+        String account = scope.accountId();
+        String team = pick(random, TEAMS, TEAM_WEIGHTS);
+        String environment = pick(random, ENVIRONMENTS, ENVIRONMENT_WEIGHTS);
+        String suffix = Long.toHexString(random.nextLong() & 0xffff_ffff_ffffL);
+
+        AwsResource.AwsResourceBuilder builder = AwsResource.builder()
+                .resourceType(resourceType)
+                .accountId(account)
+                .region(region);
+        Map<String, Object> metadata = new HashMap<>();
+        String name;
+        switch (resourceType) {
+            case "EC2" -> {
+                name = team + "-" + environment + "-" + index;
+                builder.resourceId("i-" + String.format("%017x", random.nextLong() & 0x0fff_ffff_ffff_ffffL))
+                        .availabilityZone(region + (char) ('a' + random.nextInt(3)))
+                        .state(pick(random, EC2_STATES, EC2_STATE_WEIGHTS))
+                        .instanceType(pick(random, EC2_TYPES, EC2_TYPE_WEIGHTS));
+                metadata.put("imageId", "ami-" + suffix);
+                metadata.put("vpcId", "vpc-" + Integer.toHexString(team.hashCode() & 0xfffffff));
+                metadata.put("launchTime", baseTime.minusDays(random.nextInt(3 * 365)).toString());
+            }
+            case "RDS" -> {
+                name = team + "-" + environment + "-db-" + index;
+                builder.resourceId("arn:aws:rds:" + region + ":" + account + ":db:" + name)
+                        .availabilityZone(region + (char) ('a' + random.nextInt(3)))
+                        .state(pick(random, RDS_STATES, RDS_STATE_WEIGHTS))
+                        .instanceType(pick(random, RDS_CLASSES, RDS_CLASS_WEIGHTS));
+                metadata.put("engine", RDS_ENGINES[random.nextInt(RDS_ENGINES.length)]);
+                metadata.put("allocatedStorage", 20 * (1 + random.nextInt(50)));
+                metadata.put("multiAZ", "production".equals(environment) && random.nextInt(100) < 70);
+            }
+            case "S3" -> {
+                // 버킷 이름은 전역에서 유일해야 하므로 계정을 넣는다
+                name = team + "-" + environment + "-" + account + "-" + index;
+                builder.resourceId("arn:aws:s3:::" + name)
+                        .state(pick(random, S3_STATES, S3_STATE_WEIGHTS));
+                metadata.put("creationDate", baseTime.minusDays(random.nextInt(5 * 365)).toString());
+            }
+            case "LAMBDA" -> {
+                name = team + "-" + environment + "-fn-" + index;
+                builder.resourceId("arn:aws:lambda:" + region + ":" + account + ":function:" + name)
+                        .state(pick(random, LAMBDA_STATES, LAMBDA_STATE_WEIGHTS));
+                metadata.put("runtime", LAMBDA_RUNTIMES[random.nextInt(LAMBDA_RUNTIMES.length)]);
+                metadata.put("memorySize", LAMBDA_MEMORY[random.nextInt(LAMBDA_MEMORY.length)]);
+                metadata.put("lastModified", baseTime.minusDays(random.nextInt(365)).toString());
+            }
+            default -> throw new IllegalArgumentException("지원하지 않는 리소스 타입입니다: " + resourceType);
+        }
+
+        return builder.resourceName(name)
+                .tags(tags(random, name, team, environment))
+                .metadata(metadata)
+                .build();
+    }
+
+    /**
+     * from ~ to (포함) 의 일별 합계. serviceCosts 와 같은 날짜의 서비스별 비용을 더한 값이다.
+     */
+    public Stream<CostIngestRequest.DailyCostRow> dailyCosts(LocalDate from, LocalDate to) {
+        return dates(from, to).map(date -> new CostIngestRequest.DailyCostRow(date,
+                SERVICES.stream().map(service -> serviceCost(date, service))
+                        .reduce(BigDecimal.ZERO, BigDecimal::add),
+                "USD"));
+    }
+
+    public Stream<CostIngestRequest.ServiceCostRow> serviceCosts(LocalDate from, LocalDate to) {
+        return dates(from, to).flatMap(date -> SERVICES.stream()
+                .map(service -> new CostIngestRequest.ServiceCostRow(date, service, serviceCost(date, service), "USD")));
+    }
+
+    private BigDecimal serviceCost(LocalDate date, String service) {
+        SplittableRandom random = new SplittableRandom(mix(seed, service.hashCode(), date.toEpochDay()));
+        // 기준일(baseTime) 보다 과거면 작아지고 이후면 커진다
+        double months = ChronoUnit.DAYS.between(date, baseTime.toLocalDate()) / 30.0;
+        double cost = SERVICE_BASE_COSTS.get(service) * Math.pow(1 + MONTHLY_GROWTH, -months);
+        if (date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY) {
+            cost *= 0.7;
+        }
+        if (date.getDayOfMonth() == date.lengthOfMonth()) {
+            cost *= 1.3;   // 월말 배치/정산
+        }
+        cost *= 0.85 + random.nextDouble() * 0.3;
+        return BigDecimal.valueOf(cost).setScale(4, RoundingMode.HALF_UP);
+    }
+
+    private static Stream<LocalDate> dates(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦을 수 없습니다");
+        }
+        return Stream.iterate(from, date -> !date.isAfter(to), date -> date.plusDays(1));
+    }
+
+    private static Map<String, String> tags(SplittableRandom random, String name, String team, String environment) {
+        Map<String, String> tags = new HashMap<>();
+        tags.put("Name", name);
+        if (random.nextInt(100) >= MISSING_ENVIRONMENT) {
+            tags.put(random.nextInt(100) < MISCASED_KEY ? "environment" : "Environment", environment);
+        }
+        if (random.nextInt(100) >= MISSING_TEAM) {
+            tags.put(random.nextInt(100) < MISCASED_KEY ? "team" : "Team", team);
+        }
+        if (random.nextInt(100) >= MISSING_COST_CENTER) {
+            tags.put("CostCenter", "CC-" + (1000 + Math.abs(team.hashCode() % 50)));
+        }
+        if (random.nextInt(100) >= MISSING_OWNER) {
+            tags.put("Owner", team + "-owner-" + random.nextInt(5) + "@example.com");
+        }
+        return tags;
+    }
+
+    private static String pick(SplittableRandom random, String[] values, int[] weights) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        int roll = random.nextInt(total);
+        for (int i = 0; i < values.length; i++) {
+            roll -= weights[i];
+            if (roll < 0) {
+                return values[i];
+            }
+        }
+        return values[values.length - 1];
+    }
+
+    // SplitMix64 방식으로 입력을 섞어 리소스/날짜별 시드를 만든다
+    private static long mix(long seed, long... parts) {
+        long h = seed;
+        for (long part : parts) {
+            h += 0x9E3779B97F4A7C15L + part;
+            h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+            h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+            h ^= h >>> 31;
+        }
+        return h;
+    }
+
+    private record TypeShare(String resourceType, int percent) {
+    }
+
+    /**
+     * 범위마다 count 개를 만들어 청크로 넘긴다. 실제 수집기처럼 한 번에 한 청크만 들고 있다.
+     */
+    private record SyntheticCollector(SyntheticInventoryGenerator generator, String resourceType, boolean global,
+                                      int count) implements ResourceCollector {
+
+        @Override
+        public void collect(AwsScope scope, Consumer<List<AwsResource>> sink) {
+            ResourceChunker chunker = new ResourceChunker(sink);
+            generator.resources(scope, resourceType, count).forEach(chunker::add);
+            log.info("[SYNTHETIC] {} {} 개 ({}) 생성", resourceType, chunker.finish(), scope);
+        }
+    }
+}
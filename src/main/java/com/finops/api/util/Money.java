@@ -0,0 +1,121 @@
+package com.finops.api.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 금액을 micro 단위(10^-6) long 으로 다루는 고정소수점 연산 모음.
+ * 집계 루프에서 BigDecimal 객체 생성 없이 더하고, DTO 로 내보낼 때만 BigDecimal 로 변환한다.
+ * 모든 연산은 overflow 시 ArithmeticException 을 던지며, 나눗셈/축소는 반올림 모드를 명시해야 한다.
+ */
+public final class Money {
+
+    public static final int SCALE = 6;
+
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L
+    };
+
+    private Money() {
+    }
+
+    public static long toMicros(BigDecimal value) {
+        return toMicros(value, RoundingMode.HALF_UP);
+    }
+
+    public static long toMicros(BigDecimal value, RoundingMode mode) {
+        if (value == null) {
+            return 0L;
+        }
+        return value.setScale(SCALE, mode).unscaledValue().longValueExact();
+    }
+
+    public static long add(long a, long b) {
+        return Math.addExact(a, b);
+    }
+
+    public static long subtract(long a, long b) {
+        return Math.subtractExact(a, b);
+    }
+
+    public static long multiply(long micros, long factor) {
+        return Math.multiplyExact(micros, factor);
+    }
+
+    /**
+     * micros × percent / 100 을 scale 자리에서 한 번만 반올림한 값(micro 단위).
+     */
+    public static long percentOf(long micros, long percent, int scale, RoundingMode mode) {
+        long unit = unit(scale);
+        return Math.multiplyExact(divide(multiply(micros, percent), 100 * unit, mode), unit);
+    }
+
+    /**
+     * part / whole × 100 을 scale 자리로 반올림한 백분율. whole 은 0 이 아니어야 한다.
+     */
+    public static BigDecimal percentage(long part, long whole, int scale, RoundingMode mode) {
+        if (scale < 0 || scale >= POWERS_OF_TEN.length) {
+            return exactPercentage(part, whole, scale, mode);
+        }
+        long numerator;
+        try {
+            numerator = multiply(part, 100 * POWERS_OF_TEN[scale]);
+        } catch (ArithmeticException overflow) {
+            // long 범위를 넘는 금액은 BigDecimal 로 계산한다
+            return exactPercentage(part, whole, scale, mode);
+        }
+        return BigDecimal.valueOf(divide(numerator, whole, mode), scale);
+    }
+
+    public static BigDecimal toBigDecimal(long micros, int scale, RoundingMode mode) {
+        if (scale >= SCALE) {
+            return BigDecimal.valueOf(micros, SCALE).setScale(scale, RoundingMode.UNNECESSARY);
+        }
+        return BigDecimal.valueOf(divide(micros, unit(scale), mode), scale);
+    }
+
+    /**
+     * 정수 나눗셈을 BigDecimal 과 같은 규칙으로 반올림한다.
+     */
+    public static long divide(long dividend, long divisor, RoundingMode mode) {
+        if (divisor == 0) {
+            throw new ArithmeticException("0 으로 나눌 수 없습니다");
+        }
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (remainder == 0) {
+            return quotient;
+        }
+
+        int signum = (dividend < 0) == (divisor < 0) ? 1 : -1;
+        boolean increment = switch (mode) {
+            case UNNECESSARY -> throw new ArithmeticException("반올림이 필요합니다");
+            case DOWN -> false;
+            case UP -> true;
+            case FLOOR -> signum < 0;
+            case CEILING -> signum > 0;
+            case HALF_UP, HALF_DOWN, HALF_EVEN -> {
+                long absRemainder = Math.abs(remainder);
+                int half = Long.compare(absRemainder, Math.abs(divisor) - absRemainder);
+                if (half != 0) {
+                    yield half > 0;
+                }
+                yield mode == RoundingMode.HALF_UP
+                        || (mode == RoundingMode.HALF_EVEN && (quotient & 1) != 0);
+            }
+        };
+        return increment ? Math.addExact(quotient, signum) : quotient;
+    }
+
+    private static BigDecimal exactPercentage(long part, long whole, int scale, RoundingMode mode) {
+        return BigDecimal.valueOf(part).multiply(BigDecimal.valueOf(100))
+                .divide(BigDecimal.valueOf(whole), scale, mode);
+    }
+
+    private static long unit(int scale) {
+        if (scale < 0 || scale > SCALE) {
+            throw new IllegalArgumentException("scale 은 0~" + SCALE + " 범위여야 합니다: " + scale);
+        }
+        return POWERS_OF_TEN[SCALE - scale];
+    }
+}
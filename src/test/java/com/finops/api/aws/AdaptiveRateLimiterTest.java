@@ -0,0 +1,177 @@
+package com.finops.api.aws;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 가짜 시계로 토큰 버킷 대기 시간과 AIMD 동시 실행 상한 조정을 확인한다.
+ */
+class AdaptiveRateLimiterTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void burstIsFreeThenEachTokenWaitsOneInterval() throws InterruptedException {
+        FakeClock clock = new FakeClock(true);
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(10, 5, 4, clock);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.takeToken()).isZero();
+        }
+        // 잔 만큼 시계가 흐르므로 이후에는 토큰 하나씩 1/rate 마다 채워진다
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.takeToken()).isEqualTo(SECOND / 10);
+        }
+        assertThat(clock.now).isEqualTo(SECOND);
+    }
+
+    @Test
+    void concurrentReservationsWaitInOrder() throws InterruptedException {
+        // 자는 동안 시계가 흐르지 않으면 동시에 예약한 호출과 같다: 앞선 예약만큼 더 기다린다
+        FakeClock clock = new FakeClock(false);
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(4, 2, 4, clock);
+
+        limiter.takeToken();
+        limiter.takeToken();
+        assertThat(limiter.takeToken()).isEqualTo(SECOND / 4);
+        assertThat(limiter.takeToken()).isEqualTo(SECOND / 2);
+        assertThat(limiter.takeToken()).isEqualTo(SECOND * 3 / 4);
+        assertThat(clock.sleeps).containsExactly(SECOND / 4, SECOND / 2, SECOND * 3 / 4);
+    }
+
+    @Test
+    void idleRefillIsCappedAtBurst() throws InterruptedException {
+        FakeClock clock = new FakeClock(true);
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(10, 3, 4, clock);
+        for (int i = 0; i < 3; i++) {
+            limiter.takeToken();
+        }
+
+        clock.now += 60 * SECOND;
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.takeToken()).isZero();
+        }
+        assertThat(limiter.takeToken()).isEqualTo(SECOND / 10);
+    }
+
+    @Test
+    void throttleHalvesLimitAtMostOncePerSecond() {
+        FakeClock clock = new FakeClock(true);
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(10, 5, 8, clock);
+
+        assertThat(limiter.onThrottle()).isTrue();
+        assertThat(limiter.currentLimit()).isEqualTo(4);
+
+        // 같은 순간에 몰린 스로틀링은 한 번만 반영한다
+        clock.now += SECOND - 1;
+        assertThat(limiter.onThrottle()).isFalse();
+        assertThat(limiter.currentLimit()).isEqualTo(4);
+
+        clock.now += 1;
+        assertThat(limiter.onThrottle()).isTrue();
+        assertThat(limiter.currentLimit()).isEqualTo(2);
+
+        clock.now += SECOND;
+        assertThat(limiter.onThrottle()).isTrue();
+        clock.now += SECOND;
+        assertThat(limiter.onThrottle()).isTrue();
+        assertThat(limiter.currentLimit()).isEqualTo(1);
+    }
+
+    @Test
+    void successesRecoverLimitAdditivelyUpToMax() throws InterruptedException {
+        FakeClock clock = new FakeClock(true);
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(10, 5, 8, clock);
+        limiter.onThrottle();
+        assertThat(limiter.currentLimit()).isEqualTo(4);
+
+        // 상한 한 번만큼(약 4~5 회) 성공해야 1 이 오른다
+        List<Integer> limits = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            limiter.enter();
+            limiter.release(true);
+            limits.add(limiter.currentLimit());
+        }
+        assertThat(limits).containsExactly(4, 4, 4, 4, 5);
+
+        // 실패는 상한을 올리지 않는다
+        limiter.enter();
+        limiter.release(false);
+        assertThat(limiter.currentLimit()).isEqualTo(5);
+
+        for (int i = 0; i < 100; i++) {
+            limiter.enter();
+            limiter.release(true);
+        }
+        assertThat(limiter.currentLimit()).isEqualTo(8);
+        assertThat(limiter.inFlight()).isZero();
+    }
+
+    @Test
+    void enterWaitsForFreeSlot() throws Exception {
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(10, 5, 1, new FakeClock(true));
+        limiter.enter();
+
+        CountDownLatch entered = new CountDownLatch(1);
+        Thread waiter = new Thread(() -> {
+            try {
+                limiter.enter();
+                entered.countDown();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        waiter.start();
+
+        assertThat(entered.await(200, TimeUnit.MILLISECONDS)).isFalse();
+        limiter.release(true);
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(limiter.inFlight()).isEqualTo(1);
+        waiter.join();
+    }
+
+    @Test
+    void rejectsNonPositiveSettings() {
+        assertThatThrownBy(() -> new AdaptiveRateLimiter(0, 1, 1, new FakeClock(true)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdaptiveRateLimiter(1, 0, 1, new FakeClock(true)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdaptiveRateLimiter(1, 1, 0, new FakeClock(true)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * sleep 하면 실제로 자지 않고 기록만 한다. advanceOnSleep 이면 잔 만큼 시간을 앞당긴다.
+     */
+    static final class FakeClock implements RateLimitClock {
+
+        private final boolean advanceOnSleep;
+        final List<Long> sleeps = new ArrayList<>();
+        long now;
+
+        FakeClock(boolean advanceOnSleep) {
+            this.advanceOnSleep = advanceOnSleep;
+        }
+
+        @Override
+        public synchronized long nanoTime() {
+            return now;
+        }
+
+        @Override
+        public synchronized void sleep(long nanos) {
+            sleeps.add(nanos);
+            if (advanceOnSleep) {
+                now += nanos;
+            }
+        }
+    }
+}
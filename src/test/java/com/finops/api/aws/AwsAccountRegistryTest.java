@@ -0,0 +1,62 @@
+package com.finops.api.aws;
+
+import com.finops.api.config.InventoryAccountProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.sts.StsClient;
+import software.amazon.awssdk.services.sts.model.GetCallerIdentityResponse;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 기본 계정 ID 를 정하는 순서와, STS 조회가 실패하면 임의의 ID 대신 기동을 멈추는지 확인한다.
+ */
+class AwsAccountRegistryTest {
+
+    private static final InventoryAccountProperties NO_ACCOUNTS =
+            new InventoryAccountProperties(List.of(), null, Duration.ofHours(1), Duration.ofMinutes(5), false);
+
+    private final StsClient sts = mock(StsClient.class);
+
+    @Test
+    void configuredAccountIdSkipsSts() {
+        AwsAccountRegistry registry = new AwsAccountRegistry(NO_ACCOUNTS, provider(sts), "123456789012");
+
+        assertThat(registry.accounts()).extracting(AwsAccount::id).containsExactly("123456789012");
+        verifyNoInteractions(sts);
+    }
+
+    @Test
+    void callerIdentityIsUsedWhenAccountIdIsBlank() {
+        when(sts.getCallerIdentity()).thenReturn(GetCallerIdentityResponse.builder().account("210987654321").build());
+
+        AwsAccountRegistry registry = new AwsAccountRegistry(NO_ACCOUNTS, provider(sts), "");
+
+        assertThat(registry.accounts()).extracting(AwsAccount::id).containsExactly("210987654321");
+    }
+
+    @Test
+    void stsFailureStopsStartupInsteadOfUsingPlaceholderAccount() {
+        when(sts.getCallerIdentity()).thenThrow(SdkClientException.create("Unable to execute HTTP request"));
+
+        assertThatThrownBy(() -> new AwsAccountRegistry(NO_ACCOUNTS, provider(sts), ""))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("aws.account-id")
+                .hasCauseInstanceOf(SdkClientException.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ObjectProvider<StsClient> provider(StsClient sts) {
+        ObjectProvider<StsClient> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(sts);
+        return provider;
+    }
+}
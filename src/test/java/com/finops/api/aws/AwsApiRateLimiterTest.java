@@ -0,0 +1,139 @@
+package com.finops.api.aws;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.lambda.LambdaClient;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 앞의 몇 번은 429 를 돌려주는 스텁 HTTP 클라이언트로, SDK 재시도를 거치는 실제 호출에서
+ * 시도마다 토큰을 쓰고 스로틀링에 동시 실행 상한을 줄이며 끝나면 슬롯을 돌려주는지 확인한다.
+ */
+class AwsApiRateLimiterTest {
+
+    private static final AwsScope SCOPE = new AwsScope(new AwsAccount("123456789012", "test", null, null), "us-east-1");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AwsApiRateLimiter rateLimiter = new AwsApiRateLimiter(true, 10, Map.of(), 20, 8, meterRegistry,
+            new AdaptiveRateLimiterTest.FakeClock(true));
+
+    @Test
+    void throttledAttemptsShrinkLimitOnceAndRetriesTakeTokens() {
+        ThrottlingHttpClient http = new ThrottlingHttpClient(2);
+
+        try (LambdaClient lambda = lambda(http)) {
+            assertThat(lambda.listFunctions().functions()).isEmpty();
+        }
+
+        assertThat(http.calls).hasValue(3);
+        assertThat(count("finops.aws.api.permits")).isEqualTo(3);
+        assertThat(count("finops.aws.api.throttles")).isEqualTo(2);
+        // 두 번째 스로틀링은 1 초 안이라 무시되고, 마지막 성공으로 1/4 만 오른다
+        assertThat(concurrencyLimit()).isEqualTo(4);
+        assertThat(limiter().inFlight()).isZero();
+    }
+
+    @Test
+    void slotIsReleasedWhenRetriesAreExhausted() {
+        ThrottlingHttpClient http = new ThrottlingHttpClient(Integer.MAX_VALUE);
+
+        try (LambdaClient lambda = lambda(http)) {
+            assertThatThrownBy(lambda::listFunctions).isInstanceOf(SdkException.class);
+        }
+
+        assertThat(count("finops.aws.api.throttles")).isEqualTo(http.calls.get());
+        assertThat(concurrencyLimit()).isEqualTo(4);
+        assertThat(limiter().inFlight()).isZero();
+    }
+
+    @Test
+    void disabledLimiterAddsNoInterceptor() {
+        AwsApiRateLimiter disabled = new AwsApiRateLimiter(false, 10, Map.of(), 20, 8, meterRegistry,
+                new AdaptiveRateLimiterTest.FakeClock(true));
+
+        assertThat(disabled.overrideConfiguration(SCOPE).executionInterceptors()).isEmpty();
+    }
+
+    private LambdaClient lambda(SdkHttpClient http) {
+        return LambdaClient.builder()
+                .region(Region.of(SCOPE.region()))
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("test", "test")))
+                .httpClient(http)
+                .overrideConfiguration(rateLimiter.overrideConfiguration(SCOPE))
+                .build();
+    }
+
+    private AdaptiveRateLimiter limiter() {
+        Gauge gauge = meterRegistry.get("finops.aws.api.concurrency.limit").gauge();
+        return rateLimiter.limiter(SCOPE, gauge.getId().getTag("service"), gauge.getId().getTag("operation")).limiter();
+    }
+
+    private int concurrencyLimit() {
+        return (int) meterRegistry.get("finops.aws.api.concurrency.limit").gauge().value();
+    }
+
+    private double count(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+
+    /**
+     * 처음 throttledCalls 번은 429 TooManyRequestsException, 그다음부터는 빈 함수 목록을 돌려준다.
+     */
+    private static final class ThrottlingHttpClient implements SdkHttpClient {
+
+        private final int throttledCalls;
+        private final AtomicInteger calls = new AtomicInteger();
+
+        ThrottlingHttpClient(int throttledCalls) {
+            this.throttledCalls = throttledCalls;
+        }
+
+        @Override
+        public ExecutableHttpRequest prepareRequest(HttpExecuteRequest request) {
+            return new ExecutableHttpRequest() {
+                @Override
+                public HttpExecuteResponse call() {
+                    boolean throttled = calls.incrementAndGet() <= throttledCalls;
+                    SdkHttpResponse.Builder response = SdkHttpResponse.builder()
+                            .statusCode(throttled ? 429 : 200)
+                            .putHeader("Content-Type", "application/json");
+                    if (throttled) {
+                        response.putHeader("x-amzn-ErrorType", "TooManyRequestsException");
+                    }
+                    byte[] body = (throttled ? "{\"message\":\"Rate exceeded\"}" : "{\"Functions\":[]}")
+                            .getBytes(StandardCharsets.UTF_8);
+                    return HttpExecuteResponse.builder()
+                            .response(response.build())
+                            .responseBody(AbortableInputStream.create(new ByteArrayInputStream(body)))
+                            .build();
+                }
+
+                @Override
+                public void abort() {
+                }
+            };
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
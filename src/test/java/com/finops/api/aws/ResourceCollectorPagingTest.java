@@ -0,0 +1,157 @@
+package com.finops.api.aws;
+
+import com.finops.api.config.InventoryAccountProperties;
+import com.finops.api.entity.AwsResource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.services.ec2.Ec2Client;
+import software.amazon.awssdk.services.ec2.model.DescribeInstancesRequest;
+import software.amazon.awssdk.services.ec2.model.DescribeInstancesResponse;
+import software.amazon.awssdk.services.ec2.model.Instance;
+import software.amazon.awssdk.services.ec2.model.InstanceStateName;
+import software.amazon.awssdk.services.ec2.model.Reservation;
+import software.amazon.awssdk.services.ec2.model.Tag;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 여러 페이지를 돌려주는 스텁 클라이언트로 수집기가 페이지를 끝까지 따라가면서도
+ * 목록 전체를 모으지 않고 CHUNK_SIZE 이하 청크를 바로 넘기는지 확인한다.
+ */
+class ResourceCollectorPagingTest {
+
+    private static final AwsScope SCOPE = new AwsScope(new AwsAccount("123456789012", "test", null, null), "ap-northeast-2");
+
+    @Test
+    void ec2CollectorFollowsEveryPageAndEmitsBoundedChunks() {
+        int pages = 25;
+        int perPage = 120;
+        AtomicInteger requestedPages = new AtomicInteger();
+        Ec2Client client = stubEc2(pages, perPage, requestedPages);
+        AwsClientRegistry clientRegistry = mock(AwsClientRegistry.class);
+        when(clientRegistry.ec2(SCOPE)).thenReturn(client);
+
+        List<Integer> chunkSizes = new ArrayList<>();
+        List<Integer> pagesAtChunk = new ArrayList<>();
+        Set<String> ids = new HashSet<>();
+        new Ec2ClientService(clientRegistry).collect(SCOPE, chunk -> {
+            chunkSizes.add(chunk.size());
+            pagesAtChunk.add(requestedPages.get());
+            chunk.forEach(resource -> ids.add(resource.getResourceId()));
+        });
+
+        assertThat(requestedPages).hasValue(pages);
+        assertThat(ids).hasSize(pages * perPage);
+        assertChunked(chunkSizes, pages * perPage);
+        // 첫 청크는 그 청크를 채울 만큼의 페이지만 받은 시점에 넘어간다
+        assertThat(pagesAtChunk.get(0)).isLessThanOrEqualTo(ResourceCollector.CHUNK_SIZE / perPage + 1);
+    }
+
+    @Test
+    void ec2CollectorHandlesEmptyPages() {
+        AtomicInteger requestedPages = new AtomicInteger();
+        Ec2Client client = stubEc2(3, 0, requestedPages);
+        AwsClientRegistry clientRegistry = mock(AwsClientRegistry.class);
+        when(clientRegistry.ec2(SCOPE)).thenReturn(client);
+
+        List<List<AwsResource>> chunks = new ArrayList<>();
+        new Ec2ClientService(clientRegistry).collect(SCOPE, chunks::add);
+
+        assertThat(requestedPages).hasValue(3);
+        assertThat(chunks).isEmpty();
+    }
+
+    @Test
+    void mockCollectorSplitsRepeatedPagesIntoChunks() {
+        @SuppressWarnings("unchecked")
+        AwsAccountRegistry accountRegistry = new AwsAccountRegistry(
+                new InventoryAccountProperties(List.of(), null, Duration.ofHours(1), Duration.ofMinutes(5), false),
+                mock(ObjectProvider.class), SCOPE.accountId());
+        MockResourceService mockResourceService = new MockResourceService(accountRegistry);
+        ReflectionTestUtils.setField(mockResourceService, "pages", Map.of("EC2", 301));
+        ResourceCollector ec2 = mockResourceService.collectors().stream()
+                .filter(collector -> "EC2".equals(collector.resourceType()))
+                .findFirst()
+                .orElseThrow();
+
+        List<Integer> chunkSizes = new ArrayList<>();
+        Set<String> ids = new HashSet<>();
+        ec2.collect(SCOPE, chunk -> {
+            chunkSizes.add(chunk.size());
+            chunk.forEach(resource -> ids.add(resource.getResourceId()));
+        });
+
+        assertThat(ids).hasSize(5 * 301);
+        assertChunked(chunkSizes, 5 * 301);
+    }
+
+    @Test
+    void chunkerFlushesFullChunksAndRemainder() {
+        List<Integer> chunkSizes = new ArrayList<>();
+        ResourceChunker chunker = new ResourceChunker(chunk -> chunkSizes.add(chunk.size()));
+        for (int i = 0; i < ResourceCollector.CHUNK_SIZE * 2 + 1; i++) {
+            chunker.add(AwsResource.builder().resourceId("r-" + i).build());
+        }
+
+        assertThat(chunkSizes).containsExactly(ResourceCollector.CHUNK_SIZE, ResourceCollector.CHUNK_SIZE);
+        assertThat(chunker.finish()).isEqualTo(ResourceCollector.CHUNK_SIZE * 2 + 1);
+        assertThat(chunkSizes).containsExactly(ResourceCollector.CHUNK_SIZE, ResourceCollector.CHUNK_SIZE, 1);
+        assertThat(chunker.finish()).isEqualTo(ResourceCollector.CHUNK_SIZE * 2 + 1);
+        assertThat(chunkSizes).hasSize(3);
+    }
+
+    /**
+     * 마지막을 뺀 모든 청크는 정확히 CHUNK_SIZE 개이고 합계가 total 이다.
+     */
+    private static void assertChunked(List<Integer> chunkSizes, int total) {
+        assertThat(chunkSizes).hasSize((total + ResourceCollector.CHUNK_SIZE - 1) / ResourceCollector.CHUNK_SIZE);
+        assertThat(chunkSizes.subList(0, chunkSizes.size() - 1)).containsOnly(ResourceCollector.CHUNK_SIZE);
+        assertThat(chunkSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(total);
+    }
+
+    /**
+     * nextToken 을 따라 pages 개의 페이지를 돌려주는 EC2 클라이언트. 페이지마다 예약 두 개에 인스턴스를 나눠 담는다.
+     */
+    private static Ec2Client stubEc2(int pages, int perPage, AtomicInteger requestedPages) {
+        Ec2Client client = mock(Ec2Client.class);
+        when(client.describeInstancesPaginator(any(DescribeInstancesRequest.class))).thenCallRealMethod();
+        when(client.describeInstances(any(DescribeInstancesRequest.class))).thenAnswer(invocation -> {
+            DescribeInstancesRequest request = invocation.getArgument(0);
+            int page = request.nextToken() == null ? 0 : Integer.parseInt(request.nextToken());
+            requestedPages.incrementAndGet();
+            List<Instance> instances = IntStream.range(0, perPage)
+                    .mapToObj(i -> instance(page * perPage + i))
+                    .toList();
+            int half = instances.size() / 2;
+            return DescribeInstancesResponse.builder()
+                    .reservations(Reservation.builder().instances(instances.subList(0, half)).build(),
+                            Reservation.builder().instances(instances.subList(half, instances.size())).build())
+                    .nextToken(page + 1 < pages ? String.valueOf(page + 1) : null)
+                    .build();
+        });
+        return client;
+    }
+
+    private static Instance instance(int index) {
+        String id = String.format("i-%017d", index);
+        return Instance.builder()
+                .instanceId(id)
+                .instanceType("t3.micro")
+                .state(state -> state.name(InstanceStateName.RUNNING))
+                .tags(Tag.builder().key("Name").value("stub-" + index).build())
+                .build();
+    }
+}
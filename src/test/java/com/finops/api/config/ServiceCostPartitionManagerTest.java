@@ -0,0 +1,157 @@
+package com.finops.api.config;
+
+import com.finops.api.event.CostDataChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 Postgres 에서 일반 테이블 -> 파티션 테이블 전환과 보존 기간이 지난 파티션 분리를 확인한다.
+ * Docker 가 없으면 건너뛴다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ServiceCostPartitionManagerTest {
+
+    private static final int MONTHS_OF_DATA = 15;
+    private static final int RETENTION_MONTHS = 12;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private final List<CostDataChangedEvent> events = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        var dataSource = new DriverManagerDataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        events.clear();
+
+        jdbcTemplate.execute("DROP SCHEMA public CASCADE");
+        jdbcTemplate.execute("CREATE SCHEMA public");
+        // Hibernate(ddl-auto) 가 ServiceCost 엔티티로 만드는 것과 같은 테이블
+        jdbcTemplate.execute("""
+                CREATE TABLE service_costs (
+                    id bigint NOT NULL PRIMARY KEY,
+                    cost_date date NOT NULL,
+                    service_name varchar(100) NOT NULL,
+                    cost numeric(12, 4) NOT NULL,
+                    currency varchar(10),
+                    created_at timestamp(6)
+                )""");
+        jdbcTemplate.execute("CREATE INDEX idx_service_costs_date ON service_costs (cost_date)");
+        jdbcTemplate.execute("CREATE INDEX idx_service_costs_service ON service_costs (service_name)");
+        jdbcTemplate.execute("CREATE INDEX idx_service_costs_date_service_cost ON service_costs (cost_date, service_name, cost)");
+
+        // 이번 달 포함 최근 MONTHS_OF_DATA 개월, 매월 1 일과 말일에 서비스 두 개
+        long id = 1;
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i < MONTHS_OF_DATA; i++) {
+            YearMonth month = current.minusMonths(i);
+            for (LocalDate day : List.of(month.atDay(1), month.atEndOfMonth())) {
+                for (String service : List.of("Amazon EC2", "Amazon S3")) {
+                    jdbcTemplate.update("INSERT INTO service_costs (id, cost_date, service_name, cost, currency) VALUES (?, ?, ?, ?, 'USD')",
+                            id++, day, service, new BigDecimal("12.3456"));
+                }
+            }
+        }
+    }
+
+    @Test
+    void convertsToMonthlyPartitionsWithoutLosingRows() {
+        long before = count("service_costs");
+
+        manager(0, false).run(new DefaultApplicationArguments());
+
+        assertThat(relationKind("service_costs")).isEqualTo("p");
+        assertThat(count("service_costs")).isEqualTo(before);
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i < MONTHS_OF_DATA; i++) {
+            YearMonth month = current.minusMonths(i);
+            assertThat(count(partition(month))).as("%s", month).isEqualTo(4);
+        }
+        // 미래 파티션(months-ahead 3)
+        assertThat(relationKind(partition(current.plusMonths(3)))).isEqualTo("r");
+        assertThat(count("service_costs_default")).isZero();
+        assertThat(jdbcTemplate.queryForObject("""
+                SELECT count(*) FROM pg_indexes WHERE tablename = 'service_costs'
+                AND indexname IN ('idx_service_costs_date', 'idx_service_costs_service', 'idx_service_costs_date_service_cost')
+                """, Integer.class)).isEqualTo(3);
+
+        // 전환 후 INSERT 는 해당 월 파티션으로 들어간다
+        jdbcTemplate.update("INSERT INTO service_costs (id, cost_date, service_name, cost) VALUES (100000, ?, 'AWS Lambda', 1)",
+                current.atDay(15));
+        assertThat(count(partition(current))).isEqualTo(5);
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    void detachesExpiredPartitionsAndPublishesTheirRange() {
+        manager(RETENTION_MONTHS, false).run(new DefaultApplicationArguments());
+
+        YearMonth cutoff = YearMonth.now().minusMonths(RETENTION_MONTHS);
+        YearMonth oldest = YearMonth.now().minusMonths(MONTHS_OF_DATA - 1);
+        for (YearMonth month = oldest; month.isBefore(cutoff); month = month.plusMonths(1)) {
+            assertThat(relationKind(partition(month))).as("%s", month).isNull();
+            assertThat(count("service_costs_archive_p" + suffix(month))).isEqualTo(4);
+        }
+        assertThat(relationKind(partition(cutoff))).isEqualTo("r");
+        assertThat(jdbcTemplate.queryForObject("SELECT MIN(cost_date) FROM service_costs", LocalDate.class))
+                .isEqualTo(cutoff.atDay(1));
+        assertThat(events).containsExactly(new CostDataChangedEvent(oldest.atDay(1), cutoff.minusMonths(1).atEndOfMonth()));
+
+        // 다시 실행해도 분리할 파티션이 없으면 이벤트를 내지 않는다
+        events.clear();
+        manager(RETENTION_MONTHS, false).maintain();
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    void dropsExpiredPartitionsWhenConfigured() {
+        manager(RETENTION_MONTHS, true).run(new DefaultApplicationArguments());
+
+        YearMonth oldest = YearMonth.now().minusMonths(MONTHS_OF_DATA - 1);
+        assertThat(relationKind(partition(oldest))).isNull();
+        assertThat(relationKind("service_costs_archive_p" + suffix(oldest))).isNull();
+        assertThat(events).hasSize(1);
+    }
+
+    private ServiceCostPartitionManager manager(int retentionMonths, boolean dropDetached) {
+        return new ServiceCostPartitionManager(jdbcTemplate, transactionTemplate,
+                event -> events.add((CostDataChangedEvent) event), 3, retentionMonths, dropDetached);
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM " + table, Long.class);
+    }
+
+    private String relationKind(String name) {
+        var kinds = jdbcTemplate.queryForList("SELECT relkind::text FROM pg_class WHERE relname = ?", String.class, name);
+        return kinds.isEmpty() ? null : kinds.get(0);
+    }
+
+    private static String partition(YearMonth month) {
+        return "service_costs_p" + suffix(month);
+    }
+
+    private static String suffix(YearMonth month) {
+        return "%04d%02d".formatted(month.getYear(), month.getMonthValue());
+    }
+}
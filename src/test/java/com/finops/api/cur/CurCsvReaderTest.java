@@ -0,0 +1,218 @@
+package com.finops.api.cur;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 아주 작은 버퍼(1~16자)와 몇 글자씩만 돌려주는 Reader 로 읽어, 레코드/따옴표/"" 이스케이프/CRLF 가
+ * 버퍼 다시 채우기와 버퍼 확장의 모든 경계에 걸리게 한다.
+ */
+class CurCsvReaderTest {
+
+    private static final int MAX_BUFFER = 16;
+    private static final int MAX_CHUNK = 5;
+
+    @Test
+    void plainRecords() throws IOException {
+        assertRecords("a,b,c\ndd,ee,ff\n", List.of(
+                List.of("a", "b", "c"),
+                List.of("dd", "ee", "ff")));
+    }
+
+    @Test
+    void quotedFieldsWithCommasNewlinesAndEscapedQuotes() throws IOException {
+        assertRecords("\"x,\"\"y\"\"\",z\n\"multi\nline\",\"\"\"\"\n", List.of(
+                List.of("x,\"y\"", "z"),
+                List.of("multi\nline", "\"")));
+    }
+
+    @Test
+    void escapedQuoteIsFlagged() throws IOException {
+        CurCsvReader csv = new CurCsvReader(new StringReader("\"a\"\"b\",\"c\"\n"), 8);
+
+        assertThat(csv.nextRecord()).isTrue();
+        assertThat(csv.isEscaped(0)).isTrue();
+        assertThat(csv.isEscaped(1)).isFalse();
+        assertThat(csv.fieldString(0)).isEqualTo("a\"b");
+        assertThat(csv.fieldString(1)).isEqualTo("c");
+    }
+
+    @Test
+    void crlfLineEndings() throws IOException {
+        assertRecords("a,b\r\n\"q\",\"r\"\r\nc,\r\n", List.of(
+                List.of("a", "b"),
+                List.of("q", "r"),
+                List.of("c", "")));
+    }
+
+    @Test
+    void lastLineWithoutNewline() throws IOException {
+        assertRecords("a,b\nc,d", List.of(List.of("a", "b"), List.of("c", "d")));
+        assertRecords("a,b\r\n\"c\",\"d\"", List.of(List.of("a", "b"), List.of("c", "d")));
+    }
+
+    @Test
+    void emptyFieldsAndEmptyInput() throws IOException {
+        assertRecords("a,,\n,b\n", List.of(List.of("a", "", ""), List.of("", "b")));
+        assertRecords("", List.of());
+    }
+
+    @Test
+    void recordLongerThanBufferGrowsBuffer() throws IOException {
+        String longField = "x".repeat(100);
+        String quotedLong = "q\"\"".repeat(30);
+        assertRecords(longField + ",1\n\"" + quotedLong + "\"," + longField + "\nshort\n", List.of(
+                List.of(longField, "1"),
+                List.of("q\"".repeat(30), longField),
+                List.of("short")));
+    }
+
+    @Test
+    void manyFieldsGrowFieldArrays() throws IOException {
+        List<String> fields = new ArrayList<>();
+        for (int i = 0; i < 600; i++) {
+            fields.add(Integer.toString(i));
+        }
+        assertRecords(String.join(",", fields) + "\n", List.of(fields));
+    }
+
+    @Test
+    void parseNanosHandlesSignsRoundingAndExponent() throws IOException {
+        CurCsvReader csv = single("1.5,-2.25,0.0000000015,-0.0000000015,0.1234567894,0.9999999995,+3,123,1.2E-5,-4e2,\n");
+
+        assertThat(csv.parseNanos(0)).isEqualTo(1_500_000_000L);
+        assertThat(csv.parseNanos(1)).isEqualTo(-2_250_000_000L);
+        // 소수 10 번째 자리에서 HALF_UP (음수는 0 에서 먼 쪽)
+        assertThat(csv.parseNanos(2)).isEqualTo(2L);
+        assertThat(csv.parseNanos(3)).isEqualTo(-2L);
+        assertThat(csv.parseNanos(4)).isEqualTo(123_456_789L);
+        assertThat(csv.parseNanos(5)).isEqualTo(1_000_000_000L);
+        assertThat(csv.parseNanos(6)).isEqualTo(3_000_000_000L);
+        assertThat(csv.parseNanos(7)).isEqualTo(123_000_000_000L);
+        assertThat(csv.parseNanos(8)).isEqualTo(12_000L);
+        assertThat(csv.parseNanos(9)).isEqualTo(-400_000_000_000L);
+        assertThat(csv.parseNanos(10)).isZero();
+    }
+
+    @Test
+    void parseNanosMatchesBigDecimal() throws IOException {
+        Random random = new Random(1);
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            StringBuilder value = new StringBuilder();
+            if (random.nextInt(3) == 0) {
+                value.append('-');
+            }
+            value.append(random.nextInt(1_000_000));
+            int fractionDigits = random.nextInt(14);
+            if (fractionDigits > 0) {
+                value.append('.');
+                for (int d = 0; d < fractionDigits; d++) {
+                    value.append(random.nextInt(10));
+                }
+            }
+            values.add(value.toString());
+        }
+        CurCsvReader csv = single(String.join(",", values) + "\n");
+
+        for (int i = 0; i < values.size(); i++) {
+            long expected = new BigDecimal(values.get(i)).movePointRight(9).setScale(0, RoundingMode.HALF_UP).longValueExact();
+            assertThat(csv.parseNanos(i)).as(values.get(i)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void parseNanosRejectsGarbage() throws IOException {
+        CurCsvReader csv = single("12a,abc\n");
+
+        assertThatThrownBy(() -> csv.parseNanos(0)).isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> csv.parseNanos(1)).isInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    void epochDayMatchesLocalDate() {
+        for (LocalDate date = LocalDate.of(1600, 1, 1); date.isBefore(LocalDate.of(2401, 1, 1)); date = date.plusDays(1)) {
+            assertThat(CurCsvReader.epochDay(date.getYear(), date.getMonthValue(), date.getDayOfMonth()))
+                    .as("%s", date)
+                    .isEqualTo(date.toEpochDay());
+        }
+    }
+
+    @Test
+    void parseEpochDayReadsDatePrefix() throws IOException {
+        CurCsvReader csv = single("2024-02-29T00:00:00Z,1970-01-01,2024-1-01,2024-01-0x\n");
+
+        assertThat(csv.parseEpochDay(0)).isEqualTo(LocalDate.of(2024, 2, 29).toEpochDay());
+        assertThat(csv.parseEpochDay(1)).isZero();
+        assertThatThrownBy(() -> csv.parseEpochDay(2)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> csv.parseEpochDay(3)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * 버퍼 크기와 Reader 가 한 번에 돌려주는 글자 수를 모두 바꿔 가며 같은 결과가 나오는지 확인한다.
+     */
+    private static void assertRecords(String csv, List<List<String>> expected) throws IOException {
+        for (int bufferSize = 1; bufferSize <= MAX_BUFFER; bufferSize++) {
+            for (int chunk = 1; chunk <= MAX_CHUNK; chunk++) {
+                assertThat(read(csv, bufferSize, chunk))
+                        .as("buffer %d, chunk %d", bufferSize, chunk)
+                        .isEqualTo(expected);
+            }
+        }
+    }
+
+    private static List<List<String>> read(String csv, int bufferSize, int chunk) throws IOException {
+        CurCsvReader reader = new CurCsvReader(new ChunkedReader(csv, chunk), bufferSize);
+        List<List<String>> records = new ArrayList<>();
+        while (reader.nextRecord()) {
+            List<String> fields = new ArrayList<>();
+            for (int i = 0; i < reader.fieldCount(); i++) {
+                fields.add(reader.fieldString(i));
+            }
+            records.add(fields);
+        }
+        return records;
+    }
+
+    private static CurCsvReader single(String csv) throws IOException {
+        CurCsvReader reader = new CurCsvReader(new ChunkedReader(csv, 3), 8);
+        assertThat(reader.nextRecord()).isTrue();
+        return reader;
+    }
+
+    /**
+     * 요청보다 적게(최대 chunk 글자) 돌려주는 Reader. 실제 스트림처럼 짧은 읽기를 만든다.
+     */
+    private static final class ChunkedReader extends Reader {
+
+        private final StringReader delegate;
+        private final int chunk;
+
+        ChunkedReader(String value, int chunk) {
+            this.delegate = new StringReader(value);
+            this.chunk = chunk;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            return delegate.read(buffer, offset, Math.min(length, chunk));
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+}
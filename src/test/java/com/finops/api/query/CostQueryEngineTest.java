@@ -0,0 +1,237 @@
+package com.finops.api.query;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finops.api.dto.query.CostQueryRequest;
+import com.finops.api.entity.ServiceCost;
+import com.finops.api.repository.ServiceCostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 컴파일한 SQL 을 H2 에서 실행한 결과가 같은 기간의 findServiceCostSummary 합계와 같은지 단위/필터/Top-N 별로 확인한다.
+ * 조회 기간은 주/월 중간에서 시작하고 끝나게 잡아 첫/마지막 버킷이 기간으로 잘리는 경우를 포함한다.
+ */
+@DataJpaTest
+class CostQueryEngineTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2024, 1, 1);
+    private static final int DAYS = 120;
+    // 수요일 ~ 토요일
+    private static final LocalDate START = LocalDate.of(2024, 1, 10);
+    private static final LocalDate END = LocalDate.of(2024, 4, 20);
+    private static final List<String> SERVICES = List.of("Amazon EC2", "Amazon RDS", "Amazon S3", "AWS Lambda", "Amazon EKS");
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+
+    @Autowired
+    private ServiceCostRepository serviceCostRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private CostQueryEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        serviceCostRepository.saveAllAndFlush(randomCosts(new Random(1)));
+        engine = new CostQueryEngine(dataSource, transactionManager, objectMapper);
+    }
+
+    @Test
+    void dayBucketsWithoutGroupByMatchDailyTotals() throws IOException {
+        JsonNode result = run(new CostQueryRequest(START, END, null, null, null, null));
+
+        Map<LocalDate, BigDecimal> expected = new TreeMap<>();
+        for (LocalDate day = START; !day.isAfter(END); day = day.plusDays(1)) {
+            Map<String, BigDecimal> summary = summary(day, day);
+            if (!summary.isEmpty()) {
+                expected.put(day, summary.values().stream().reduce(BigDecimal.ZERO, BigDecimal::add));
+            }
+        }
+        Map<LocalDate, BigDecimal> actual = new TreeMap<>();
+        for (JsonNode row : result.get("rows")) {
+            assertThat(row.has("service")).isFalse();
+            actual.put(LocalDate.parse(row.get("period").asText()), cost(row));
+        }
+
+        assertThat(result.get("granularity").asText()).isEqualTo("DAY");
+        assertThat(result.get("groupBy")).isEmpty();
+        assertThat(result.get("rowCount").asLong()).isEqualTo(expected.size());
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void weekBucketsStartOnMondayAndAreClippedToRange() throws IOException {
+        JsonNode result = run(new CostQueryRequest(START, END, "week", List.of("service"), null, null));
+
+        Map<LocalDate, Map<String, BigDecimal>> expected = expectedBuckets(START.with(DayOfWeek.MONDAY),
+                week -> week.plusWeeks(1), Set.copyOf(SERVICES));
+
+        assertThat(result.get("granularity").asText()).isEqualTo("WEEK");
+        assertThat(byPeriod(result)).isEqualTo(expected);
+        assertThat(byPeriod(result).keySet()).first().isEqualTo(LocalDate.of(2024, 1, 8));
+        assertThat(byPeriod(result).keySet()).allSatisfy(period -> assertThat(period.getDayOfWeek()).isEqualTo(DayOfWeek.MONDAY));
+    }
+
+    @Test
+    void monthBucketsStartOnFirstDayAndAreClippedToRange() throws IOException {
+        JsonNode result = run(new CostQueryRequest(START, END, "MONTH", List.of("SERVICE"), null, null));
+
+        Map<LocalDate, Map<String, BigDecimal>> expected = expectedBuckets(START.withDayOfMonth(1),
+                month -> month.plusMonths(1), Set.copyOf(SERVICES));
+
+        assertThat(byPeriod(result)).isEqualTo(expected);
+        assertThat(byPeriod(result).keySet()).containsExactly(
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 1), LocalDate.of(2024, 3, 1), LocalDate.of(2024, 4, 1));
+    }
+
+    @Test
+    void filtersRestrictGroups() throws IOException {
+        List<CostQueryRequest.Filter> filters = List.of(
+                new CostQueryRequest.Filter("service", null, List.of("Amazon EC2", "Amazon S3", "AWS Lambda")),
+                new CostQueryRequest.Filter("service", "not_in", List.of("Amazon S3")));
+        JsonNode result = run(new CostQueryRequest(START, END, "MONTH", List.of("service"), filters, null));
+
+        assertThat(byPeriod(result)).isEqualTo(expectedBuckets(START.withDayOfMonth(1), month -> month.plusMonths(1),
+                Set.of("Amazon EC2", "AWS Lambda")));
+    }
+
+    @Test
+    void topNKeepsLargestGroupsOverWholeRange() throws IOException {
+        // 필터는 Top-N 선정에도 적용되어야 한다: 가장 큰 서비스를 빼면 그 다음 두 개가 남는다
+        List<String> ranked = summary(START, END).entrySet().stream()
+                .sorted(Map.Entry.<String, BigDecimal>comparingByValue().reversed().thenComparing(Map.Entry::getKey))
+                .map(Map.Entry::getKey)
+                .toList();
+        List<CostQueryRequest.Filter> filters = List.of(
+                new CostQueryRequest.Filter("service", "NOT_IN", List.of(ranked.get(0))));
+
+        CostQueryRequest request = new CostQueryRequest(START, END, "MONTH", List.of("service"), filters, 2);
+        assertThat(engine.compile(request).sql()).startsWith("WITH top_groups AS (");
+        JsonNode result = run(request);
+
+        assertThat(byPeriod(result)).isEqualTo(expectedBuckets(START.withDayOfMonth(1), month -> month.plusMonths(1),
+                Set.of(ranked.get(1), ranked.get(2))));
+
+        // 그룹 수보다 큰 topN 은 전체와 같다
+        JsonNode all = run(new CostQueryRequest(START, END, "WEEK", List.of("service"), null, 1000));
+        assertThat(byPeriod(all)).isEqualTo(expectedBuckets(START.with(DayOfWeek.MONDAY), week -> week.plusWeeks(1),
+                Set.copyOf(SERVICES)));
+    }
+
+    @Test
+    void invalidRequestsAreRejectedBeforeExecution() {
+        // GlobalExceptionHandler 가 IllegalArgumentException 을 400 으로 응답한다
+        for (CostQueryRequest request : List.of(
+                new CostQueryRequest(START, END, null, Arrays.asList((String) null), null, null),
+                new CostQueryRequest(START, END, null, List.of(" "), null, null),
+                new CostQueryRequest(START, END, null, List.of("service", ""), null, null),
+                new CostQueryRequest(START, END, null, List.of("region"), null, null),
+                new CostQueryRequest(START, END, null, null, null, 5),
+                new CostQueryRequest(START, END, null, List.of(), null, 5),
+                new CostQueryRequest(END, START, null, null, null, null),
+                new CostQueryRequest(START, END, "year", null, null, null),
+                new CostQueryRequest(START, END, null, null,
+                        List.of(new CostQueryRequest.Filter("service", "LIKE", List.of("Amazon%"))), null))) {
+            assertThatThrownBy(() -> engine.compile(request))
+                    .as("%s", request)
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private JsonNode run(CostQueryRequest request) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        engine.stream(engine.compile(request), out);
+        return objectMapper.readTree(out.toByteArray());
+    }
+
+    /**
+     * 버킷마다 [버킷 시작, 다음 버킷 전날] 을 조회 기간으로 자른 구간의 서비스별 합계.
+     */
+    private Map<LocalDate, Map<String, BigDecimal>> expectedBuckets(LocalDate firstBucket, UnaryOperator<LocalDate> next,
+                                                                    Set<String> services) {
+        Map<LocalDate, Map<String, BigDecimal>> expected = new TreeMap<>();
+        for (LocalDate bucket = firstBucket; !bucket.isAfter(END); bucket = next.apply(bucket)) {
+            LocalDate from = bucket.isBefore(START) ? START : bucket;
+            LocalDate to = next.apply(bucket).minusDays(1).isAfter(END) ? END : next.apply(bucket).minusDays(1);
+            Map<String, BigDecimal> summary = new HashMap<>(summary(from, to));
+            summary.keySet().retainAll(services);
+            if (!summary.isEmpty()) {
+                expected.put(bucket, summary);
+            }
+        }
+        return expected;
+    }
+
+    private Map<String, BigDecimal> summary(LocalDate from, LocalDate to) {
+        Map<String, BigDecimal> totals = new HashMap<>();
+        for (Object[] row : serviceCostRepository.findServiceCostSummary(from, to)) {
+            totals.put((String) row[0], ((BigDecimal) row[1]).setScale(4));
+        }
+        return totals;
+    }
+
+    private static Map<LocalDate, Map<String, BigDecimal>> byPeriod(JsonNode result) {
+        Map<LocalDate, Map<String, BigDecimal>> periods = new TreeMap<>();
+        List<String> order = new ArrayList<>();
+        for (JsonNode row : result.get("rows")) {
+            LocalDate period = LocalDate.parse(row.get("period").asText());
+            String service = row.get("service").asText();
+            periods.computeIfAbsent(period, key -> new HashMap<>()).put(service, cost(row));
+            order.add(period + " " + service);
+        }
+        // 행은 (기간, 서비스) 순으로 온다
+        assertThat(order).isSortedAccordingTo(Comparator.naturalOrder());
+        assertThat(result.get("rowCount").asLong()).isEqualTo(order.size());
+        return periods;
+    }
+
+    private static BigDecimal cost(JsonNode row) {
+        return row.get("cost").decimalValue().setScale(4);
+    }
+
+    private static List<ServiceCost> randomCosts(Random random) {
+        List<ServiceCost> costs = new ArrayList<>();
+        for (int day = 0; day < DAYS; day++) {
+            for (String service : SERVICES) {
+                if (random.nextInt(5) == 0) {
+                    continue;
+                }
+                costs.add(ServiceCost.builder()
+                        .costDate(FIRST_DAY.plusDays(day))
+                        .serviceName(service)
+                        .cost(BigDecimal.valueOf(random.nextInt(100_000_000), 4))
+                        .build());
+            }
+        }
+        return costs;
+    }
+}
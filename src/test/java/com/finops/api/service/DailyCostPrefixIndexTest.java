@@ -0,0 +1,100 @@
+package com.finops.api.service;
+
+import com.finops.api.entity.DailyCost;
+import com.finops.api.event.CostDataChangedEvent;
+import com.finops.api.repository.DailyCostRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인덱스의 기간 합계가 같은 기간의 SQL SUM 과 같은지 무작위 데이터와 무작위 기간으로 확인한다.
+ */
+@DataJpaTest
+@Import(DailyCostPrefixIndex.class)
+class DailyCostPrefixIndexTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2023, 1, 1);
+    private static final int DAYS = 400;
+
+    @Autowired
+    private DailyCostRepository dailyCostRepository;
+
+    @Autowired
+    private DailyCostPrefixIndex index;
+
+    @Test
+    void rangeSumMatchesRepositorySum() {
+        Random random = new Random(1);
+        dailyCostRepository.saveAllAndFlush(randomCosts(random, FIRST_DAY, DAYS));
+        index.rebuild();
+
+        assertRandomRangesMatch(random, 2_000);
+    }
+
+    @Test
+    void patchedRangeSumMatchesRepositorySum() {
+        Random random = new Random(2);
+        dailyCostRepository.saveAllAndFlush(randomCosts(random, FIRST_DAY, DAYS));
+        index.rebuild();
+
+        // 기존 범위 안, 앞, 뒤에 행을 더하고 이벤트로 반영한다
+        for (LocalDate start : List.of(FIRST_DAY.plusDays(100), FIRST_DAY.minusDays(30), FIRST_DAY.plusDays(DAYS + 10))) {
+            dailyCostRepository.saveAllAndFlush(randomCosts(random, start, 20));
+            index.onCostDataChanged(new CostDataChangedEvent(start, start.plusDays(19)));
+        }
+
+        assertRandomRangesMatch(random, 2_000);
+    }
+
+    @Test
+    void eventBeforeLoadIsCoveredByLoad() {
+        Random random = new Random(3);
+        dailyCostRepository.saveAllAndFlush(randomCosts(random, FIRST_DAY, 30));
+        index.onCostDataChanged(new CostDataChangedEvent(FIRST_DAY, FIRST_DAY.plusDays(29)));
+        assertThat(index.isLoaded()).isFalse();
+
+        index.rebuild();
+
+        assertRandomRangesMatch(random, 200);
+    }
+
+    private void assertRandomRangesMatch(Random random, int ranges) {
+        for (int i = 0; i < ranges; i++) {
+            // 데이터 범위 밖까지 걸치는 기간도 섞는다
+            LocalDate start = FIRST_DAY.plusDays(random.nextInt(DAYS + 120) - 60);
+            LocalDate end = start.plusDays(random.nextInt(120));
+            BigDecimal expected = dailyCostRepository.sumTotalCostBetween(start, end).orElse(BigDecimal.ZERO);
+
+            BigDecimal actual = index.sumBetween(start, end).orElseThrow();
+
+            assertThat(actual).as("%s ~ %s", start, end).isEqualByComparingTo(expected);
+        }
+    }
+
+    /**
+     * 하루 0~3 개 행, 값은 scale 4. 행이 없는 날과 한 날짜에 여러 행인 경우를 모두 만든다.
+     */
+    private static List<DailyCost> randomCosts(Random random, LocalDate start, int days) {
+        List<DailyCost> costs = new ArrayList<>();
+        for (int day = 0; day < days; day++) {
+            int rows = random.nextInt(4);
+            for (int row = 0; row < rows; row++) {
+                costs.add(DailyCost.builder()
+                        .costDate(start.plusDays(day))
+                        .totalCost(BigDecimal.valueOf(random.nextInt(100_000_000), 4))
+                        .build());
+            }
+        }
+        return costs;
+    }
+}
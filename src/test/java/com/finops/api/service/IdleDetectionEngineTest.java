@@ -0,0 +1,138 @@
+package com.finops.api.service;
+
+import com.finops.api.aws.AwsAccountRegistry;
+import com.finops.api.aws.StubMetricsSource;
+import com.finops.api.config.InventoryAccountProperties;
+import com.finops.api.entity.AwsResource;
+import com.finops.api.entity.ResourceUtilization;
+import com.finops.api.repository.AwsResourceRepository;
+import com.finops.api.repository.ResourceUtilizationRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * StubMetricsSource 의 결정적인 지표로 유휴 판정과 유휴 점수 순위를 확인한다.
+ * 스텁은 resourceId 해시로 정한 난수의 첫 값이 20 미만이면 유휴 지표를 만든다.
+ */
+@DataJpaTest
+class IdleDetectionEngineTest {
+
+    private static final String ACCOUNT = "123456789012";
+    private static final String REGION = "ap-northeast-2";
+
+    @Autowired
+    private AwsResourceRepository resourceRepository;
+
+    @Autowired
+    private ResourceUtilizationRepository utilizationRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void ranksStoppedAndLowUtilizationResourcesByIdleScore() {
+        List<AwsResource> resources = new ArrayList<>();
+        for (String type : List.of("EC2", "RDS", "LAMBDA")) {
+            for (int i = 0; i < 60; i++) {
+                resources.add(resource(type, type.toLowerCase() + "-" + i, "running"));
+            }
+        }
+        resources.add(resource("EC2", "ec2-stopped", "stopped"));
+        resources.add(resource("RDS", "rds-stopped", "stopped"));
+        resourceRepository.saveAllAndFlush(resources);
+
+        assertThat(engine().evaluateAsync()).isTrue();
+
+        Map<String, Long> ids = resourceRepository.findAll().stream()
+                .collect(Collectors.toMap(AwsResource::getResourceId, AwsResource::getId));
+        Set<Long> expectedIdle = resources.stream()
+                .filter(resource -> "stopped".equals(resource.getState()) || stubIdle(resource.getResourceId()))
+                .map(resource -> ids.get(resource.getResourceId()))
+                .collect(Collectors.toSet());
+        assertThat(utilizationRepository.count()).isEqualTo(resources.size());
+        assertThat(expectedIdle).isNotEmpty().hasSizeLessThan(resources.size());
+
+        List<ResourceUtilization> ranked = utilizationRepository.findRankedIdle(PageRequest.of(0, 1_000)).stream()
+                .map(row -> (ResourceUtilization) row[0])
+                .toList();
+
+        assertThat(ranked).extracting(ResourceUtilization::getResourceId)
+                .containsExactlyInAnyOrderElementsOf(expectedIdle);
+        assertThat(ranked).extracting(ResourceUtilization::getIdleScore)
+                .isSortedAccordingTo(Comparator.reverseOrder());
+        assertThat(ranked).allSatisfy(utilization -> assertThat(utilization.getIdleScore()).isBetween(0.0, 100.0));
+
+        // 중지 상태는 지표가 없어도 점수 100 으로 맨 앞에 온다
+        List<ResourceUtilization> stopped = ranked.stream()
+                .filter(utilization -> utilization.getReason().startsWith("state:"))
+                .toList();
+        assertThat(stopped).hasSize(2)
+                .allSatisfy(utilization -> assertThat(utilization.getIdleScore()).isEqualTo(100.0));
+        assertThat(ranked.get(0).getIdleScore()).isEqualTo(100.0);
+
+        // 사용 중인 리소스는 유휴가 아니다
+        assertThat(utilizationRepository.findAll()).filteredOn(utilization -> !expectedIdle.contains(utilization.getResourceId()))
+                .allSatisfy(utilization -> {
+                    assertThat(utilization.isIdle()).isFalse();
+                    assertThat(utilization.getIdleScore()).isZero();
+                });
+    }
+
+    @Test
+    void secondEvaluationUpdatesExistingSummaries() {
+        resourceRepository.saveAllAndFlush(List.of(resource("EC2", "ec2-0", "running"), resource("LAMBDA", "lambda-0", "running")));
+        IdleDetectionEngine engine = engine();
+
+        engine.evaluateAsync();
+        engine.evaluateAsync();
+
+        assertThat(utilizationRepository.count()).isEqualTo(2);
+    }
+
+    private IdleDetectionEngine engine() {
+        @SuppressWarnings("unchecked")
+        AwsAccountRegistry accountRegistry = new AwsAccountRegistry(
+                new InventoryAccountProperties(List.of(), null, Duration.ofHours(1), Duration.ofMinutes(5), false),
+                mock(ObjectProvider.class), ACCOUNT);
+        return new IdleDetectionEngine(resourceRepository, utilizationRepository, new StubMetricsSource(),
+                accountRegistry, entityManager, transactionManager, new SyncTaskExecutor(), List.of(REGION),
+                Duration.ofDays(14), Duration.ofHours(1), 5, 5, 1, 1);
+    }
+
+    private static AwsResource resource(String type, String resourceId, String state) {
+        return AwsResource.builder()
+                .resourceId(resourceId)
+                .resourceType(type)
+                .resourceName(resourceId)
+                .accountId(ACCOUNT)
+                .region(REGION)
+                .state(state)
+                .build();
+    }
+
+    // StubMetricsSource 의 유휴 판정과 같은 규칙
+    private static boolean stubIdle(String resourceId) {
+        return new SplittableRandom(resourceId.hashCode()).nextInt(100) < 20;
+    }
+}
@@ -0,0 +1,78 @@
+package com.finops.api.service;
+
+import com.finops.api.event.ResourceChangeSet;
+import com.finops.api.event.ResourceChangeSet.Change;
+import com.finops.api.event.ResourceChangeSet.Snapshot;
+import com.finops.api.event.ResourceSyncEvent;
+import com.finops.api.repository.AwsResourceRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 동기화 중 청크가 먼저 커밋되고 변경분은 나중에 오는 순서에서, 재구성이 같은 리소스를 두 번 세지 않는지 확인한다.
+ */
+class InventoryStatisticsTest {
+
+    private final AwsResourceRepository resourceRepository = mock(AwsResourceRepository.class);
+    private final InventoryStatistics statistics = new InventoryStatistics(resourceRepository);
+
+    @Test
+    void rebuildDuringSyncIsDeferredUntilSyncFinishes() {
+        counts(row("EC2", "running", 10));
+        statistics.rebuild();
+
+        statistics.onSyncEvent(ResourceSyncEvent.started());
+        // 청크 하나가 커밋되어 DB 에는 이미 11 개지만 변경분은 범위가 끝나야 온다
+        counts(row("EC2", "running", 11));
+
+        statistics.reconcile();
+        assertThat(statistics.summary().totalResources()).isEqualTo(10);
+
+        statistics.onChangeSet(added("i-new"));
+        assertThat(statistics.summary().totalResources()).isEqualTo(11);
+
+        statistics.onSyncEvent(ResourceSyncEvent.finished());
+        assertThat(statistics.summary().totalResources()).isEqualTo(11);
+        verify(resourceRepository, times(2)).countByTypeRegionAccountState();
+    }
+
+    @Test
+    void deferredRebuildWaitsForLastOverlappingSync() {
+        counts(row("EC2", "running", 1));
+        statistics.onSyncEvent(ResourceSyncEvent.started());
+        statistics.onSyncEvent(ResourceSyncEvent.started());
+
+        assertThat(statistics.rebuild()).isFalse();
+        statistics.onSyncEvent(ResourceSyncEvent.finished());
+        verify(resourceRepository, times(0)).countByTypeRegionAccountState();
+
+        statistics.onSyncEvent(ResourceSyncEvent.finished());
+        verify(resourceRepository, times(1)).countByTypeRegionAccountState();
+        assertThat(statistics.summary().totalResources()).isEqualTo(1);
+        assertThat(statistics.rebuild()).isTrue();
+    }
+
+    private void counts(Object[]... rows) {
+        List<Object[]> result = new ArrayList<>(List.of(rows));
+        when(resourceRepository.countByTypeRegionAccountState()).thenReturn(result);
+    }
+
+    private static Object[] row(String type, String state, long count) {
+        return new Object[]{type, "ap-northeast-2", "123456789012", state, count};
+    }
+
+    private static ResourceChangeSet added(String resourceId) {
+        Snapshot snapshot = new Snapshot(resourceId, "EC2", "123456789012", "ap-northeast-2", "running", null, Map.of());
+        return new ResourceChangeSet("EC2", "123456789012", "ap-northeast-2", List.of(Change.added(snapshot)), List.of(),
+                List.of());
+    }
+}
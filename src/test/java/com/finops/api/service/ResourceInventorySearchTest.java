@@ -0,0 +1,260 @@
+package com.finops.api.service;
+
+import com.finops.api.dto.resource.AwsResourceDto;
+import com.finops.api.dto.resource.ResourceSearchResultDto;
+import com.finops.api.entity.AwsResource;
+import com.finops.api.entity.ResourceTag;
+import com.finops.api.exception.GlobalExceptionHandler;
+import com.finops.api.repository.AwsResourceRepository;
+import com.finops.api.repository.ResourceTagRepository;
+import com.finops.api.repository.ResourceUtilizationRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * (resource_type, id) 키셋 검색을 작은 페이지로 끝까지 넘기며 순서, 중복/누락, 타입 경계, 조건 조합과 잘못된 cursor 를 확인한다.
+ */
+@DataJpaTest
+class ResourceInventorySearchTest {
+
+    private static final String ACCOUNT = "123456789012";
+    private static final Comparator<AwsResource> KEYSET_ORDER =
+            Comparator.comparing(AwsResource::getResourceType).thenComparing(AwsResource::getId);
+
+    @Autowired
+    private AwsResourceRepository resourceRepository;
+
+    @Autowired
+    private ResourceUtilizationRepository utilizationRepository;
+
+    @Autowired
+    private ResourceTagRepository tagRepository;
+
+    @Test
+    void walksAllTypesInKeysetOrderWithoutDuplicatesOrGaps() {
+        // 타입을 번갈아 넣어 id 순서와 (타입, id) 순서가 다르게 한다
+        List<AwsResource> saved = new ArrayList<>();
+        Map<String, Integer> counts = Map.of("EC2", 4, "LAMBDA", 5, "RDS", 3, "S3", 4);
+        for (int i = 0; i < 5; i++) {
+            for (String type : List.of("S3", "RDS", "LAMBDA", "EC2")) {
+                if (i < counts.get(type)) {
+                    saved.add(resource(type, type.toLowerCase() + "-" + i, "ap-northeast-2", "running"));
+                }
+            }
+        }
+        resourceRepository.saveAllAndFlush(saved);
+
+        List<ResourceSearchResultDto> pages = walk(service(), 3);
+        List<AwsResourceDto> items = pages.stream().flatMap(page -> page.items().stream()).toList();
+
+        assertThat(items).extracting(AwsResourceDto::id)
+                .containsExactlyElementsOf(saved.stream().sorted(KEYSET_ORDER).map(AwsResource::getId).toList());
+        assertThat(pages).hasSize(6);
+        assertThat(pages.subList(0, 5)).allSatisfy(page -> {
+            assertThat(page.items()).hasSize(3);
+            assertThat(page.hasMore()).isTrue();
+            assertThat(page.nextCursor()).isNotNull();
+        });
+        assertThat(pages.get(5).items()).hasSize(1);
+        assertThat(pages.get(5).hasMore()).isFalse();
+        assertThat(pages.get(5).nextCursor()).isNull();
+        // EC2 4 개 뒤 두 번째 페이지는 EC2 1 개와 LAMBDA 2 개로 타입 경계를 넘는다
+        assertThat(pages.get(1).items()).extracting(AwsResourceDto::resourceType)
+                .containsExactly("EC2", "LAMBDA", "LAMBDA");
+        assertThat(pages).allSatisfy(page -> assertThat(page.total()).isNull());
+    }
+
+    @Test
+    void lastFullPageHasNoNextCursor() {
+        resourceRepository.saveAllAndFlush(List.of(
+                resource("EC2", "ec2-0", "ap-northeast-2", "running"),
+                resource("EC2", "ec2-1", "ap-northeast-2", "running"),
+                resource("RDS", "rds-0", "ap-northeast-2", "running"),
+                resource("RDS", "rds-1", "ap-northeast-2", "running")));
+
+        ResourceInventoryService service = service();
+        ResourceSearchResultDto first = service.search(null, null, null, null, null, null, null, 2, false);
+        ResourceSearchResultDto second = service.search(null, null, null, null, null, null, first.nextCursor(), 2, false);
+
+        assertThat(first.items()).extracting(AwsResourceDto::resourceType).containsExactly("EC2", "EC2");
+        assertThat(first.hasMore()).isTrue();
+        assertThat(second.items()).extracting(AwsResourceDto::resourceType).containsExactly("RDS", "RDS");
+        assertThat(second.hasMore()).isFalse();
+        assertThat(second.nextCursor()).isNull();
+    }
+
+    @Test
+    void rowsInsertedMidWalkAreNotDuplicatedAndExistingRowsAreNotSkipped() {
+        List<AwsResource> existing = new ArrayList<>();
+        for (String type : List.of("EC2", "LAMBDA", "RDS")) {
+            for (int i = 0; i < 4; i++) {
+                existing.add(resource(type, type.toLowerCase() + "-" + i, "ap-northeast-2", "running"));
+            }
+        }
+        resourceRepository.saveAllAndFlush(existing);
+
+        ResourceInventoryService service = service();
+        List<Long> seen = new ArrayList<>();
+        ResourceSearchResultDto page = service.search(null, null, null, null, null, null, null, 3, false);
+        seen.addAll(ids(page));
+        page = service.search(null, null, null, null, null, null, page.nextCursor(), 3, false);
+        seen.addAll(ids(page));
+
+        // cursor 는 LAMBDA 두 번째 행. 이미 지나간 EC2 와 cursor 뒤에 오는 LAMBDA/RDS/S3 에 새 행을 넣는다
+        AwsResource behind = resource("EC2", "ec2-new", "ap-northeast-2", "running");
+        AwsResource sameType = resource("LAMBDA", "lambda-new", "ap-northeast-2", "running");
+        AwsResource laterType = resource("RDS", "rds-new", "ap-northeast-2", "running");
+        AwsResource newType = resource("S3", "s3-new", "ap-northeast-2", "running");
+        resourceRepository.saveAllAndFlush(List.of(behind, sameType, laterType, newType));
+
+        while (page.hasMore()) {
+            page = service.search(null, null, null, null, null, null, page.nextCursor(), 3, false);
+            seen.addAll(ids(page));
+        }
+
+        assertThat(seen).doesNotHaveDuplicates();
+        assertThat(seen).containsAll(existing.stream().map(AwsResource::getId).toList());
+        // 새 행은 id 가 가장 크므로 cursor 뒤에 있는 것만 보인다
+        assertThat(seen).contains(sameType.getId(), laterType.getId(), newType.getId());
+        assertThat(seen).doesNotContain(behind.getId());
+        assertThat(seen).hasSize(existing.size() + 3);
+    }
+
+    @Test
+    void combinedFiltersWithTotal() {
+        List<AwsResource> saved = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            String type = i % 2 == 0 ? "EC2" : "RDS";
+            String region = i % 3 == 0 ? "us-east-1" : "ap-northeast-2";
+            String state = i % 5 == 0 ? "stopped" : "running";
+            String name = (i % 4 == 0 ? "batch-" : "api-") + i;
+            AwsResource resource = resource(type, "res-" + i, region, state);
+            resource.setResourceName(name);
+            resource.setTags(Map.of("Team", i % 7 == 0 ? "data" : "payments"));
+            saved.add(resource);
+        }
+        // '_' 와 '%' 는 LIKE 와일드카드가 아니라 글자로 비교되어야 한다
+        AwsResource wildcard = resource("EC2", "res-wildcard", "ap-northeast-2", "running");
+        wildcard.setResourceName("api_%x");
+        wildcard.setTags(Map.of("Team", "payments"));
+        saved.add(wildcard);
+        resourceRepository.saveAllAndFlush(saved);
+        for (AwsResource resource : saved) {
+            resource.getTags().forEach((key, value) ->
+                    tagRepository.save(new ResourceTag(new ResourceTag.Key(resource.getId(), key), value, null)));
+        }
+        tagRepository.flush();
+
+        List<Long> expected = saved.stream()
+                .filter(r -> r.getResourceType().equals("EC2"))
+                .filter(r -> r.getRegion().equals("ap-northeast-2"))
+                .filter(r -> r.getState().equals("running"))
+                .filter(r -> r.getResourceName().startsWith("api-"))
+                .filter(r -> r.getTags().get("Team").equals("payments"))
+                .sorted(KEYSET_ORDER)
+                .map(AwsResource::getId)
+                .toList();
+        assertThat(expected).hasSizeGreaterThan(4);
+
+        ResourceInventoryService service = service();
+        List<ResourceSearchResultDto> pages = new ArrayList<>();
+        String cursor = null;
+        do {
+            // 소문자 타입과 앞뒤 공백도 받아들인다
+            ResourceSearchResultDto page = service.search(" ec2 ", "ap-northeast-2", "running", null, "api-",
+                    "Team: payments", cursor, 2, true);
+            pages.add(page);
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertThat(pages.stream().flatMap(page -> page.items().stream()).map(AwsResourceDto::id).toList())
+                .containsExactlyElementsOf(expected);
+        assertThat(pages).allSatisfy(page -> assertThat(page.total()).isEqualTo((long) expected.size()));
+        assertThat(pages.get(pages.size() - 1).hasMore()).isFalse();
+
+        ResourceSearchResultDto literal = service.search("EC2", null, null, null, "api_%", null, null, 10, true);
+        assertThat(literal.items()).extracting(AwsResourceDto::resourceId).containsExactly("res-wildcard");
+        assertThat(literal.total()).isEqualTo(1L);
+
+        ResourceSearchResultDto none = service.search("EC2", null, null, null, null, "Team:nobody", null, 10, true);
+        assertThat(none.items()).isEmpty();
+        assertThat(none.hasMore()).isFalse();
+        assertThat(none.total()).isZero();
+    }
+
+    @Test
+    void malformedCursorIsBadRequest() {
+        resourceRepository.saveAndFlush(resource("EC2", "ec2-0", "ap-northeast-2", "running"));
+        ResourceInventoryService service = service();
+        GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+        for (String cursor : List.of("!!!", encode("EC2"), encode("EC2\nabc"), encode("EC2\n"), "EC2\n1")) {
+            assertThatThrownBy(() -> service.search(null, null, null, null, null, null, cursor, 10, false))
+                    .as(cursor)
+                    .isInstanceOfSatisfying(IllegalArgumentException.class, e ->
+                            assertThat(handler.handleIllegalArgument(e).getStatus()).isEqualTo(400));
+        }
+        // 올바른 형식의 cursor 는 통과한다
+        assertThat(service.search(null, null, null, null, null, null, encode("EC2\n0"), 10, false).items()).hasSize(1);
+    }
+
+    @Test
+    void invalidSizeAndTagAreBadRequest() {
+        ResourceInventoryService service = service();
+
+        assertThatThrownBy(() -> service.search(null, null, null, null, null, null, null, 0, false))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.search(null, null, null, null, null, null, null, 501, false))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.search(null, null, null, null, null, "Team", null, 10, false))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ResourceInventoryService service() {
+        return new ResourceInventoryService(resourceRepository, utilizationRepository, mock(InventoryStatistics.class));
+    }
+
+    private static List<ResourceSearchResultDto> walk(ResourceInventoryService service, int size) {
+        List<ResourceSearchResultDto> pages = new ArrayList<>();
+        String cursor = null;
+        do {
+            ResourceSearchResultDto page = service.search(null, null, null, null, null, null, cursor, size, false);
+            pages.add(page);
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return pages;
+    }
+
+    private static List<Long> ids(ResourceSearchResultDto page) {
+        return page.items().stream().map(AwsResourceDto::id).toList();
+    }
+
+    private static String encode(String position) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static AwsResource resource(String type, String resourceId, String region, String state) {
+        return AwsResource.builder()
+                .resourceId(resourceId)
+                .resourceType(type)
+                .resourceName(resourceId)
+                .accountId(ACCOUNT)
+                .region(region)
+                .state(state)
+                .tags(new HashMap<>())
+                .build();
+    }
+}
@@ -0,0 +1,230 @@
+package com.finops.api.service;
+
+import com.finops.api.dto.resource.ResourceSyncResultDto;
+import com.finops.api.dto.resource.ResourceSyncResultDto.CollectorResult;
+import com.finops.api.dto.resource.SyncJobDto;
+import com.finops.api.entity.SyncJob;
+import com.finops.api.repository.SyncJobRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 범위별로 시작을 알리고 풀어 줄 때까지 멈춰 있는 스텁 오케스트레이터로 작업 중복 제거, ALL/타입 작업의 순서,
+ * 실패 뒤 범위 해제와 재시작 시 INTERRUPTED 표시를 확인한다. 저장소는 메모리 맵으로 대신한다.
+ */
+class ResourceSyncJobServiceTest {
+
+    private static final Set<String> TYPES = Set.of("EC2", "RDS", "S3", "LAMBDA");
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private final Map<Long, SyncJob> jobs = new ConcurrentHashMap<>();
+    private final Map<String, Gate> gates = new ConcurrentHashMap<>();
+    private final ResourceSyncOrchestrator orchestrator = mock(ResourceSyncOrchestrator.class);
+    private final SyncJobRepository jobRepository = mock(SyncJobRepository.class);
+    private ResourceSyncJobService service;
+
+    @BeforeEach
+    void setUp() {
+        AtomicLong ids = new AtomicLong();
+        when(jobRepository.save(any(SyncJob.class))).thenAnswer(invocation -> {
+            SyncJob job = invocation.getArgument(0);
+            if (job.getId() == null) {
+                job.setId(ids.incrementAndGet());
+            }
+            jobs.put(job.getId(), job);
+            return job;
+        });
+        when(jobRepository.findById(anyLong())).thenAnswer(invocation -> Optional.ofNullable(jobs.get(invocation.<Long>getArgument(0))));
+        when(jobRepository.findByStatusIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> statuses = invocation.getArgument(0);
+            return jobs.values().stream().filter(job -> statuses.contains(job.getStatus())).toList();
+        });
+
+        when(orchestrator.supportsType(anyString())).thenAnswer(invocation -> TYPES.contains(invocation.<String>getArgument(0)));
+        when(orchestrator.syncAll(any())).thenAnswer(invocation -> gate(ResourceSyncJobService.SCOPE_ALL).pass());
+        when(orchestrator.syncType(anyString(), any())).thenAnswer(invocation -> gate(invocation.getArgument(0)).pass());
+
+        service = new ResourceSyncJobService(jobRepository, orchestrator, new SimpleAsyncTaskExecutor("sync-job-test-"),
+                Duration.ofSeconds(2));
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 멈춰 있는 작업 스레드를 모두 풀어 준다
+        gates.values().forEach(gate -> gate.release.countDown());
+    }
+
+    @Test
+    void sameScopeSubmittedTwiceReturnsActiveJob() throws InterruptedException {
+        SyncJobDto first = service.submit("ec2");
+        gate("EC2").awaitStarted();
+
+        SyncJobDto second = service.submit(" EC2 ");
+
+        assertThat(first.deduplicated()).isFalse();
+        assertThat(second.id()).isEqualTo(first.id());
+        assertThat(second.deduplicated()).isTrue();
+
+        gate("EC2").release.countDown();
+        awaitStatus(first.id(), "SUCCEEDED");
+        verify(orchestrator, times(1)).syncType(anyString(), any());
+
+        // 끝난 뒤에는 새 작업을 만든다
+        gates.remove("EC2");
+        gate("EC2").release.countDown();
+        SyncJobDto third = service.submit("EC2");
+        assertThat(third.id()).isNotEqualTo(first.id());
+        assertThat(third.deduplicated()).isFalse();
+        awaitStatus(third.id(), "SUCCEEDED");
+    }
+
+    @Test
+    void typeSubmittedWhileAllIsActiveReturnsAllJob() throws InterruptedException {
+        SyncJobDto all = service.submit(null);
+        assertThat(all.scope()).isEqualTo(ResourceSyncJobService.SCOPE_ALL);
+        gate(ResourceSyncJobService.SCOPE_ALL).awaitStarted();
+
+        SyncJobDto rds = service.submit("RDS");
+
+        assertThat(rds.id()).isEqualTo(all.id());
+        assertThat(rds.scope()).isEqualTo(ResourceSyncJobService.SCOPE_ALL);
+        assertThat(rds.deduplicated()).isTrue();
+        verify(orchestrator, never()).syncType(anyString(), any());
+
+        gate(ResourceSyncJobService.SCOPE_ALL).release.countDown();
+        awaitStatus(all.id(), "SUCCEEDED");
+    }
+
+    @Test
+    void allWaitsQueuedUntilRunningTypeJobsFinish() throws InterruptedException {
+        SyncJobDto ec2 = service.submit("EC2");
+        SyncJobDto rds = service.submit("RDS");
+        gate("EC2").awaitStarted();
+        gate("RDS").awaitStarted();
+
+        SyncJobDto all = service.submit("ALL");
+        Gate allGate = gate(ResourceSyncJobService.SCOPE_ALL);
+
+        assertThat(all.status()).isEqualTo("QUEUED");
+        assertThat(allGate.started.await(200, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(jobs.get(all.id()).getStatus()).isEqualTo("QUEUED");
+        // 대기 중인 ALL 작업이 있으면 타입 요청도 그 작업으로 돌려준다
+        assertThat(service.submit("S3").id()).isEqualTo(all.id());
+
+        gate("EC2").release.countDown();
+        awaitStatus(ec2.id(), "SUCCEEDED");
+        assertThat(allGate.started.await(200, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(jobs.get(all.id()).getStatus()).isEqualTo("QUEUED");
+
+        gate("RDS").release.countDown();
+        awaitStatus(rds.id(), "SUCCEEDED");
+        allGate.awaitStarted();
+        assertThat(jobs.get(all.id()).getStatus()).isEqualTo("RUNNING");
+
+        allGate.release.countDown();
+        awaitStatus(all.id(), "SUCCEEDED");
+        verify(orchestrator, times(1)).syncAll(any());
+    }
+
+    @Test
+    void scopeIsReleasedAfterJobThrows() throws InterruptedException {
+        gate("EC2").failure = new IllegalStateException("수집 실패");
+        gate("EC2").release.countDown();
+
+        SyncJobDto failed = service.submit("EC2");
+        awaitStatus(failed.id(), "FAILED");
+        assertThat(jobs.get(failed.id()).getErrors()).containsExactly("수집 실패");
+        assertThat(jobs.get(failed.id()).getPhase()).isEqualTo("FINISHED");
+
+        // 같은 범위를 다시 받고, ALL 작업도 읽기 잠금이 풀려 바로 실행된다
+        gates.remove("EC2");
+        gate("EC2").release.countDown();
+        SyncJobDto retried = service.submit("EC2");
+        assertThat(retried.id()).isNotEqualTo(failed.id());
+        assertThat(retried.deduplicated()).isFalse();
+        awaitStatus(retried.id(), "SUCCEEDED");
+
+        gate(ResourceSyncJobService.SCOPE_ALL).release.countDown();
+        SyncJobDto all = service.submit("ALL");
+        awaitStatus(all.id(), "SUCCEEDED");
+    }
+
+    @Test
+    void restartMarksQueuedAndRunningJobsInterrupted() {
+        SyncJob queued = jobRepository.save(SyncJob.builder().scope("ALL").build());
+        SyncJob running = jobRepository.save(SyncJob.builder().scope("EC2").status("RUNNING").phase("COLLECTING").build());
+        SyncJob succeeded = jobRepository.save(SyncJob.builder().scope("RDS").status("SUCCEEDED").phase("FINISHED").build());
+
+        service.markInterruptedJobs();
+
+        for (SyncJob job : List.of(queued, running)) {
+            assertThat(job.getStatus()).isEqualTo("INTERRUPTED");
+            assertThat(job.getPhase()).isEqualTo("FINISHED");
+            assertThat(job.getFinishedAt()).isNotNull();
+            assertThat(job.getErrors()).containsExactly("서버 재시작으로 중단되었습니다");
+        }
+        assertThat(succeeded.getStatus()).isEqualTo("SUCCEEDED");
+        assertThat(succeeded.getFinishedAt()).isNull();
+        assertThat(succeeded.getErrors()).isEmpty();
+    }
+
+    private Gate gate(String scope) {
+        return gates.computeIfAbsent(scope, key -> new Gate());
+    }
+
+    private void awaitStatus(Long id, String status) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (!status.equals(jobs.get(id).getStatus())) {
+            assertThat(System.nanoTime()).as("작업 %d 이 %s 가 되지 않았습니다", id, status).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * 동기화가 시작되면 started 를 내리고 release 가 내려올 때까지 기다린 뒤 성공 결과를 돌려주거나 failure 를 던진다.
+     */
+    private static final class Gate {
+
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private volatile RuntimeException failure;
+
+        ResourceSyncResultDto pass() throws InterruptedException {
+            started.countDown();
+            assertThat(release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+            if (failure != null) {
+                throw failure;
+            }
+            return new ResourceSyncResultDto(1, 0, List.of(),
+                    List.of(CollectorResult.success("EC2", "123456789012", "ap-northeast-2", 1, 0)));
+        }
+
+        void awaitStarted() throws InterruptedException {
+            assertThat(started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.finops.api.service;
+
+import com.finops.api.aws.AwsAccountRegistry;
+import com.finops.api.aws.MockResourceService;
+import com.finops.api.config.InventoryAccountProperties;
+import com.finops.api.dto.resource.ResourceSyncResultDto;
+import com.finops.api.dto.resource.ResourceSyncResultDto.CollectorResult;
+import com.finops.api.entity.AwsResource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Mock 수집기에 인위적 지연(finops.mock.latency-ms)을 넣어, 느린 수집기 하나가 타임아웃돼도
+ * 다른 수집기는 기다리지 않고 끝나며 결과에 상태만 남는지 확인한다.
+ */
+class ResourceSyncOrchestratorTest {
+
+    private static final String REGION = "ap-northeast-2";
+    private static final long SLOW_MILLIS = 10_000;
+    private static final Duration TIMEOUT = Duration.ofMillis(300);
+
+    private final ResourceSyncWriter writer = mock(ResourceSyncWriter.class);
+    private ResourceSyncOrchestrator orchestrator;
+
+    @AfterEach
+    void tearDown() {
+        if (orchestrator != null) {
+            orchestrator.shutdown();
+        }
+    }
+
+    @Test
+    void slowCollectorTimesOutWithoutDelayingOthers() {
+        orchestrator = orchestrator(Map.of("EC2", SLOW_MILLIS), 8);
+
+        long started = System.nanoTime();
+        ResourceSyncResultDto result = orchestrator.syncAll(ResourceSyncListener.NONE);
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        Map<String, CollectorResult> byType = byType(result);
+        assertThat(byType.get("EC2").status()).isEqualTo("TIMEOUT");
+        assertThat(byType.get("EC2").count()).isZero();
+        assertThat(byType.get("RDS").status()).isEqualTo("SUCCESS");
+        assertThat(byType.get("RDS").count()).isEqualTo(3);
+        assertThat(byType.get("S3").status()).isEqualTo("SUCCESS");
+        assertThat(byType.get("S3").count()).isEqualTo(4);
+        assertThat(byType.get("LAMBDA").status()).isEqualTo("SUCCESS");
+        assertThat(byType.get("LAMBDA").count()).isEqualTo(3);
+        assertThat(result.syncedCount()).isEqualTo(10);
+        assertThat(elapsedMillis).isLessThan(SLOW_MILLIS / 2);
+
+        // 끝까지 보지 못한 범위는 삭제 표시를 하지 않는다
+        verify(writer, never()).markMissingAsDeleted(eq("EC2"), anyString(), any(), anySet());
+    }
+
+    @Test
+    void timedOutCollectorFreesItsSlotForQueuedCollectors() {
+        // 동시 실행 1 개: 느린 EC2 가 먼저 슬롯을 잡아도 타임아웃 후 나머지가 실행된다
+        orchestrator = orchestrator(Map.of("EC2", SLOW_MILLIS), 1);
+
+        ResourceSyncResultDto result = orchestrator.syncAll(ResourceSyncListener.NONE);
+
+        Map<String, CollectorResult> byType = byType(result);
+        assertThat(byType.get("EC2").status()).isEqualTo("TIMEOUT");
+        assertThat(byType.get("EC2").elapsedMillis()).isLessThan(SLOW_MILLIS);
+        assertThat(byType.values()).filteredOn(collector -> !"EC2".equals(collector.resourceType()))
+                .allSatisfy(collector -> assertThat(collector.status()).isEqualTo("SUCCESS"));
+        assertThat(result.regions()).singleElement()
+                .satisfies(region -> assertThat(region.failedCollectors()).isEqualTo(1));
+    }
+
+    @Test
+    void collectorsWithinTimeoutAllSucceed() {
+        orchestrator = orchestrator(Map.of("EC2", 50L, "RDS", 50L), 2);
+
+        ResourceSyncResultDto result = orchestrator.syncAll(ResourceSyncListener.NONE);
+
+        assertThat(result.allSucceeded()).isTrue();
+        assertThat(result.syncedCount()).isEqualTo(15);
+    }
+
+    private ResourceSyncOrchestrator orchestrator(Map<String, Long> latencyMs, int poolSize) {
+        when(writer.upsert(any())).thenAnswer(invocation -> {
+            List<AwsResource> resources = invocation.getArgument(0);
+            return new ResourceSyncWriter.WriteResult(resources.size(), List.of(), List.of(), List.of());
+        });
+        when(writer.markMissingAsDeleted(anyString(), anyString(), any(), anySet())).thenReturn(List.of());
+
+        @SuppressWarnings("unchecked")
+        AwsAccountRegistry accountRegistry = new AwsAccountRegistry(
+                new InventoryAccountProperties(List.of(), null, Duration.ofHours(1), Duration.ofMinutes(5), false),
+                mock(ObjectProvider.class), "123456789012");
+        MockResourceService mockResourceService = new MockResourceService(accountRegistry);
+        ReflectionTestUtils.setField(mockResourceService, "latencyMs", latencyMs);
+
+        return new ResourceSyncOrchestrator(null, mockResourceService, writer,
+                new SimpleAsyncTaskExecutor("sync-test-"), new SimpleMeterRegistry(),
+                TIMEOUT, 4, poolSize, accountRegistry, event -> {
+        }, null, List.of(REGION), REGION);
+    }
+
+    private static Map<String, CollectorResult> byType(ResourceSyncResultDto result) {
+        return result.collectors().stream()
+                .collect(Collectors.toMap(CollectorResult::resourceType, collector -> collector));
+    }
+}
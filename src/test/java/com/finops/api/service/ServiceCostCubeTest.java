@@ -0,0 +1,75 @@
+package com.finops.api.service;
+
+import com.finops.api.event.CostDataChangedEvent;
+import com.finops.api.repository.ServiceCostRepository;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 로드 중에 온 변경 이벤트가 버려지지 않고 로드가 끝난 뒤 반영되는지 확인한다.
+ */
+class ServiceCostCubeTest {
+
+    private static final LocalDate LOADED_DAY = LocalDate.of(2024, 1, 1);
+    private static final LocalDate NEW_DAY = LocalDate.of(2024, 1, 2);
+
+    private final ServiceCostRepository serviceCostRepository = mock(ServiceCostRepository.class);
+    private final ServiceCostCube cube = new ServiceCostCube(serviceCostRepository, true);
+
+    @Test
+    void eventDuringLoadWaitsAndIsApplied() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(serviceCostRepository.findCostDateRange()).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await();
+            return List.<Object[]>of(new Object[]{LOADED_DAY, LOADED_DAY});
+        });
+        when(serviceCostRepository.sumCostByDateAndServiceBetween(LOADED_DAY, LOADED_DAY))
+                .thenReturn(List.<Object[]>of(new Object[]{LOADED_DAY, "EC2", new BigDecimal("1.0000")}));
+        // 범위 조회 뒤에 커밋된 날짜라 로드 결과에는 없다
+        when(serviceCostRepository.sumCostByDateAndServiceBetween(NEW_DAY, NEW_DAY))
+                .thenReturn(List.<Object[]>of(new Object[]{NEW_DAY, "EC2", new BigDecimal("2.0000")}));
+
+        CompletableFuture<Void> load = CompletableFuture.runAsync(cube::load);
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Void> change = CompletableFuture.runAsync(
+                () -> cube.onCostDataChanged(new CostDataChangedEvent(NEW_DAY, NEW_DAY)));
+
+        Thread.sleep(200);
+        assertThat(change).isNotDone();
+
+        release.countDown();
+        load.get(5, TimeUnit.SECONDS);
+        change.get(5, TimeUnit.SECONDS);
+
+        assertThat(cube.series("EC2", LOADED_DAY, NEW_DAY))
+                .containsExactly(new ServiceCostCube.Point(LOADED_DAY, 1_000_000), new ServiceCostCube.Point(NEW_DAY, 2_000_000));
+        assertThat(cube.sumByService(LOADED_DAY, NEW_DAY, 10))
+                .containsExactly(new ServiceCostCube.Total("EC2", 3_000_000));
+    }
+
+    @Test
+    void eventBeforeLoadIsCoveredByLoad() {
+        when(serviceCostRepository.findCostDateRange()).thenReturn(List.<Object[]>of(new Object[]{LOADED_DAY, LOADED_DAY}));
+        when(serviceCostRepository.sumCostByDateAndServiceBetween(LOADED_DAY, LOADED_DAY))
+                .thenReturn(List.<Object[]>of(new Object[]{LOADED_DAY, "EC2", new BigDecimal("1.0000")}));
+
+        cube.onCostDataChanged(new CostDataChangedEvent(LOADED_DAY, LOADED_DAY));
+        assertThat(cube.isReady()).isFalse();
+
+        cube.load();
+
+        assertThat(cube.sumByService(LOADED_DAY, LOADED_DAY, 10)).containsExactly(new ServiceCostCube.Total("EC2", 1_000_000));
+    }
+}
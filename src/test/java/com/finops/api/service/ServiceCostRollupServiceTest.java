@@ -0,0 +1,108 @@
+package com.finops.api.service;
+
+import com.finops.api.entity.ServiceCost;
+import com.finops.api.repository.ServiceCostMonthlyRepository;
+import com.finops.api.repository.ServiceCostRepository;
+import com.finops.api.repository.ServiceCostWeeklyRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * INSERT ... SELECT 로 채운 월/주 버킷이 같은 기간의 SQL 집계와 같은지, 다시 계산해도 행이 늘지 않는지 확인한다.
+ */
+@DataJpaTest
+@Import(ServiceCostRollupService.class)
+class ServiceCostRollupServiceTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2024, 1, 1);
+    private static final int DAYS = 120;
+    private static final List<String> SERVICES = List.of("Amazon EC2", "Amazon RDS", "Amazon S3", "AWS Lambda");
+
+    @Autowired
+    private ServiceCostRepository serviceCostRepository;
+
+    @Autowired
+    private ServiceCostMonthlyRepository monthlyRepository;
+
+    @Autowired
+    private ServiceCostWeeklyRepository weeklyRepository;
+
+    @Autowired
+    private ServiceCostRollupService rollupService;
+
+    @Test
+    void bucketsMatchDailySummary() {
+        serviceCostRepository.saveAllAndFlush(randomCosts(new Random(1), FIRST_DAY, DAYS));
+
+        rollupService.rebuildAll();
+
+        for (LocalDate month = FIRST_DAY; month.isBefore(FIRST_DAY.plusDays(DAYS)); month = month.plusMonths(1)) {
+            assertThat(toMap(monthlyRepository.sumByServiceForMonths(List.of(month))))
+                    .as("%s", month)
+                    .isEqualTo(toMap(serviceCostRepository.findServiceCostSummary(month, month.plusMonths(1).minusDays(1))));
+        }
+        // 2024-01-01 은 월요일이다
+        for (LocalDate week = FIRST_DAY; week.isBefore(FIRST_DAY.plusDays(DAYS)); week = week.plusWeeks(1)) {
+            assertThat(toMap(weeklyRepository.sumByServiceForWeeks(List.of(week))))
+                    .as("%s", week)
+                    .isEqualTo(toMap(serviceCostRepository.findServiceCostSummary(week, week.plusDays(6))));
+        }
+    }
+
+    @Test
+    void refreshReplacesBucketRows() {
+        serviceCostRepository.saveAllAndFlush(randomCosts(new Random(2), FIRST_DAY, 31));
+        rollupService.rebuildAll();
+        long monthlyRows = monthlyRepository.count();
+        long weeklyRows = weeklyRepository.count();
+
+        serviceCostRepository.saveAndFlush(ServiceCost.builder()
+                .costDate(FIRST_DAY.plusDays(3))
+                .serviceName("Amazon EKS")
+                .cost(new BigDecimal("7.5000"))
+                .build());
+        rollupService.refresh(FIRST_DAY.plusDays(3), FIRST_DAY.plusDays(3));
+
+        assertThat(monthlyRepository.count()).isEqualTo(monthlyRows + 1);
+        assertThat(weeklyRepository.count()).isEqualTo(weeklyRows + 1);
+        assertThat(toMap(monthlyRepository.sumByServiceForMonths(List.of(FIRST_DAY))))
+                .containsEntry("Amazon EKS", new BigDecimal("7.5000"));
+    }
+
+    private static Map<String, BigDecimal> toMap(List<Object[]> rows) {
+        Map<String, BigDecimal> totals = new HashMap<>();
+        for (Object[] row : rows) {
+            totals.put((String) row[0], ((BigDecimal) row[1]).setScale(4));
+        }
+        return totals;
+    }
+
+    private static List<ServiceCost> randomCosts(Random random, LocalDate start, int days) {
+        List<ServiceCost> costs = new ArrayList<>();
+        for (int day = 0; day < days; day++) {
+            for (String service : SERVICES) {
+                if (random.nextInt(5) == 0) {
+                    continue;
+                }
+                costs.add(ServiceCost.builder()
+                        .costDate(start.plusDays(day))
+                        .serviceName(service)
+                        .cost(BigDecimal.valueOf(random.nextInt(100_000_000), 4))
+                        .build());
+            }
+        }
+        return costs;
+    }
+}
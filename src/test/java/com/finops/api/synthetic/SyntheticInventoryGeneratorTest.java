@@ -0,0 +1,87 @@
+package com.finops.api.synthetic;
+
+import com.finops.api.aws.AwsAccount;
+import com.finops.api.aws.AwsScope;
+import com.finops.api.dto.ingest.CostIngestRequest;
+import com.finops.api.entity.AwsResource;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 seed 와 기준일이면 생성 시점이나 생성 범위와 무관하게 같은 리소스/비용이 나오는지 확인한다.
+ */
+class SyntheticInventoryGeneratorTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final AwsScope SCOPE = new AwsScope(new AwsAccount("123456789012", "test", null, null), "ap-northeast-2");
+    private static final LocalDate FROM = LocalDate.of(2023, 6, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 5, 31);
+
+    @Test
+    void sameSeedProducesSameResources() {
+        for (String type : SyntheticInventoryGenerator.resourceTypes()) {
+            List<AwsResource> first = new SyntheticInventoryGenerator(42, BASE_TIME).resources(SCOPE, type, 500).toList();
+            List<AwsResource> second = new SyntheticInventoryGenerator(42, BASE_TIME).resources(SCOPE, type, 500).toList();
+
+            // createdAt 은 엔티티 기본값(생성 시각)이라 비교하지 않는다
+            assertThat(first).usingRecursiveFieldByFieldElementComparatorIgnoringFields("createdAt")
+                    .containsExactlyElementsOf(second);
+            assertThat(first).allSatisfy(resource -> assertThat(resource.getLastSyncedAt()).isNull());
+        }
+    }
+
+    @Test
+    void resourceDependsOnlyOnItsIndex() {
+        SyntheticInventoryGenerator generator = new SyntheticInventoryGenerator(42, BASE_TIME);
+        List<AwsResource> all = generator.resources(SCOPE, "EC2", 100).toList();
+
+        assertThat(generator.resource(SCOPE, "EC2", 73))
+                .usingRecursiveComparison().ignoringFields("createdAt")
+                .isEqualTo(all.get(73));
+    }
+
+    @Test
+    void sameSeedProducesSameCosts() {
+        // 기준일이 같으면 시각은 결과에 영향을 주지 않는다
+        SyntheticInventoryGenerator first = new SyntheticInventoryGenerator(42, BASE_TIME);
+        SyntheticInventoryGenerator second = new SyntheticInventoryGenerator(42, BASE_TIME.plusHours(13));
+
+        assertThat(first.serviceCosts(FROM, TO).toList()).isEqualTo(second.serviceCosts(FROM, TO).toList());
+        assertThat(first.dailyCosts(FROM, TO).toList()).isEqualTo(second.dailyCosts(FROM, TO).toList());
+    }
+
+    @Test
+    void costOfDateDoesNotDependOnRequestedRange() {
+        SyntheticInventoryGenerator generator = new SyntheticInventoryGenerator(42, BASE_TIME);
+        LocalDate day = LocalDate.of(2023, 12, 31);
+
+        assertThat(generator.serviceCosts(day, day).toList())
+                .isEqualTo(generator.serviceCosts(FROM, TO).filter(row -> row.costDate().equals(day)).toList());
+    }
+
+    @Test
+    void dailyTotalIsSumOfServiceCosts() {
+        SyntheticInventoryGenerator generator = new SyntheticInventoryGenerator(7, BASE_TIME);
+        Map<LocalDate, BigDecimal> byDate = generator.serviceCosts(FROM, TO).collect(Collectors.groupingBy(
+                CostIngestRequest.ServiceCostRow::costDate,
+                Collectors.reducing(BigDecimal.ZERO, CostIngestRequest.ServiceCostRow::cost, BigDecimal::add)));
+
+        assertThat(generator.dailyCosts(FROM, TO).collect(Collectors.toMap(CostIngestRequest.DailyCostRow::costDate,
+                CostIngestRequest.DailyCostRow::totalCost)))
+                .isEqualTo(byDate);
+    }
+
+    @Test
+    void differentSeedProducesDifferentCosts() {
+        assertThat(new SyntheticInventoryGenerator(1, BASE_TIME).serviceCosts(FROM, TO).toList())
+                .isNotEqualTo(new SyntheticInventoryGenerator(2, BASE_TIME).serviceCosts(FROM, TO).toList());
+    }
+}
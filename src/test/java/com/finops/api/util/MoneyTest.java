@@ -0,0 +1,214 @@
+package com.finops.api.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Money 의 long 연산이 같은 입력에 대한 BigDecimal 계산과 한 자리도 다르지 않은지 무작위 입력으로 확인한다.
+ * 정확히 절반인 값(.5), 음수, long 경계 근처 값은 일부러 섞는다.
+ */
+class MoneyTest {
+
+    private static final int SAMPLES = 20_000;
+    private static final long MAX_MICROS = 1_000_000_000_000_000L;  // 10^12 달러
+
+    @ParameterizedTest
+    @EnumSource(value = RoundingMode.class, names = "UNNECESSARY", mode = EnumSource.Mode.EXCLUDE)
+    void divideMatchesBigDecimal(RoundingMode mode) {
+        Random random = new Random(mode.ordinal());
+        for (int i = 0; i < SAMPLES; i++) {
+            long divisor = nonZero(random);
+            long dividend = i % 3 == 0 ? tie(random, divisor) : micros(random);
+
+            long expected = BigDecimal.valueOf(dividend)
+                    .divide(BigDecimal.valueOf(divisor), 0, mode)
+                    .longValueExact();
+
+            assertThat(Money.divide(dividend, divisor, mode))
+                    .as("%d / %d %s", dividend, divisor, mode)
+                    .isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void divideUnnecessaryThrowsOnlyWhenInexact() {
+        Random random = new Random(7);
+        for (int i = 0; i < SAMPLES; i++) {
+            long divisor = nonZero(random);
+            long quotient = random.nextInt(2_000_000) - 1_000_000;
+
+            assertThat(Money.divide(quotient * divisor, divisor, RoundingMode.UNNECESSARY)).isEqualTo(quotient);
+            if (Math.abs(divisor) > 1) {
+                long inexact = quotient * divisor + 1;
+                assertThatThrownBy(() -> Money.divide(inexact, divisor, RoundingMode.UNNECESSARY))
+                        .isInstanceOf(ArithmeticException.class);
+                assertThatThrownBy(() -> BigDecimal.valueOf(inexact)
+                        .divide(BigDecimal.valueOf(divisor), 0, RoundingMode.UNNECESSARY))
+                        .isInstanceOf(ArithmeticException.class);
+            }
+        }
+    }
+
+    @Test
+    void divideByZeroThrows() {
+        assertThatThrownBy(() -> Money.divide(1, 0, RoundingMode.HALF_UP)).isInstanceOf(ArithmeticException.class);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = RoundingMode.class, names = "UNNECESSARY", mode = EnumSource.Mode.EXCLUDE)
+    void toMicrosMatchesBigDecimal(RoundingMode mode) {
+        Random random = new Random(100 + mode.ordinal());
+        for (int i = 0; i < SAMPLES; i++) {
+            // CUR 원본처럼 소수 자리수가 6 보다 많거나 적은 값
+            int scale = random.nextInt(10);
+            BigDecimal value = BigDecimal.valueOf(random.nextLong() % BigDecimal.TEN.pow(Math.min(18, scale + 12)).longValueExact(),
+                    scale);
+
+            long expected = value.setScale(Money.SCALE, mode).unscaledValue().longValueExact();
+
+            assertThat(Money.toMicros(value, mode)).as("%s %s", value, mode).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void sumOfMicrosMatchesBigDecimalSum() {
+        Random random = new Random(11);
+        for (int run = 0; run < 200; run++) {
+            BigDecimal expected = BigDecimal.ZERO;
+            long total = 0;
+            int rows = 1 + random.nextInt(2_000);
+            for (int i = 0; i < rows; i++) {
+                // service_costs.cost 와 같은 scale 4 값
+                BigDecimal cost = BigDecimal.valueOf(random.nextLong() % 10_000_000_000L, 4);
+                expected = expected.add(cost);
+                total = Money.add(total, Money.toMicros(cost));
+            }
+
+            assertThat(Money.toBigDecimal(total, 4, RoundingMode.HALF_UP)).isEqualTo(expected.setScale(4));
+            assertThat(Money.toBigDecimal(total, 2, RoundingMode.HALF_UP))
+                    .isEqualTo(expected.setScale(2, RoundingMode.HALF_UP));
+        }
+    }
+
+    @Test
+    void addAndMultiplyThrowOnOverflow() {
+        assertThatThrownBy(() -> Money.add(Long.MAX_VALUE, 1)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.subtract(Long.MIN_VALUE, 1)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.multiply(Long.MAX_VALUE / 2, 3)).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void multiplyMatchesBigDecimal() {
+        Random random = new Random(13);
+        for (int i = 0; i < SAMPLES; i++) {
+            long micros = micros(random) % 1_000_000_000_000L;
+            long factor = random.nextInt(2_000_001) - 1_000_000;
+
+            BigDecimal expected = BigDecimal.valueOf(micros, Money.SCALE).multiply(BigDecimal.valueOf(factor));
+
+            assertThat(BigDecimal.valueOf(Money.multiply(micros, factor), Money.SCALE)).isEqualByComparingTo(expected);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = RoundingMode.class, names = "UNNECESSARY", mode = EnumSource.Mode.EXCLUDE)
+    void percentOfMatchesBigDecimal(RoundingMode mode) {
+        Random random = new Random(200 + mode.ordinal());
+        for (int i = 0; i < SAMPLES; i++) {
+            long micros = micros(random) % 1_000_000_000_000_000L / 100;
+            long percent = random.nextInt(201);
+            int scale = random.nextInt(Money.SCALE + 1);
+
+            long expected = BigDecimal.valueOf(micros, Money.SCALE)
+                    .multiply(BigDecimal.valueOf(percent))
+                    .divide(BigDecimal.valueOf(100), scale, mode)
+                    .setScale(Money.SCALE, RoundingMode.UNNECESSARY)
+                    .unscaledValue()
+                    .longValueExact();
+
+            assertThat(Money.percentOf(micros, percent, scale, mode))
+                    .as("%d x %d%% scale %d %s", micros, percent, scale, mode)
+                    .isEqualTo(expected);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = RoundingMode.class, names = "UNNECESSARY", mode = EnumSource.Mode.EXCLUDE)
+    void percentageMatchesBigDecimal(RoundingMode mode) {
+        Random random = new Random(300 + mode.ordinal());
+        for (int i = 0; i < SAMPLES; i++) {
+            long whole = nonZero(random);
+            // 1/8 은 long 으로 계산하면 넘치는 큰 금액이라 BigDecimal 경로를 탄다
+            long part = i % 8 == 0 ? random.nextLong() : micros(random);
+            // 0~6 은 long 경로, 그 밖은 BigDecimal 경로
+            int scale = random.nextInt(10) - 1;
+
+            BigDecimal expected = BigDecimal.valueOf(part).multiply(BigDecimal.valueOf(100))
+                    .divide(BigDecimal.valueOf(whole), scale, mode);
+
+            assertThat(Money.percentage(part, whole, scale, mode))
+                    .as("%d / %d scale %d %s", part, whole, scale, mode)
+                    .isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void percentageOfExactHalvesFollowsRoundingMode() {
+        // 1 / 8 = 12.5%
+        assertThat(Money.percentage(1, 8, 0, RoundingMode.HALF_UP)).isEqualTo(new BigDecimal("13"));
+        assertThat(Money.percentage(1, 8, 0, RoundingMode.HALF_DOWN)).isEqualTo(new BigDecimal("12"));
+        assertThat(Money.percentage(1, 8, 0, RoundingMode.HALF_EVEN)).isEqualTo(new BigDecimal("12"));
+        assertThat(Money.percentage(-1, 8, 0, RoundingMode.HALF_UP)).isEqualTo(new BigDecimal("-13"));
+        assertThat(Money.percentage(-1, 8, 0, RoundingMode.FLOOR)).isEqualTo(new BigDecimal("-13"));
+        assertThat(Money.percentage(-1, 8, 0, RoundingMode.CEILING)).isEqualTo(new BigDecimal("-12"));
+        assertThatThrownBy(() -> Money.percentage(1, 0, 2, RoundingMode.HALF_UP))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = RoundingMode.class, names = "UNNECESSARY", mode = EnumSource.Mode.EXCLUDE)
+    void toBigDecimalMatchesBigDecimal(RoundingMode mode) {
+        Random random = new Random(400 + mode.ordinal());
+        for (int i = 0; i < SAMPLES; i++) {
+            long micros = i % 3 == 0 ? tie(random, 100) : micros(random);
+            int scale = random.nextInt(9);
+
+            BigDecimal expected = BigDecimal.valueOf(micros, Money.SCALE).setScale(scale, mode);
+
+            assertThat(Money.toBigDecimal(micros, scale, mode))
+                    .as("%d scale %d %s", micros, scale, mode)
+                    .isEqualTo(expected);
+        }
+    }
+
+    private static long micros(Random random) {
+        return switch (random.nextInt(3)) {
+            case 0 -> random.nextInt(2_000_000) - 1_000_000;             // 1 달러 안팎
+            case 1 -> random.nextLong() % 10_000_000_000_000L;           // 천만 달러 안팎
+            default -> random.nextLong() % MAX_MICROS;
+        };
+    }
+
+    private static long nonZero(Random random) {
+        long value = random.nextBoolean()
+                ? random.nextInt(20_000) - 10_000
+                : random.nextLong() % 1_000_000_000_000L;
+        return value == 0 ? 1 : value;
+    }
+
+    /**
+     * divisor 로 나누면 정확히 .5 가 남는 값. divisor 가 홀수면 가장 가까운 값.
+     */
+    private static long tie(Random random, long divisor) {
+        long quotient = random.nextInt(2_000_000) - 1_000_000;
+        return quotient * divisor + divisor / 2;
+    }
+}